@@ -0,0 +1,22 @@
+#!/bin/sh
+# Compila os benchmarks JMH (projeto Maven separado, fora do build principal).
+#
+#   benchmarks/build.sh                       instala o simulador e gera benchmarks/target/benchmarks.jar
+#   benchmarks/build.sh SimulationBenchmark   ... e roda os benchmarks cujo nome casa com o filtro
+#   benchmarks/build.sh -rf json -rff base.json   ... e roda todos gravando a linha de base
+#
+# Os argumentos, se houver, vão direto para o JMH. Usa o Maven Wrapper da raiz; MVN
+# escolhe outro Maven (ex.: MVN=mvn benchmarks/build.sh).
+set -e
+
+RAIZ=$(cd "$(dirname "$0")/.." && pwd)
+MVN=${MVN:-"$RAIZ/mvnw"}
+
+# O projeto dos benchmarks depende do artefato do simulador no repositório local
+"$MVN" -B -q -f "$RAIZ/pom.xml" install -DskipTests
+"$MVN" -B -q -f "$RAIZ/benchmarks/pom.xml" package
+
+if [ $# -gt 0 ]; then
+    exec java -jar "$RAIZ/benchmarks/target/benchmarks.jar" "$@"
+fi
+echo "Gerado $RAIZ/benchmarks/target/benchmarks.jar (java -jar ... -h para as opções do JMH)"
@@ -0,0 +1,94 @@
+package grupo.unoeste.simuladorlfa.benchmarks;
+
+import grupo.unoeste.simuladorlfa.AutomatonAnalysis;
+import grupo.unoeste.simuladorlfa.AutomatonModel;
+import grupo.unoeste.simuladorlfa.AutomatonSimulator;
+import grupo.unoeste.simuladorlfa.CompiledAutomaton;
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Análises usadas pela interface a cada edição: determinismo e ε-fecho, recalculados do
+// zero ou mantidos pela AutomatonAnalysis
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalysisBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int estados;
+
+    private List<Transicao> transicoes;
+    private AutomatonModel modelo;
+    private Set<Estado> inicial;
+
+    @Setup
+    public void preparar() {
+        modelo = AutomatonGenerator.randomNFA(estados, 2, 0.3, 42);
+        transicoes = modelo.getTransicoes();
+        inicial = Set.of(modelo.getEstados().get(0));
+    }
+
+    @Benchmark
+    public boolean isDeterministic() {
+        return AutomatonSimulator.isDeterministicPublic(transicoes);
+    }
+
+    // Inclui a compilação, como na primeira simulação depois de uma edição
+    @Benchmark
+    public Set<Estado> epsilonClosureCold() {
+        CompiledAutomaton compilado = modelo.compile();
+        return AutomatonSimulator.epsilonClosure(compilado, inicial);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Compilado {
+        CompiledAutomaton automato;
+        Set<Estado> todos;
+
+        @Setup
+        public void preparar(AnalysisBenchmark benchmark) {
+            automato = benchmark.modelo.compile();
+            todos = new HashSet<>(benchmark.modelo.getEstados());
+        }
+    }
+
+    @Benchmark
+    public Set<Estado> epsilonClosureWarm(Compilado compilado) {
+        return AutomatonSimulator.epsilonClosure(compilado.automato, compilado.todos);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Incremental {
+        AutomatonAnalysis analise;
+        List<Transicao> transicoes;
+        int proxima;
+
+        @Setup
+        public void preparar(AnalysisBenchmark benchmark) {
+            transicoes = benchmark.modelo.getTransicoes();
+            analise = AutomatonAnalysis.of(benchmark.modelo.getEstados(), transicoes);
+        }
+    }
+
+    // Edição típica no editor: remove e recoloca uma transição e consulta o tipo do autômato
+    @Benchmark
+    public boolean incrementalEdit(Incremental incremental) {
+        Transicao transicao = incremental.transicoes.get(incremental.proxima);
+        incremental.proxima = (incremental.proxima + 1) % incremental.transicoes.size();
+        incremental.analise.removeTransition(transicao);
+        incremental.analise.addTransition(transicao);
+        return incremental.analise.isDeterministic();
+    }
+
+    @Benchmark
+    public List<String> validateFromScratch() {
+        return AutomatonSimulator.validateAutomaton(modelo.getEstados(), transicoes);
+    }
+}
@@ -0,0 +1,89 @@
+package grupo.unoeste.simuladorlfa.benchmarks;
+
+import grupo.unoeste.simuladorlfa.AutomatonModel;
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+import grupo.unoeste.simuladorlfa.entities.Variavel;
+
+import java.util.*;
+
+// Geradores determinísticos (semente fixa) de autômatos, palavras e gramáticas para os benchmarks
+public class AutomatonGenerator {
+
+    public static final String ALFABETO = "ab";
+
+    // AFD completo sobre {a, b}: cada estado tem exatamente uma transição por símbolo
+    public static AutomatonModel randomDFA(int n, long semente) {
+        Random random = new Random(semente);
+        List<Estado> estados = criarEstados(n, random);
+        List<Transicao> transicoes = new ArrayList<>();
+        for (Estado origem : estados) {
+            for (int s = 0; s < ALFABETO.length(); s++) {
+                Estado destino = estados.get(random.nextInt(n));
+                transicoes.add(new Transicao(origem, destino, String.valueOf(ALFABETO.charAt(s))));
+            }
+        }
+        return new AutomatonModel(estados, transicoes);
+    }
+
+    // AFND sobre {a, b} com ~grau destinos por (estado, símbolo) e uma fração de transições ε
+    public static AutomatonModel randomNFA(int n, int grau, double fracaoEpsilon, long semente) {
+        Random random = new Random(semente);
+        List<Estado> estados = criarEstados(n, random);
+        List<Transicao> transicoes = new ArrayList<>();
+        for (Estado origem : estados) {
+            for (int s = 0; s < ALFABETO.length(); s++) {
+                int destinos = 1 + random.nextInt(grau);
+                for (int d = 0; d < destinos; d++) {
+                    Estado destino = estados.get(random.nextInt(n));
+                    transicoes.add(new Transicao(origem, destino, String.valueOf(ALFABETO.charAt(s))));
+                }
+            }
+            if (random.nextDouble() < fracaoEpsilon) {
+                transicoes.add(new Transicao(origem, estados.get(random.nextInt(n)), "ε"));
+            }
+        }
+        return new AutomatonModel(estados, transicoes);
+    }
+
+    private static List<Estado> criarEstados(int n, Random random) {
+        List<Estado> estados = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Estado estado = new Estado("q" + i, random.nextDouble() * 800, random.nextDouble() * 600);
+            estado.setInicial(i == 0);
+            estado.setFinal(random.nextInt(3) == 0);
+            estados.add(estado);
+        }
+        return estados;
+    }
+
+    public static String[] randomWords(int quantidade, int tamanho, long semente) {
+        Random random = new Random(semente);
+        String[] palavras = new String[quantidade];
+        char[] buffer = new char[tamanho];
+        for (int i = 0; i < quantidade; i++) {
+            for (int j = 0; j < tamanho; j++) {
+                buffer[j] = ALFABETO.charAt(random.nextInt(ALFABETO.length()));
+            }
+            palavras[i] = new String(buffer);
+        }
+        return palavras;
+    }
+
+    // Gramática regular à direita com n variáveis sobre {a, b}; a primeira é a inicial.
+    // Toda variável tem uma produção vazia para que palavras longas possam ser aceitas.
+    public static List<Variavel> randomGrammar(int n, long semente) {
+        Random random = new Random(semente);
+        List<Variavel> variaveis = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            variaveis.add(new Variavel("V" + i));
+        }
+        for (Variavel variavel : variaveis) {
+            for (int s = 0; s < ALFABETO.length(); s++) {
+                variavel.adicionarTransicao(String.valueOf(ALFABETO.charAt(s)), variaveis.get(random.nextInt(n)));
+            }
+            variavel.adicionarTransicao("", null);
+        }
+        return variaveis;
+    }
+}
@@ -0,0 +1,54 @@
+package grupo.unoeste.simuladorlfa.benchmarks;
+
+import grupo.unoeste.simuladorlfa.CompiledAutomaton;
+import grupo.unoeste.simuladorlfa.Gramatica;
+import grupo.unoeste.simuladorlfa.GrammarCompiler;
+import grupo.unoeste.simuladorlfa.entities.Variavel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// Pertinência de palavras em gramáticas regulares: compilando a cada chamada
+// (Gramatica.palavraAceita com a lista de variáveis) e com o AFND compilado uma vez
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrammarBenchmark {
+
+    private static final int PALAVRAS = 64;
+
+    @Param({"5", "50", "500"})
+    public int variaveis;
+
+    @Param({"16", "256"})
+    public int tamanhoPalavra;
+
+    private List<Variavel> gramatica;
+    private CompiledAutomaton automato;
+    private String[] palavras;
+    private int proxima;
+
+    @Setup
+    public void preparar() {
+        gramatica = AutomatonGenerator.randomGrammar(variaveis, 42);
+        automato = GrammarCompiler.compile(gramatica).compile();
+        palavras = AutomatonGenerator.randomWords(PALAVRAS, tamanhoPalavra, 7);
+    }
+
+    @Benchmark
+    public void palavraAceita(Blackhole bh) {
+        proxima = (proxima + 1) % PALAVRAS;
+        bh.consume(Gramatica.palavraAceita(palavras[proxima], gramatica));
+    }
+
+    @Benchmark
+    public void palavraAceitaCompilada(Blackhole bh) {
+        proxima = (proxima + 1) % PALAVRAS;
+        bh.consume(Gramatica.palavraAceita(palavras[proxima], automato));
+    }
+}
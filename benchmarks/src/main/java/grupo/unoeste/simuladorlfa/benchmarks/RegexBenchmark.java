@@ -0,0 +1,29 @@
+package grupo.unoeste.simuladorlfa.benchmarks;
+
+import grupo.unoeste.simuladorlfa.Simulador;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Geração das primeiras palavras de uma expressão regular (opção 2 do Simulador)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexBenchmark {
+
+    // Expressões já no formato produzido pelo Simulador; a última é esparsa (poucas palavras curtas)
+    @Param({"(a|b)*", "a(ba)*b+", "(ab|ba)*(aa|bb)+(ab)*", "aaaaaaa(a|b)*"})
+    public String expressao;
+
+    @Param({"10", "100"})
+    public int quantidade;
+
+    @Benchmark
+    public List<String> gerarPalavras() {
+        return Simulador.gerarPalavras(expressao, quantidade);
+    }
+}
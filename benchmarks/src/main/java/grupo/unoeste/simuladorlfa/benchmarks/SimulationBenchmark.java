@@ -0,0 +1,68 @@
+package grupo.unoeste.simuladorlfa.benchmarks;
+
+import grupo.unoeste.simuladorlfa.AutomatonModel;
+import grupo.unoeste.simuladorlfa.AutomatonSimulator;
+import grupo.unoeste.simuladorlfa.CompiledAutomaton;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+// Simulação de uma palavra: API por listas (compila a cada chamada), autômato já compilado
+// e só aceitação, para AFD e AFND em vários tamanhos de autômato e de palavra
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationBenchmark {
+
+    private static final int PALAVRAS = 64;
+
+    @Param({"AFD", "AFND"})
+    public String tipo;
+
+    @Param({"10", "100", "1000"})
+    public int estados;
+
+    @Param({"16", "256", "4096"})
+    public int tamanhoPalavra;
+
+    private AutomatonModel modelo;
+    private CompiledAutomaton compilado;
+    private Predicate<CharSequence> reconhecedor;
+    private String[] palavras;
+    private int proxima;
+
+    @Setup
+    public void preparar() {
+        modelo = tipo.equals("AFD")
+                ? AutomatonGenerator.randomDFA(estados, 42)
+                : AutomatonGenerator.randomNFA(estados, 3, 0.1, 42);
+        compilado = modelo.compile();
+        reconhecedor = AutomatonSimulator.acceptor(compilado);
+        palavras = AutomatonGenerator.randomWords(PALAVRAS, tamanhoPalavra, 7);
+    }
+
+    private String proximaPalavra() {
+        proxima = (proxima + 1) % PALAVRAS;
+        return palavras[proxima];
+    }
+
+    @Benchmark
+    public AutomatonSimulator.SimulationResult simulateLists() {
+        return AutomatonSimulator.simulate(modelo.getEstados(), modelo.getTransicoes(), proximaPalavra());
+    }
+
+    @Benchmark
+    public AutomatonSimulator.SimulationResult simulateCompiled() {
+        return AutomatonSimulator.simulate(compilado, proximaPalavra());
+    }
+
+    @Benchmark
+    public void accepts(Blackhole bh) {
+        bh.consume(reconhecedor.test(proximaPalavra()));
+    }
+}
@@ -0,0 +1,270 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+
+import java.util.*;
+
+// Propriedades derivadas do autômato do editor, mantidas a cada edição em vez de
+// recalculadas do zero:
+//
+//   - determinismo: número de células (estado, símbolo) com mais de um destino e de
+//     transições ε; o autômato é AFD quando os dois são zero
+//   - alfabeto como multiconjunto (símbolo -> quantas vezes aparece nas transições)
+//   - completude: número de células (estado, símbolo) preenchidas, comparado a |Q|·|Σ|
+//   - alcançáveis a partir do inicial e co-alcançáveis (chegam a um final)
+//
+// As contagens vêm do AutomatonGraph, que as mantém junto com as listas de adjacência.
+// Inserções atualizam os alcançáveis/co-alcançáveis por busca só a partir do ponto novo.
+// Remoções que podem desfazer um caminho apenas marcam o conjunto como desatualizado; ele
+// é refeito na próxima consulta, em O(|Q| + |T|) sobre as listas de adjacência.
+//
+// Com rótulos de classe ("a-z", "[^0-9]"), "outro" ou tokens de vários caracteres, a
+// contagem por rótulo não vê sobreposições ("a" e "a-z" saindo do mesmo estado); nesse
+// caso determinismo e completude vêm do autômato compilado do AutomatonCache (o mesmo
+// do editor, quando ele é passado), refeito só após edições.
+public class AutomatonAnalysis implements AutomatonGraph.Listener {
+
+    private final AutomatonGraph grafo;
+
+    private boolean[] alcancavel = new boolean[16];
+    private boolean[] coAlcancavel = new boolean[16];
+    private boolean alcancaveisValidos = true;
+    private boolean coAlcancaveisValidos = true;
+
+    private final AutomatonCache cache;
+
+    public AutomatonAnalysis() {
+        this(new AutomatonGraph());
+    }
+
+    // Acompanha um grafo já existente (ex.: o do editor); edições feitas direto nele
+    // também atualizam a análise
+    public AutomatonAnalysis(AutomatonGraph grafo) {
+        this(grafo, new AutomatonCache(grafo));
+    }
+
+    // cache: o autômato compilado do mesmo grafo, compartilhado com quem simula
+    public AutomatonAnalysis(AutomatonGraph grafo, AutomatonCache cache) {
+        this.grafo = grafo;
+        this.cache = cache;
+        grafo.addListener(this);
+        int limite = grafo.getIdLimit();
+        alcancavel = new boolean[Math.max(16, limite)];
+        coAlcancavel = new boolean[Math.max(16, limite)];
+        alcancaveisValidos = coAlcancaveisValidos = limite == 0;
+    }
+
+    public static AutomatonAnalysis of(List<Estado> estados, List<Transicao> transicoes) {
+        AutomatonAnalysis analise = new AutomatonAnalysis();
+        analise.load(estados, transicoes);
+        return analise;
+    }
+
+    public AutomatonGraph getGraph() { return grafo; }
+
+    public void load(List<Estado> estados, List<Transicao> transicoes) {
+        clear();
+        for (Estado estado : estados) {
+            addState(estado);
+        }
+        for (Transicao transicao : transicoes) {
+            addTransition(transicao);
+        }
+    }
+
+    // --- Edições (repassadas ao grafo) ---
+
+    public void clear() { grafo.clear(); }
+    public void addState(Estado estado) { grafo.addState(estado); }
+    public void removeState(Estado estado) { grafo.removeState(estado); }
+    public void stateChanged(Estado estado) { grafo.stateChanged(estado); }
+    public void addTransition(Transicao transicao) { grafo.addTransition(transicao); }
+    public void removeTransition(Transicao transicao) { grafo.removeTransition(transicao); }
+    public void transitionChanged(Transicao transicao) { grafo.transitionChanged(transicao); }
+
+    // --- Avisos do grafo ---
+
+    @Override
+    public void edgeAdded(int origem, int destino) {
+        garantirCapacidade();
+        if (alcancaveisValidos && alcancavel[origem] && !alcancavel[destino]) {
+            grafo.propagate(destino, alcancavel, false);
+        }
+        if (coAlcancaveisValidos && coAlcancavel[destino] && !coAlcancavel[origem]) {
+            grafo.propagate(origem, coAlcancavel, true);
+        }
+    }
+
+    @Override
+    public void edgeRemoved(int origem, int destino) {
+        // Só um caminho que passava por esta ligação pode ter deixado de existir
+        if (alcancavel[origem]) alcancaveisValidos = false;
+        if (coAlcancavel[destino]) coAlcancaveisValidos = false;
+    }
+
+    @Override
+    public void flagsChanged(int id, boolean eraInicial, boolean eraFinal) {
+        garantirCapacidade();
+        if (eraInicial && !grafo.isInitial(id)) {
+            alcancaveisValidos = false;
+        } else if (grafo.isInitial(id) && alcancaveisValidos && !alcancavel[id]) {
+            grafo.propagate(id, alcancavel, false);
+        }
+        if (eraFinal && !grafo.isFinal(id)) {
+            coAlcancaveisValidos = false;
+        } else if (grafo.isFinal(id) && coAlcancaveisValidos && !coAlcancavel[id]) {
+            grafo.propagate(id, coAlcancavel, true);
+        }
+    }
+
+    @Override
+    public void stateRemoved(int id, boolean eraInicial, boolean eraFinal) {
+        if (alcancavel[id]) alcancaveisValidos = false;
+        if (coAlcancavel[id]) coAlcancaveisValidos = false;
+        alcancavel[id] = coAlcancavel[id] = false;
+    }
+
+    @Override
+    public void cleared() {
+        alcancavel = new boolean[16];
+        coAlcancavel = new boolean[16];
+        alcancaveisValidos = coAlcancaveisValidos = true;
+    }
+
+    // --- Consultas ---
+
+    public int getStateCount() { return grafo.getStateCount(); }
+    public int getTransitionCount() { return grafo.getTransitionCount(); }
+    public int getInitialStateCount() { return grafo.getInitialStateCount(); }
+    public int getFinalStateCount() { return grafo.getFinalStateCount(); }
+    public int getEpsilonTransitionCount() { return grafo.getEpsilonTransitionCount(); }
+
+    // Células (estado, símbolo) com mais de um destino distinto
+    public int getConflictCount() { return grafo.getConflictCount(); }
+
+    public boolean isDeterministic() {
+        if (grafo.getCompoundSymbolCount() > 0) {
+            return compilado().isDeterministic();
+        }
+        return grafo.getConflictCount() == 0 && grafo.getEpsilonSymbolCount() == 0;
+    }
+
+    // Símbolos em ordem alfabética (sem ε)
+    public Set<String> getAlphabet() {
+        return grafo.getAlphabet();
+    }
+
+    // Quantas vezes o símbolo aparece nas transições
+    public int getSymbolOccurrences(String simbolo) {
+        return grafo.getSymbolOccurrences(simbolo);
+    }
+
+    // AFD com transição para todo símbolo do alfabeto em todo estado
+    public boolean isComplete() {
+        if (!isDeterministic()) {
+            return false;
+        }
+        if (grafo.getCompoundSymbolCount() > 0) {
+            CompiledAutomaton afd = compilado();
+            for (int q = 0; q < afd.getStateCount(); q++) {
+                for (int s = 0; s < afd.getSymbolCount(); s++) {
+                    if (afd.step(q, s) == CompiledAutomaton.SEM_TRANSICAO) return false;
+                }
+            }
+            return true;
+        }
+        int simbolos = grafo.getAlphabet().size();
+        return simbolos == 0 || (long) grafo.getFilledCellCount() == (long) grafo.getStateCount() * simbolos;
+    }
+
+    public List<Estado> getUnreachableStates() {
+        if (!alcancaveisValidos) {
+            alcancavel = comCapacidade(grafo.reachableFrom(marcados(true), false));
+            alcancaveisValidos = true;
+        }
+        return estadosSem(alcancavel);
+    }
+
+    // Estados que não alcançam nenhum final
+    public List<Estado> getDeadStates() {
+        if (!coAlcancaveisValidos) {
+            coAlcancavel = comCapacidade(grafo.reachableFrom(marcados(false), true));
+            coAlcancaveisValidos = true;
+        }
+        return estadosSem(coAlcancavel);
+    }
+
+    public boolean hasDeadStates() {
+        return !getDeadStates().isEmpty();
+    }
+
+    // Mesmas verificações de AutomatonSimulator.validateAutomaton
+    public List<String> validate() {
+        List<String> problemas = new ArrayList<>();
+        if (grafo.getStateCount() == 0) {
+            problemas.add("Nenhum estado definido");
+            return problemas;
+        }
+
+        int iniciais = grafo.getInitialStateCount();
+        if (iniciais == 0) {
+            problemas.add("Nenhum estado inicial definido");
+        } else if (iniciais > 1) {
+            problemas.add("Múltiplos estados iniciais (característico de AFND)");
+        }
+
+        if (grafo.getFinalStateCount() == 0) {
+            problemas.add("Nenhum estado final definido");
+        }
+
+        List<Estado> inalcancaveis = getUnreachableStates();
+        if (!inalcancaveis.isEmpty()) {
+            StringJoiner nomes = new StringJoiner(", ");
+            inalcancaveis.forEach(e -> nomes.add(e.getNome()));
+            problemas.add("Estados inalcançáveis encontrados: " + nomes);
+        }
+
+        if (isDeterministic() && hasDeadStates()) {
+            problemas.add("Estados mortos encontrados (não alcançam estado final)");
+        }
+        return problemas;
+    }
+
+    // --- Auxiliares ---
+
+    private CompiledAutomaton compilado() {
+        return cache.get();
+    }
+
+    private void garantirCapacidade() {
+        if (grafo.getIdLimit() > alcancavel.length) {
+            int capacidade = Math.max(alcancavel.length * 2, grafo.getIdLimit());
+            alcancavel = Arrays.copyOf(alcancavel, capacidade);
+            coAlcancavel = Arrays.copyOf(coAlcancavel, capacidade);
+        }
+    }
+
+    private boolean[] comCapacidade(boolean[] marcados) {
+        return Arrays.copyOf(marcados, Math.max(alcancavel.length, marcados.length));
+    }
+
+    private boolean[] marcados(boolean iniciais) {
+        boolean[] raizes = new boolean[grafo.getIdLimit()];
+        for (int id = 0; id < raizes.length; id++) {
+            raizes[id] = iniciais ? grafo.isInitial(id) : grafo.isFinal(id);
+        }
+        return raizes;
+    }
+
+    // Estados vivos fora do conjunto marcado, na ordem em que foram adicionados
+    private List<Estado> estadosSem(boolean[] marcados) {
+        List<Estado> resultado = new ArrayList<>();
+        for (int id = 0; id < grafo.getIdLimit(); id++) {
+            if (grafo.isLive(id) && !marcados[id]) {
+                resultado.add(grafo.getState(id));
+            }
+        }
+        return resultado;
+    }
+}
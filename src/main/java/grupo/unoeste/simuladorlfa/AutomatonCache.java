@@ -0,0 +1,27 @@
+package grupo.unoeste.simuladorlfa;
+
+// Guarda o autômato compilado (tabela e ε-fechos) da revisão atual do editor. A revisão é
+// o contador de modificações do AutomatonGraph, o mesmo que a AutomatonAnalysis acompanha,
+// então cada edição compila no máximo uma vez, para quem pedir primeiro.
+public class AutomatonCache {
+    private final AutomatonGraph grafo;
+    private long revisaoCompilada = -1;
+    private CompiledAutomaton compilado;
+
+    public AutomatonCache(AutomatonGraph grafo) {
+        this.grafo = grafo;
+    }
+
+    public synchronized long getRevision() {
+        return grafo.getModificationCount();
+    }
+
+    public synchronized CompiledAutomaton get() {
+        long revisao = grafo.getModificationCount();
+        if (compilado == null || revisaoCompilada != revisao) {
+            compilado = CompiledAutomaton.compile(grafo.states(), grafo.transitions());
+            revisaoCompilada = revisao;
+        }
+        return compilado;
+    }
+}
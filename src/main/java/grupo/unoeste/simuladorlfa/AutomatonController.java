@@ -21,9 +21,16 @@ import javafx.scene.shape.Polygon;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.scene.text.TextBoundsType;
+import javafx.stage.FileChooser;
 import javafx.util.Duration;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class AutomatonController {
 
@@ -44,13 +51,24 @@ public class AutomatonController {
     @FXML private Label automatonTypeLabel;
 
     // --- Modelo de Dados ---
-    private final List<Estado> estados = new ArrayList<>();
-    private final List<Transicao> transicoes = new ArrayList<>();
+    // Grafo indexado por estado; as listas são ligadas a ele (adicionar/remover atualiza os índices)
+    private final AutomatonGraph graph = new AutomatonGraph();
+    private final List<Estado> estados = graph.states();
+    private final List<Transicao> transicoes = graph.transitions();
 
     // --- Mapeamento para a Visão ---
     private final Map<Estado, Group> estadoViews = new HashMap<>();
     private final Map<Transicao, Node> transicaoViews = new HashMap<>();
 
+    // --- Autômato compilado da revisão atual (tabela e ε-fechos) ---
+    private final AutomatonCache automatonCache = new AutomatonCache(graph);
+
+    // --- Propriedades derivadas (determinismo, alfabeto, alcançabilidade), atualizadas a cada edição ---
+    private final AutomatonAnalysis analysis = new AutomatonAnalysis(graph, automatonCache);
+
+    // --- Cálculo pesado (determinização, produto, comparação) fora da thread do JavaFX; um por vez ---
+    private CompletableFuture<?> calculoEmAndamento = CompletableFuture.completedFuture(null);
+
     // --- Lógica para criação de transições ---
     private Group estadoOrigemView = null;
     private Line linhaDeTransicaoTemporaria = null;
@@ -71,6 +89,7 @@ public class AutomatonController {
     // --- Constantes para melhorar a usabilidade ---
     private static final double STATE_RADIUS = 25.0;
     private static final double HIT_RADIUS = 35.0;
+    private static final int MAX_ANIMATED_WORDS = 50;
 
     @FXML
     public void initialize() {
@@ -91,6 +110,7 @@ public class AutomatonController {
         logMessage("- Arraste de um estado para outro para criar transições.");
         logMessage("- Clique direito nos elementos para mais opções.");
         logMessage("- Use vírgulas para múltiplos símbolos: 'a,b,c'");
+        logMessage("- Classes de caracteres: 'a-z', '[0-9_]', '[^,]' e 'outro'; tokens: 'if', '->'");
         logMessage("- Use 'Passo a Passo' para ver a simulação detalhadamente.");
 
         updateAutomatonTypeDisplay();
@@ -234,7 +254,7 @@ public class AutomatonController {
         // ---------------------------------
 
         // Executa a simulação para obter o caminho da palavra atual
-        lastResult = AutomatonSimulator.simulate(estados, transicoes, currentWord);
+        lastResult = AutomatonSimulator.simulate(compiledAutomaton(), currentWord);
         currentPath = lastResult.getPath();
         currentSymbolsUsed = lastResult.getSymbolsUsed();
 
@@ -390,12 +410,12 @@ public class AutomatonController {
         Circle innerCircle = new Circle(0, 0, STATE_RADIUS - 5, Color.TRANSPARENT);
         innerCircle.setStroke(Color.BLACK);
         innerCircle.setStrokeWidth(1.5);
-        innerCircle.setVisible(false);
+        innerCircle.setVisible(estado.isFinal());
         innerCircle.setId("inner-circle");
 
         Polygon arrow = new Polygon(-STATE_RADIUS - 12, -7.0, -STATE_RADIUS, 0.0, -STATE_RADIUS - 12, 7.0);
         arrow.setFill(Color.BLACK);
-        arrow.setVisible(false);
+        arrow.setVisible(estado.isInicial());
         arrow.setId("initial-arrow");
 
         Text text = new Text(estado.getNome());
@@ -408,6 +428,7 @@ public class AutomatonController {
         group.getChildren().addAll(hitArea, circle, innerCircle, arrow, text);
 
         estado.isInicialProperty().addListener((obs, oldVal, newVal) -> {
+            graph.stateChanged(estado);
             arrow.setVisible(newVal);
             if (newVal) {
                 estados.stream()
@@ -419,8 +440,10 @@ public class AutomatonController {
         });
 
         estado.isFinalProperty().addListener((obs, oldVal, newVal) -> {
+            graph.stateChanged(estado);
             innerCircle.setVisible(newVal);
             logMessage("Estado " + estado.getNome() + " " + (newVal ? "marcado como final." : "desmarcado como final."));
+            updateAutomatonTypeDisplay();
         });
 
         setupStateEvents(group);
@@ -481,8 +504,14 @@ public class AutomatonController {
         Optional<String> result = dialog.showAndWait();
         result.ifPresent(nome -> {
             if (!nome.trim().isEmpty()) {
+                // Estado.equals compara pelo nome: dois estados com o mesmo nome se confundem
+                if (estados.stream().anyMatch(outro -> outro != estado && outro.getNome().equals(nome.trim()))) {
+                    showAlert("Erro", "Já existe um estado chamado '" + nome.trim() + "'.");
+                    return;
+                }
                 String oldName = estado.getNome();
                 estado.setNome(nome.trim());
+                graph.stateChanged(estado);
                 atualizarVisualizacaoEstado(estado);
                 logMessage("Estado " + oldName + " renomeado para " + estado.getNome());
             }
@@ -501,13 +530,7 @@ public class AutomatonController {
     private void deletarEstado(Group estadoView) {
         Estado estadoParaDeletar = (Estado) estadoView.getUserData();
 
-        List<Transicao> transicoesParaRemover = new ArrayList<>();
-        transicoes.forEach(t -> {
-            if (t.getOrigem() == estadoParaDeletar || t.getDestino() == estadoParaDeletar) {
-                transicoesParaRemover.add(t);
-            }
-        });
-        transicoesParaRemover.forEach(this::deletarTransicao);
+        graph.incidentTransitions(estadoParaDeletar).forEach(this::deletarTransicao);
 
         drawingPane.getChildren().remove(estadoView);
         estadoViews.remove(estadoParaDeletar);
@@ -544,6 +567,38 @@ public class AutomatonController {
         });
     }
 
+    // Substitui o autômato do editor por outro (minimizado, carregado de arquivo etc.)
+    private void carregarAutomato(AutomatonModel automato) {
+        if (stepByStepMode) {
+            resetStepByStep();
+        }
+
+        drawingPane.getChildren().clear();
+        estados.clear();
+        transicoes.clear();
+        estadoViews.clear();
+        transicaoViews.clear();
+        highlightedStates.clear();
+
+        for (Estado estado : automato.getEstados()) {
+            estados.add(estado);
+            Estado.atualizarContador(estado.getNome());
+            Group estadoView = criarVisualizacaoEstado(estado);
+            estadoViews.put(estado, estadoView);
+            drawingPane.getChildren().add(estadoView);
+        }
+        for (Transicao transicao : automato.getTransicoes()) {
+            transicoes.add(transicao);
+            Node transicaoView = criarVisualizacaoTransicao(transicao);
+            transicaoViews.put(transicao, transicaoView);
+            drawingPane.getChildren().add(transicaoView);
+            transicaoView.toBack();
+        }
+
+        updateAutomatonVisualization();
+        updateAutomatonTypeDisplay();
+    }
+
     private Node criarVisualizacaoTransicao(Transicao transicao) {
         Estado origem = transicao.getOrigem();
         Estado destino = transicao.getDestino();
@@ -637,6 +692,7 @@ public class AutomatonController {
             }
 
             transicao.setSimbolo(novoSimbolo);
+            graph.transitionChanged(transicao);
 
             Node newView = criarVisualizacaoTransicao(transicao);
             transicaoViews.put(transicao, newView);
@@ -675,18 +731,26 @@ public class AutomatonController {
         String[] wordsToTest = fullInput.split(",");
         boolean isBatchProcessing = wordsToTest.length > 1;
 
+        // Lotes grandes: sem animação, avaliados em paralelo fora da thread do JavaFX
+        if (wordsToTest.length > MAX_ANIMATED_WORDS) {
+            simulateLargeBatch(wordsToTest);
+            return;
+        }
+
         SequentialTransition masterAnimation = new SequentialTransition();
 
         logMessage(isBatchProcessing ? "\n=== INICIANDO SIMULAÇÃO EM LOTE ===" : "\n=== SIMULANDO PALAVRA ===");
 
         int acceptedCount = 0;
+        AutomatonSimulator.SimulationResult lastSimulated = null;
         for (String word : wordsToTest) {
             String currentWord = word.trim();
             String wordForLog = currentWord.isEmpty() ? "ε" : currentWord;
 
             logMessage("\n--- Testando '" + wordForLog + "' ---");
 
-            AutomatonSimulator.SimulationResult result = AutomatonSimulator.simulate(estados, transicoes, currentWord);
+            AutomatonSimulator.SimulationResult result = AutomatonSimulator.simulate(compiledAutomaton(), currentWord);
+            lastSimulated = result;
             logMessage("Resultado: " + result.getMessage());
 
             if (result.isAccepted()) {
@@ -716,14 +780,40 @@ public class AutomatonController {
             String summary = String.format("Lote concluído: %d de %d palavras aceitas.", acceptedCount, wordsToTest.length);
             showResult(summary, acceptedCount > 0);
             logMessage("\n=== FIM DA SIMULAÇÃO EM LOTE ===");
-        } else if (wordsToTest.length == 1) {
-            AutomatonSimulator.SimulationResult singleResult = AutomatonSimulator.simulate(estados, transicoes, wordsToTest[0].trim());
-            showResult(singleResult.getMessage(), singleResult.isAccepted());
+        } else if (lastSimulated != null) {
+            showResult(lastSimulated.getMessage(), lastSimulated.isAccepted());
         }
 
         masterAnimation.play();
     }
 
+    private void simulateLargeBatch(String[] wordsToTest) {
+        List<String> words = new ArrayList<>(wordsToTest.length);
+        for (String word : wordsToTest) {
+            words.add(word.trim());
+        }
+
+        simulateButton.setDisable(true);
+        stepByStepButton.setDisable(true);
+        showResult("Simulando lote de " + words.size() + " palavras...", true);
+        logMessage("\n=== INICIANDO SIMULAÇÃO EM LOTE (" + words.size() + " palavras, sem animação) ===");
+
+        new BatchSimulator(compiledAutomaton()).runAsync(words, null, false)
+                .whenComplete((summary, error) -> Platform.runLater(() -> {
+                    simulateButton.setDisable(false);
+                    stepByStepButton.setDisable(false);
+                    if (error != null) {
+                        showResult("Erro na simulação em lote: " + error.getMessage(), false);
+                        return;
+                    }
+                    String resumo = String.format("Lote concluído: %d de %d palavras aceitas.",
+                            summary.getAccepted(), summary.getTotal());
+                    showResult(resumo, summary.getAccepted() > 0);
+                    logMessage(resumo);
+                    logMessage("=== FIM DA SIMULAÇÃO EM LOTE ===");
+                }));
+    }
+
     private SequentialTransition createPathAnimation(List<Estado> path, boolean accepted) {
         SequentialTransition animation = new SequentialTransition();
         for (int i = 0; i < path.size(); i++) {
@@ -826,6 +916,39 @@ public class AutomatonController {
         return dialog.showAndWait();
     }
 
+    private CompiledAutomaton compiledAutomaton() {
+        return automatonCache.get();
+    }
+
+    // O cálculo roda no pool comum (como a simulação em lote) sobre o autômato compilado,
+    // que é imutável; o resultado volta para a thread do JavaFX
+    private <T> void calcularEmSegundoPlano(String descricao, Supplier<T> calculo, Consumer<T> aoConcluir) {
+        if (!calculoEmAndamento.isDone()) {
+            showAlert("Aviso", "Aguarde o fim do cálculo em andamento.");
+            return;
+        }
+        logMessage(descricao + "...");
+        calculoEmAndamento = CompletableFuture.supplyAsync(calculo)
+                .whenComplete((resultado, erro) -> Platform.runLater(() -> {
+                    if (erro == null) {
+                        aoConcluir.accept(resultado);
+                        return;
+                    }
+                    Throwable causa = erro instanceof CompletionException && erro.getCause() != null
+                            ? erro.getCause() : erro;
+                    showAlert("Erro", descricao + " falhou: " + causa);
+                }));
+    }
+
+    // Resultado que substituiria o autômato é descartado se ele foi editado durante o cálculo
+    private boolean alteradoDesde(long revisao) {
+        if (graph.getModificationCount() == revisao) {
+            return false;
+        }
+        logMessage("O autômato foi alterado durante o cálculo; resultado descartado.");
+        return true;
+    }
+
     private void showResult(String message, boolean accepted) {
         resultLabel.setText(message);
         resultLabel.setTextFill(accepted ? Color.GREEN : Color.RED);
@@ -846,9 +969,9 @@ public class AutomatonController {
             return;
         }
 
-        boolean isDeterministic = AutomatonSimulator.isDeterministicPublic(transicoes);
-        boolean hasInitialState = estados.stream().anyMatch(Estado::isInicial);
-        boolean hasFinalState = estados.stream().anyMatch(Estado::isFinal);
+        boolean isDeterministic = analysis.isDeterministic();
+        boolean hasInitialState = analysis.getInitialStateCount() > 0;
+        boolean hasFinalState = analysis.getFinalStateCount() > 0;
 
         StringBuilder typeInfo = new StringBuilder();
         typeInfo.append("Tipo: ").append(isDeterministic ? "AFD" : "AFND");
@@ -905,29 +1028,224 @@ public class AutomatonController {
             return;
         }
 
-        StringBuilder export = new StringBuilder();
-        export.append("=== AUTÔMATO EXPORTADO ===\n");
-        export.append("Estados: ").append(estados.size()).append("\n");
-        export.append("Transições: ").append(transicoes.size()).append("\n");
-        export.append("Tipo: ").append(AutomatonSimulator.isDeterministicPublic(transicoes) ? "AFD" : "AFND").append("\n\n");
+        String export = AutomatonTextFormat.write(estados, transicoes);
+
+        logMessage("\n" + export);
+        logMessage("Autômato exportado para o log!");
+    }
+
+    @FXML
+    private void saveAutomaton() {
+        if (estados.isEmpty()) {
+            showAlert("Aviso", "Nenhum autômato para salvar!");
+            return;
+        }
 
-        export.append("ESTADOS:\n");
-        for (Estado estado : estados) {
-            export.append("- ").append(estado.getNome());
-            if (estado.isInicial()) export.append(" (inicial)");
-            if (estado.isFinal()) export.append(" (final)");
-            export.append(" [").append(estado.getX()).append(",").append(estado.getY()).append("]\n");
+        File arquivo = criarSeletorArquivo("Salvar autômato").showSaveDialog(drawingPane.getScene().getWindow());
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            AutomatonFiles.save(arquivo.toPath(), estados, transicoes);
+            logMessage("Autômato salvo em " + arquivo.getName());
+        } catch (IOException e) {
+            showAlert("Erro", "Não foi possível salvar o arquivo:\n" + e.getMessage());
         }
+    }
 
-        export.append("\nTRANSIÇÕES:\n");
-        for (Transicao transicao : transicoes) {
-            export.append("- ").append(transicao.getOrigem().getNome())
-                    .append(" --[").append(transicao.getSimbolo()).append("]--> ")
-                    .append(transicao.getDestino().getNome()).append("\n");
+    @FXML
+    private void openAutomaton() {
+        File arquivo = criarSeletorArquivo("Abrir autômato").showOpenDialog(drawingPane.getScene().getWindow());
+        if (arquivo == null) {
+            return;
+        }
+        try {
+            AutomatonModel automato = AutomatonFiles.load(arquivo.toPath());
+            carregarAutomato(automato);
+            logMessage(String.format("Autômato carregado de %s (%d estados, %d transições)",
+                    arquivo.getName(), automato.getEstados().size(), automato.getTransicoes().size()));
+        } catch (IOException e) {
+            showAlert("Erro", "Não foi possível abrir o arquivo:\n" + e.getMessage());
         }
+    }
 
-        logMessage("\n" + export.toString());
-        logMessage("Autômato exportado para o log!");
+    @FXML
+    private void regexToAutomaton() {
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Expressão Regular");
+        dialog.setHeaderText("Digite a expressão regular (símbolos, ( ), |, *, + e & para ε).\n"
+                + "O autômato atual será substituído pelo AFND equivalente.");
+        dialog.setContentText("Expressão:");
+
+        Optional<String> result = dialog.showAndWait();
+        result.ifPresent(expressao -> {
+            try {
+                AutomatonModel automato = AutomatonModel.fromCore(RegexCompiler.compile(expressao));
+                carregarAutomato(automato);
+                logMessage(String.format("AFND gerado para '%s' (%d estados, %d transições)",
+                        expressao.trim(), automato.getEstados().size(), automato.getTransicoes().size()));
+            } catch (IllegalArgumentException e) {
+                showAlert("Erro", e.getMessage());
+            }
+        });
+    }
+
+    @FXML
+    private void combineAutomata() {
+        if (estados.isEmpty() || estados.stream().noneMatch(Estado::isInicial)) {
+            showAlert("Aviso", "Crie um autômato com estado inicial antes de combiná-lo.");
+            return;
+        }
+
+        Map<String, AutomatonOperations.Operation> opcoes = new LinkedHashMap<>();
+        opcoes.put("União (A ∪ B)", AutomatonOperations.Operation.UNION);
+        opcoes.put("Interseção (A ∩ B)", AutomatonOperations.Operation.INTERSECTION);
+        opcoes.put("Diferença (A − B)", AutomatonOperations.Operation.DIFFERENCE);
+        opcoes.put("Diferença simétrica (A △ B)", AutomatonOperations.Operation.SYMMETRIC_DIFFERENCE);
+        opcoes.put("Complemento (¬A)", null);
+        List<String> nomes = new ArrayList<>(opcoes.keySet());
+
+        ChoiceDialog<String> dialog = new ChoiceDialog<>(nomes.get(0), nomes);
+        dialog.setTitle("Operações");
+        dialog.setHeaderText("A = autômato atual. Para operações binárias, B é aberto de um arquivo.\n"
+                + "O autômato atual será substituído pelo AFD mínimo do resultado.");
+        dialog.setContentText("Operação:");
+        Optional<String> escolha = dialog.showAndWait();
+        if (escolha.isEmpty()) {
+            return;
+        }
+
+        AutomatonOperations.Operation operacao = opcoes.get(escolha.get());
+        CompiledAutomaton a = compiledAutomaton();
+        Supplier<CompiledAutomaton> calculo;
+        String descricao;
+        if (operacao == null) {
+            calculo = () -> AutomatonOperations.complement(a);
+            descricao = "¬A";
+        } else {
+            File arquivo = criarSeletorArquivo("Abrir autômato B").showOpenDialog(drawingPane.getScene().getWindow());
+            if (arquivo == null) {
+                return;
+            }
+            CompiledAutomaton b;
+            try {
+                b = AutomatonFiles.loadCore(arquivo.toPath()).compile();
+            } catch (IOException e) {
+                showAlert("Erro", "Não foi possível abrir o arquivo:\n" + e.getMessage());
+                return;
+            }
+            calculo = () -> AutomatonOperations.product(a, b, operacao);
+            descricao = "A " + operacao.getSymbol() + " B (B = " + arquivo.getName() + ")";
+        }
+
+        // Os operandos são minimizados (determinizados) antes do produto
+        long revisao = graph.getModificationCount();
+        calcularEmSegundoPlano("Calculando " + descricao, calculo, resultado -> {
+            if (alteradoDesde(revisao)) {
+                return;
+            }
+            carregarAutomato(resultado.toModel().circularLayout());
+            logMessage(String.format("Resultado de %s: %d estados, %d transições",
+                    descricao, estados.size(), transicoes.size()));
+        });
+    }
+
+    @FXML
+    private void compareAutomata() {
+        if (estados.isEmpty()) {
+            showAlert("Aviso", "Nenhum autômato para comparar!");
+            return;
+        }
+        File arquivo = criarSeletorArquivo("Comparar com o autômato").showOpenDialog(drawingPane.getScene().getWindow());
+        if (arquivo == null) {
+            return;
+        }
+
+        CompiledAutomaton outro;
+        try {
+            outro = AutomatonFiles.loadCore(arquivo.toPath()).compile();
+        } catch (IOException e) {
+            showAlert("Erro", "Não foi possível abrir o arquivo:\n" + e.getMessage());
+            return;
+        }
+
+        CompiledAutomaton atual = compiledAutomaton();
+        String nomeArquivo = arquivo.getName();
+        calcularEmSegundoPlano("Comparando com " + nomeArquivo, () -> compararLinguagens(atual, outro, nomeArquivo),
+                info -> {
+                    logMessage("\n=== COMPARAÇÃO COM " + nomeArquivo + " ===");
+                    logMessage(info);
+                    showAlert("Comparação de Linguagens", info);
+                });
+    }
+
+    // Roda fora da thread do JavaFX: só lê os autômatos compilados, que são imutáveis
+    private static String compararLinguagens(CompiledAutomaton atual, CompiledAutomaton outro, String nomeArquivo) {
+        LanguageComparator.ComparisonResult equivalencia = LanguageComparator.equivalent(atual, outro);
+        StringBuilder info = new StringBuilder();
+        info.append("A = autômato atual, B = ").append(nomeArquivo).append("\n\n");
+        if (equivalencia.holds()) {
+            info.append("As linguagens são equivalentes (L(A) = L(B)).");
+        } else {
+            info.append("As linguagens são diferentes.\n");
+            info.append("Menor palavra que as distingue: ").append(formatarPalavra(equivalencia.getCounterexample()))
+                    .append(" (aceita por ").append(equivalencia.isAcceptedByFirst() ? "A" : "B").append(")\n\n");
+            for (boolean aEmB : new boolean[]{true, false}) {
+                LanguageComparator.ComparisonResult inclusao = aEmB
+                        ? LanguageComparator.isSubset(atual, outro)
+                        : LanguageComparator.isSubset(outro, atual);
+                String relacao = aEmB ? "L(A) ⊆ L(B)" : "L(B) ⊆ L(A)";
+                info.append(relacao).append(": ").append(inclusao.holds() ? "sim"
+                        : "não, " + formatarPalavra(inclusao.getCounterexample())).append("\n");
+            }
+        }
+        return info.toString();
+    }
+
+    private static String formatarPalavra(String palavra) {
+        return palavra.isEmpty() ? "ε" : "'" + palavra + "'";
+    }
+
+    private FileChooser criarSeletorArquivo(String titulo) {
+        FileChooser seletor = new FileChooser();
+        seletor.setTitle(titulo);
+        seletor.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Autômato binário (*.afb)", "*" + AutomatonFiles.EXTENSAO_BINARIA),
+                new FileChooser.ExtensionFilter("JSON (*.json)", "*" + AutomatonFiles.EXTENSAO_JSON),
+                new FileChooser.ExtensionFilter("Texto exportado (*.txt)", "*.txt"));
+        return seletor;
+    }
+
+    @FXML
+    private void minimizeAutomaton() {
+        if (estados.isEmpty()) {
+            showAlert("Aviso", "Nenhum autômato para minimizar!");
+            return;
+        }
+        if (estados.stream().noneMatch(Estado::isInicial)) {
+            showAlert("Aviso", "Defina um estado inicial antes de minimizar.");
+            return;
+        }
+
+        // A determinização de um AFND pode explodir: só a compilação fica na thread do JavaFX
+        CompiledAutomaton atual = compiledAutomaton();
+        long revisao = graph.getModificationCount();
+        int estadosAntes = estados.size();
+        int transicoesAntes = transicoes.size();
+        calcularEmSegundoPlano("Minimizando", () -> DFAMinimizer.minimize(atual), minimo -> {
+            if (alteradoDesde(revisao)) {
+                return;
+            }
+            DFAMinimizer.MinimizationResult resultado =
+                    new DFAMinimizer.MinimizationResult(minimo.toModel(), minimo, estadosAntes, transicoesAntes);
+            carregarAutomato(resultado.getModel());
+
+            logMessage("\n=== AUTÔMATO MINIMIZADO (Hopcroft) ===");
+            logMessage(String.format("Estados: %d -> %d (%d removidos)",
+                    resultado.getStatesBefore(), resultado.getStatesAfter(), resultado.getRemovedStates()));
+            logMessage(String.format("Transições: %d -> %d (%d removidas)",
+                    resultado.getTransitionsBefore(), resultado.getTransitionsAfter(), resultado.getRemovedTransitions()));
+        });
     }
 
     @FXML
@@ -944,29 +1262,25 @@ public class AutomatonController {
         info.append("Número de estados: ").append(estados.size()).append("\n");
         info.append("Número de transições: ").append(transicoes.size()).append("\n");
 
-        boolean isDeterministic = AutomatonSimulator.isDeterministicPublic(transicoes);
+        boolean isDeterministic = analysis.isDeterministic();
         info.append("Tipo: ").append(isDeterministic ? "Autômato Finito Determinístico (AFD)" : "Autômato Finito Não-Determinístico (AFND)").append("\n");
+        if (analysis.getConflictCount() > 0) {
+            info.append("Pares (estado, símbolo) com mais de um destino: ").append(analysis.getConflictCount()).append("\n");
+        }
 
         // Estados especiais
-        long initialStates = estados.stream().filter(Estado::isInicial).count();
-        long finalStates = estados.stream().filter(Estado::isFinal).count();
+        long initialStates = analysis.getInitialStateCount();
+        long finalStates = analysis.getFinalStateCount();
 
         info.append("Estados iniciais: ").append(initialStates).append("\n");
         info.append("Estados finais: ").append(finalStates).append("\n\n");
 
         // Alfabeto
-        Set<String> alfabeto = new HashSet<>();
-        for (Transicao t : transicoes) {
-            for (String simbolo : t.getSimbolos()) {
-                if (!simbolo.equals("ε")) {
-                    alfabeto.add(simbolo);
-                }
-            }
-        }
+        Set<String> alfabeto = analysis.getAlphabet();
         info.append("Alfabeto: {").append(String.join(", ", alfabeto)).append("}\n");
 
         // Transições epsilon
-        long epsilonTransitions = transicoes.stream().filter(Transicao::isEpsilon).count();
+        long epsilonTransitions = analysis.getEpsilonTransitionCount();
         if (epsilonTransitions > 0) {
             info.append("Transições ε: ").append(epsilonTransitions).append("\n");
         }
@@ -984,20 +1298,33 @@ public class AutomatonController {
         }
 
         if (isDeterministic && alfabeto.size() > 0) {
-            // Verificar se AFD é completo
-            boolean isComplete = true;
-            for (Estado estado : estados) {
-                for (String simbolo : alfabeto) {
-                    boolean hasTransition = transicoes.stream()
-                            .anyMatch(t -> t.getOrigem().equals(estado) && t.aceitaSimbolo(simbolo));
-                    if (!hasTransition) {
-                        isComplete = false;
-                        break;
-                    }
-                }
-                if (!isComplete) break;
+            info.append(analysis.isComplete() ? "✓ AFD completo" : "○ AFD incompleto").append("\n");
+        }
+
+        List<Estado> inalcancaveis = analysis.getUnreachableStates();
+        if (initialStates > 0 && !inalcancaveis.isEmpty()) {
+            info.append("⚠ Estados inalcançáveis: ").append(nomesDosEstados(inalcancaveis)).append("\n");
+        }
+        List<Estado> mortos = analysis.getDeadStates();
+        if (finalStates > 0 && !mortos.isEmpty()) {
+            info.append("⚠ Estados que não alcançam final: ").append(nomesDosEstados(mortos)).append("\n");
+        }
+
+        if (initialStates > 0) {
+            LanguageCounter contador = new LanguageCounter(compiledAutomaton());
+            info.append("\n=== LINGUAGEM ===\n");
+            if (contador.isEmpty()) {
+                info.append("Linguagem vazia\n");
+            } else if (contador.isInfinite()) {
+                info.append("Linguagem infinita\n");
+            } else {
+                info.append("Linguagem finita: ").append(contador.size()).append(" palavra(s), a maior com ")
+                        .append(contador.getLongestWordLength()).append(" símbolo(s)\n");
+            }
+            if (!contador.isEmpty()) {
+                info.append("Palavras por tamanho (0 a 10): ").append(contador.counts(10)).append("\n");
+                info.append("Total até tamanho 10: ").append(contador.countUpTo(10)).append("\n");
             }
-            info.append(isComplete ? "✓ AFD completo" : "○ AFD incompleto").append("\n");
         }
 
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
@@ -1007,4 +1334,10 @@ public class AutomatonController {
         alert.getDialogPane().setPrefWidth(500);
         alert.showAndWait();
     }
-}
\ No newline at end of file
+
+    private static String nomesDosEstados(List<Estado> lista) {
+        StringJoiner nomes = new StringJoiner(", ");
+        lista.forEach(e -> nomes.add(e.getNome()));
+        return nomes.toString();
+    }
+}
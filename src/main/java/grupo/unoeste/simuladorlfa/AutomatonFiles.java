@@ -0,0 +1,491 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+// Salvar e carregar autômatos em arquivo. O formato é escolhido pela extensão:
+//   .afb  - binário compacto (rótulos de transição guardados uma única vez)
+//   .json - JSON para troca com outras ferramentas
+//   outro - texto do botão "Exportar" (AutomatonTextFormat)
+// A leitura é feita em fluxo, sem carregar o arquivo inteiro na memória.
+public class AutomatonFiles {
+
+    public static final String EXTENSAO_BINARIA = ".afb";
+    public static final String EXTENSAO_JSON = ".json";
+
+    private static final int MAGICO = 0x4146424E; // "AFBN"
+    private static final int VERSAO = 1;
+    private static final int FLAG_INICIAL = 1;
+    private static final int FLAG_FINAL = 2;
+
+    // Os nomes são verificados antes de abrir o arquivo, para não apagar o que já existe
+    public static void save(Path arquivo, List<Estado> estados, List<Transicao> transicoes) throws IOException {
+        verificarNomes(estados);
+        String nome = arquivo.getFileName().toString().toLowerCase();
+        if (nome.endsWith(EXTENSAO_BINARIA)) {
+            try (OutputStream saida = new BufferedOutputStream(Files.newOutputStream(arquivo), 1 << 16)) {
+                writeBinary(saida, estados, transicoes);
+            }
+        } else if (nome.endsWith(EXTENSAO_JSON)) {
+            verificarCoordenadas(estados);
+            try (Writer saida = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+                writeJson(saida, estados, transicoes);
+            }
+        } else {
+            try (Writer saida = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+                saida.write(AutomatonTextFormat.write(estados, transicoes));
+            }
+        }
+    }
+
+    // Estados e transições do editor
+    public static AutomatonModel load(Path arquivo) throws IOException {
+        return AutomatonModel.fromCore(loadCore(arquivo));
+    }
+
+    // Modelo simples, sem criar Estado/Transicao (uso sem JavaFX, ex.: SimuladorCLI)
+    public static CoreAutomaton loadCore(Path arquivo) throws IOException {
+        String nome = arquivo.getFileName().toString().toLowerCase();
+        if (nome.endsWith(EXTENSAO_BINARIA)) {
+            try (InputStream entrada = new BufferedInputStream(Files.newInputStream(arquivo), 1 << 16)) {
+                return readBinary(entrada);
+            }
+        }
+        try (Reader entrada = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            return nome.endsWith(EXTENSAO_JSON) ? readJson(entrada) : AutomatonTextFormat.read(entrada);
+        }
+    }
+
+    // Os formatos referenciam estados pelo nome (JSON, texto) e os leitores rejeitam
+    // nomes repetidos, então dois estados com o mesmo nome não podem ser gravados
+    private static void verificarNomes(List<Estado> estados) throws IOException {
+        Set<String> nomes = new HashSet<>();
+        for (Estado estado : estados) {
+            if (!nomes.add(estado.getNome())) {
+                throw new IOException("Há mais de um estado chamado '" + estado.getNome() + "'");
+            }
+        }
+    }
+
+    // JSON não representa NaN nem infinito: o arquivo gravado não seria lido de volta
+    private static void verificarCoordenadas(List<Estado> estados) throws IOException {
+        for (Estado estado : estados) {
+            if (!Double.isFinite(estado.getX()) || !Double.isFinite(estado.getY())) {
+                throw new IOException("Estado '" + estado.getNome() + "' com posição inválida ("
+                        + estado.getX() + ", " + estado.getY() + ")");
+            }
+        }
+    }
+
+    // --- Binário ---
+
+    public static void writeBinary(OutputStream destino, List<Estado> estados, List<Transicao> transicoes) throws IOException {
+        verificarNomes(estados);
+        DataOutputStream saida = new DataOutputStream(destino);
+        saida.writeInt(MAGICO);
+        saida.writeShort(VERSAO);
+
+        // Índice pela posição na lista (identidade do objeto, não Estado.equals, que compara nomes)
+        Map<Estado, Integer> indiceEstado = new IdentityHashMap<>();
+        saida.writeInt(estados.size());
+        for (Estado estado : estados) {
+            indiceEstado.putIfAbsent(estado, indiceEstado.size());
+            saida.writeUTF(estado.getNome());
+            saida.writeDouble(estado.getX());
+            saida.writeDouble(estado.getY());
+            saida.writeByte((estado.isInicial() ? FLAG_INICIAL : 0) | (estado.isFinal() ? FLAG_FINAL : 0));
+        }
+
+        // Tabela de rótulos: cada texto de transição é gravado uma vez
+        Map<String, Integer> indiceRotulo = new LinkedHashMap<>();
+        for (Transicao t : transicoes) {
+            indiceRotulo.putIfAbsent(t.getSimbolo(), indiceRotulo.size());
+        }
+        saida.writeInt(indiceRotulo.size());
+        for (String rotulo : indiceRotulo.keySet()) {
+            saida.writeUTF(rotulo);
+        }
+
+        saida.writeInt(transicoes.size());
+        for (Transicao t : transicoes) {
+            Integer origem = indiceEstado.get(t.getOrigem());
+            Integer destinoTransicao = indiceEstado.get(t.getDestino());
+            if (origem == null || destinoTransicao == null) {
+                throw new IOException("Transição usa estado fora da lista: " + t);
+            }
+            saida.writeInt(origem);
+            saida.writeInt(destinoTransicao);
+            saida.writeInt(indiceRotulo.get(t.getSimbolo()));
+        }
+        saida.flush();
+    }
+
+    // As quantidades do arquivo não são usadas para alocar nada: os vetores crescem conforme
+    // os registros são lidos, e uma quantidade corrompida esbarra no fim do arquivo
+    public static CoreAutomaton readBinary(InputStream origem) throws IOException {
+        try {
+            return lerBinario(new DataInputStream(origem));
+        } catch (EOFException e) {
+            throw new IOException("Arquivo corrompido: fim inesperado", e);
+        }
+    }
+
+    private static CoreAutomaton lerBinario(DataInputStream entrada) throws IOException {
+        if (entrada.readInt() != MAGICO) {
+            throw new IOException("Arquivo não é um autômato binário (" + EXTENSAO_BINARIA + ")");
+        }
+        int versao = entrada.readShort();
+        if (versao != VERSAO) {
+            throw new IOException("Versão de arquivo não suportada: " + versao);
+        }
+
+        int totalEstados = lerQuantidade(entrada);
+        CoreAutomaton.Builder automato = CoreAutomaton.builder();
+        for (int i = 0; i < totalEstados; i++) {
+            String nome = entrada.readUTF();
+            double x = entrada.readDouble();
+            double y = entrada.readDouble();
+            int flags = entrada.readByte();
+            if (automato.stateIndex(nome) >= 0) {
+                throw new IOException("Arquivo corrompido: estado repetido '" + nome + "'");
+            }
+            automato.addState(nome, x, y, (flags & FLAG_INICIAL) != 0, (flags & FLAG_FINAL) != 0);
+        }
+
+        int totalRotulos = lerQuantidade(entrada);
+        List<String> rotulos = new ArrayList<>();
+        for (int i = 0; i < totalRotulos; i++) {
+            rotulos.add(entrada.readUTF());
+        }
+
+        int totalTransicoes = lerQuantidade(entrada);
+        for (int i = 0; i < totalTransicoes; i++) {
+            int origemTransicao = entrada.readInt();
+            int destino = entrada.readInt();
+            int rotulo = entrada.readInt();
+            if (origemTransicao < 0 || origemTransicao >= totalEstados || destino < 0 || destino >= totalEstados
+                    || rotulo < 0 || rotulo >= totalRotulos) {
+                throw new IOException("Transição " + i + " com índice inválido");
+            }
+            automato.addTransition(origemTransicao, destino, rotulos.get(rotulo));
+        }
+        return automato.build();
+    }
+
+    private static int lerQuantidade(DataInputStream entrada) throws IOException {
+        int quantidade = entrada.readInt();
+        if (quantidade < 0) {
+            throw new IOException("Arquivo corrompido: quantidade negativa");
+        }
+        return quantidade;
+    }
+
+    // --- JSON ---
+
+    public static void writeJson(Writer saida, List<Estado> estados, List<Transicao> transicoes) throws IOException {
+        verificarNomes(estados);
+        verificarCoordenadas(estados);
+        saida.write("{\n  \"estados\": [");
+        for (int i = 0; i < estados.size(); i++) {
+            Estado estado = estados.get(i);
+            saida.write(i == 0 ? "\n    {\"nome\": " : ",\n    {\"nome\": ");
+            escreverTexto(saida, estado.getNome());
+            saida.write(", \"x\": " + estado.getX() + ", \"y\": " + estado.getY());
+            saida.write(", \"inicial\": " + estado.isInicial() + ", \"final\": " + estado.isFinal() + "}");
+        }
+        saida.write(estados.isEmpty() ? "],\n  \"transicoes\": [" : "\n  ],\n  \"transicoes\": [");
+        for (int i = 0; i < transicoes.size(); i++) {
+            Transicao t = transicoes.get(i);
+            saida.write(i == 0 ? "\n    {\"origem\": " : ",\n    {\"origem\": ");
+            escreverTexto(saida, t.getOrigem().getNome());
+            saida.write(", \"destino\": ");
+            escreverTexto(saida, t.getDestino().getNome());
+            saida.write(", \"simbolos\": ");
+            escreverTexto(saida, t.getSimbolo());
+            saida.write("}");
+        }
+        saida.write(transicoes.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+        saida.flush();
+    }
+
+    private static void escreverTexto(Writer saida, String texto) throws IOException {
+        saida.write('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            switch (c) {
+                case '"' -> saida.write("\\\"");
+                case '\\' -> saida.write("\\\\");
+                case '\n' -> saida.write("\\n");
+                case '\r' -> saida.write("\\r");
+                case '\t' -> saida.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        saida.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        saida.write(c);
+                    }
+                }
+            }
+        }
+        saida.write('"');
+    }
+
+    public static CoreAutomaton readJson(Reader entrada) throws IOException {
+        LeitorJson json = new LeitorJson(entrada);
+        CoreAutomaton.Builder automato = CoreAutomaton.builder();
+
+        json.esperar('{');
+        if (!json.fecha('}')) {
+            do {
+                String chave = json.lerTextoRepetido();
+                json.esperar(':');
+                if (chave.equals("estados")) {
+                    json.esperar('[');
+                    if (!json.fecha(']')) {
+                        do {
+                            lerEstadoJson(json, automato);
+                        } while (json.separador(']'));
+                    }
+                } else if (chave.equals("transicoes")) {
+                    json.esperar('[');
+                    if (!json.fecha(']')) {
+                        do {
+                            lerTransicaoJson(json, automato);
+                        } while (json.separador(']'));
+                    }
+                } else {
+                    json.pularValor();
+                }
+            } while (json.separador('}'));
+        }
+        return automato.build();
+    }
+
+    private static void lerEstadoJson(LeitorJson json, CoreAutomaton.Builder automato) throws IOException {
+        String nome = null;
+        double x = 0, y = 0;
+        boolean inicial = false, ehFinal = false;
+        json.esperar('{');
+        if (!json.fecha('}')) {
+            do {
+                String chave = json.lerTextoRepetido();
+                json.esperar(':');
+                switch (chave) {
+                    case "nome" -> nome = json.lerTexto();
+                    case "x" -> x = json.lerNumero();
+                    case "y" -> y = json.lerNumero();
+                    case "inicial" -> inicial = json.lerBooleano();
+                    case "final" -> ehFinal = json.lerBooleano();
+                    default -> json.pularValor();
+                }
+            } while (json.separador('}'));
+        }
+        if (nome == null) {
+            throw json.erro("estado sem \"nome\"");
+        }
+        if (automato.stateIndex(nome) >= 0) {
+            throw json.erro("estado repetido '" + nome + "'");
+        }
+        automato.addState(nome, x, y, inicial, ehFinal);
+    }
+
+    private static void lerTransicaoJson(LeitorJson json, CoreAutomaton.Builder automato) throws IOException {
+        String origem = null, destino = null, simbolos = "";
+        json.esperar('{');
+        if (!json.fecha('}')) {
+            do {
+                String chave = json.lerTextoRepetido();
+                json.esperar(':');
+                switch (chave) {
+                    case "origem" -> origem = json.lerTexto();
+                    case "destino" -> destino = json.lerTexto();
+                    case "simbolos" -> simbolos = json.lerTextoRepetido();
+                    default -> json.pularValor();
+                }
+            } while (json.separador('}'));
+        }
+        int estadoOrigem = origem == null ? -1 : automato.stateIndex(origem);
+        int estadoDestino = destino == null ? -1 : automato.stateIndex(destino);
+        if (estadoOrigem < 0 || estadoDestino < 0) {
+            throw json.erro("transição usa estado não declarado (" + origem + " -> " + destino + ")");
+        }
+        automato.addTransition(estadoOrigem, estadoDestino, simbolos);
+    }
+
+    // Leitor de JSON em fluxo, caractere a caractere, só com o necessário para este formato
+    private static class LeitorJson {
+        private static final String[] CHAVES = {"estados", "transicoes", "nome", "x", "y", "inicial", "final", "origem", "destino", "simbolos"};
+
+        private final Reader entrada;
+        private final char[] buffer = new char[1 << 14];
+        private int tamanho = 0;
+        private int posicao = 0;
+        private long lidos = 0;
+        private final StringBuilder texto = new StringBuilder();
+        // Textos repetidos (chaves e rótulos) devolvem sempre a mesma instância
+        private final Map<String, String> internados = new HashMap<>();
+
+        LeitorJson(Reader entrada) {
+            this.entrada = entrada;
+        }
+
+        private int espiar() throws IOException {
+            if (posicao == tamanho) {
+                tamanho = entrada.read(buffer);
+                posicao = 0;
+                if (tamanho <= 0) {
+                    tamanho = 0;
+                    return -1;
+                }
+            }
+            return buffer[posicao];
+        }
+
+        private int ler() throws IOException {
+            int c = espiar();
+            if (c >= 0) {
+                posicao++;
+                lidos++;
+            }
+            return c;
+        }
+
+        private int proximoSignificativo() throws IOException {
+            int c = espiar();
+            while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                ler();
+                c = espiar();
+            }
+            return c;
+        }
+
+        IOException erro(String mensagem) {
+            return new IOException("JSON inválido (caractere " + lidos + "): " + mensagem);
+        }
+
+        void esperar(char esperado) throws IOException {
+            int c = proximoSignificativo();
+            if (c != esperado) {
+                throw erro("esperado '" + esperado + "'");
+            }
+            ler();
+        }
+
+        // Consome o fechamento se ele vier logo em seguida (objeto/lista vazios)
+        boolean fecha(char fechamento) throws IOException {
+            if (proximoSignificativo() == fechamento) {
+                ler();
+                return true;
+            }
+            return false;
+        }
+
+        // true se veio ',' (há mais itens); false se veio o fechamento
+        boolean separador(char fechamento) throws IOException {
+            int c = proximoSignificativo();
+            ler();
+            if (c == ',') return true;
+            if (c == fechamento) return false;
+            throw erro("esperado ',' ou '" + fechamento + "'");
+        }
+
+        String lerTexto() throws IOException {
+            esperar('"');
+            texto.setLength(0);
+            while (true) {
+                int c = ler();
+                if (c < 0) throw erro("texto não terminado");
+                if (c == '"') break;
+                if (c == '\\') {
+                    int escape = ler();
+                    switch (escape) {
+                        case '"', '\\', '/' -> texto.append((char) escape);
+                        case 'n' -> texto.append('\n');
+                        case 'r' -> texto.append('\r');
+                        case 't' -> texto.append('\t');
+                        case 'b' -> texto.append('\b');
+                        case 'f' -> texto.append('\f');
+                        case 'u' -> {
+                            int valor = 0;
+                            for (int i = 0; i < 4; i++) {
+                                int digito = Character.digit(ler(), 16);
+                                if (digito < 0) throw erro("escape \\u inválido");
+                                valor = valor * 16 + digito;
+                            }
+                            texto.append((char) valor);
+                        }
+                        default -> throw erro("escape inválido");
+                    }
+                } else {
+                    texto.append((char) c);
+                }
+            }
+            return texto.toString();
+        }
+
+        // Para chaves e rótulos: poucos valores distintos repetidos em todo o arquivo
+        String lerTextoRepetido() throws IOException {
+            lerTexto();
+            for (String conhecido : CHAVES) {
+                if (conhecido.contentEquals(texto)) return conhecido;
+            }
+            return internados.computeIfAbsent(texto.toString(), t -> t);
+        }
+
+        double lerNumero() throws IOException {
+            proximoSignificativo();
+            texto.setLength(0);
+            int c = espiar();
+            while (c >= 0 && (Character.isDigit(c) || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E')) {
+                texto.append((char) ler());
+                c = espiar();
+            }
+            try {
+                return Double.parseDouble(texto.toString());
+            } catch (NumberFormatException e) {
+                throw erro("número inválido '" + texto + "'");
+            }
+        }
+
+        boolean lerBooleano() throws IOException {
+            int c = proximoSignificativo();
+            String esperado = c == 't' ? "true" : "false";
+            for (int i = 0; i < esperado.length(); i++) {
+                if (ler() != esperado.charAt(i)) throw erro("esperado true ou false");
+            }
+            return c == 't';
+        }
+
+        void pularValor() throws IOException {
+            int c = proximoSignificativo();
+            if (c == '"') {
+                lerTexto();
+            } else if (c == '{' || c == '[') {
+                char fechamento = c == '{' ? '}' : ']';
+                ler();
+                if (fecha(fechamento)) return;
+                do {
+                    if (fechamento == '}') {
+                        lerTextoRepetido();
+                        esperar(':');
+                    }
+                    pularValor();
+                } while (separador(fechamento));
+            } else if (c == 't' || c == 'f') {
+                lerBooleano();
+            } else if (c == 'n') {
+                for (char esperado : "null".toCharArray()) {
+                    if (ler() != esperado) throw erro("valor inválido");
+                }
+            } else {
+                lerNumero();
+            }
+        }
+    }
+}
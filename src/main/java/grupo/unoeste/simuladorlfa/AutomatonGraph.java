@@ -0,0 +1,541 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+
+import java.util.*;
+
+// Grafo do autômato editável, indexado por estado: cada Estado recebe um id inteiro
+// (pelo objeto, não pelo nome) e guarda suas saídas por símbolo, as transições ε, os
+// vizinhos de entrada/saída e as transições que o tocam. Assim as análises percorrem
+// só as arestas de cada estado visitado, em O(|Q| + |T|) no total.
+//
+// states() e transitions() são listas ligadas ao grafo: adicionar ou remover por elas
+// atualiza os índices, então o código que usa List<Estado>/List<Transicao> continua igual.
+// Remover um estado remove também as transições que o usam. Mudanças dentro dos objetos
+// (inicial/final, nome, símbolos de uma transição) devem ser avisadas por stateChanged e
+// transitionChanged. O contador de modificações é a revisão do autômato do editor: o
+// AutomatonCache recompila quando ele muda.
+public class AutomatonGraph {
+
+    // Avisos para quem mantém dados derivados (ex.: AutomatonAnalysis)
+    public interface Listener {
+        // Primeira transição entre o par (ou a última foi removida)
+        void edgeAdded(int origem, int destino);
+        void edgeRemoved(int origem, int destino);
+        // Inclui o estado recém-adicionado (antes: nem inicial nem final)
+        void flagsChanged(int estado, boolean eraInicial, boolean eraFinal);
+        // Chamado depois que as transições do estado já foram removidas
+        void stateRemoved(int estado, boolean eraInicial, boolean eraFinal);
+        void cleared();
+    }
+
+    // Dados de uma transição no momento em que foi registrada
+    private static final class Registro {
+        final int origem;
+        final int destino;
+        final List<String> simbolos;
+        int posicao; // em listaTransicoes
+
+        Registro(int origem, int destino, List<String> simbolos) {
+            this.origem = origem;
+            this.destino = destino;
+            this.simbolos = simbolos;
+        }
+    }
+
+    // Remover só deixa uma lacuna (null) nas listas; cada uma é compactada no próximo
+    // acesso pela visão, então remover em lote é linear
+    private final List<Estado> listaEstados = new ArrayList<>();
+    private int lacunasEstados = 0;
+    private final List<Transicao> listaTransicoes = new ArrayList<>();
+    private int lacunas = 0;
+    private final List<Estado> visaoEstados = new ListaEstados();
+    private final List<Transicao> visaoTransicoes = new ListaTransicoes();
+
+    private final Map<Estado, Integer> indiceEstado = new IdentityHashMap<>();
+    private final List<Estado> porId = new ArrayList<>(); // null = removido
+    private boolean[] inicial = new boolean[16];
+    private boolean[] finais = new boolean[16];
+    private int[] posicaoEstado = new int[16]; // em listaEstados, por id
+    // Vizinhos com multiplicidade (quantas transições ligam os dois estados, ε incluído)
+    private final List<Map<Integer, Integer>> saidas = new ArrayList<>();
+    private final List<Map<Integer, Integer>> entradas = new ArrayList<>();
+    // Saídas por símbolo: símbolo -> destino -> quantidade; e as saídas ε
+    private final List<Map<Integer, Map<Integer, Integer>>> porSimbolo = new ArrayList<>();
+    private final List<Map<Integer, Integer>> saidasEpsilon = new ArrayList<>();
+    private final List<Set<Transicao>> incidentes = new ArrayList<>();
+
+    private final Map<Transicao, Registro> registros = new IdentityHashMap<>();
+    private final TreeMap<String, Integer> alfabeto = new TreeMap<>();
+    private final Map<String, Integer> indiceSimbolo = new HashMap<>();
+    private final List<String> simbolos = new ArrayList<>();
+
+    private int iniciais = 0;
+    private int quantidadeFinais = 0;
+    private int conflitos = 0;        // células (estado, símbolo) com mais de um destino
+    private int celulasPreenchidas = 0;
+    private int transicoesEpsilon = 0;
+    private int simbolosEpsilon = 0;
+    private int simbolosCompostos = 0; // classes, "outro" e tokens de vários caracteres
+    private long modificacoes = 0;
+
+    private final List<Listener> ouvintes = new ArrayList<>();
+
+    public void addListener(Listener ouvinte) {
+        ouvintes.add(ouvinte);
+    }
+
+    // --- Listas ligadas ao grafo ---
+
+    public List<Estado> states() { return visaoEstados; }
+    public List<Transicao> transitions() { return visaoTransicoes; }
+
+    // --- Edições ---
+
+    public void addState(Estado estado) {
+        if (indiceEstado.containsKey(estado)) {
+            return;
+        }
+        int id = porId.size();
+        modificacoes++;
+        indiceEstado.put(estado, id);
+        porId.add(estado);
+        saidas.add(new HashMap<>());
+        entradas.add(new HashMap<>());
+        porSimbolo.add(new HashMap<>());
+        saidasEpsilon.add(new HashMap<>());
+        incidentes.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        if (id >= inicial.length) {
+            inicial = Arrays.copyOf(inicial, inicial.length * 2);
+            finais = Arrays.copyOf(finais, finais.length * 2);
+            posicaoEstado = Arrays.copyOf(posicaoEstado, posicaoEstado.length * 2);
+        }
+        posicaoEstado[id] = listaEstados.size();
+        listaEstados.add(estado);
+        atualizarMarcacoes(id, estado, true);
+    }
+
+    // Remove o estado e as transições que o usam
+    public void removeState(Estado estado) {
+        Integer id = indiceEstado.get(estado);
+        if (id == null) {
+            return;
+        }
+        for (Transicao transicao : new ArrayList<>(incidentes.get(id))) {
+            removeTransition(transicao);
+        }
+
+        modificacoes++;
+        boolean eraInicial = inicial[id];
+        boolean eraFinal = finais[id];
+        if (eraInicial) iniciais--;
+        if (eraFinal) quantidadeFinais--;
+        inicial[id] = finais[id] = false;
+        indiceEstado.remove(estado);
+        porId.set(id, null);
+        if (posicaoEstado[id] == listaEstados.size() - 1) {
+            listaEstados.remove(posicaoEstado[id]);
+        } else {
+            listaEstados.set(posicaoEstado[id], null);
+            lacunasEstados++;
+        }
+        for (Listener ouvinte : ouvintes) ouvinte.stateRemoved(id, eraInicial, eraFinal);
+    }
+
+    // Estado marcado/desmarcado como inicial ou final, ou renomeado
+    public void stateChanged(Estado estado) {
+        Integer id = indiceEstado.get(estado);
+        if (id != null) {
+            modificacoes++;
+            atualizarMarcacoes(id, estado, false);
+        }
+    }
+
+    public void addTransition(Transicao transicao) {
+        if (registros.containsKey(transicao)) {
+            return;
+        }
+        addState(transicao.getOrigem());
+        addState(transicao.getDestino());
+        int origem = indiceEstado.get(transicao.getOrigem());
+        int destino = indiceEstado.get(transicao.getDestino());
+        Registro registro = new Registro(origem, destino, transicao.getSimbolos());
+        modificacoes++;
+        registros.put(transicao, registro);
+        registro.posicao = listaTransicoes.size();
+        listaTransicoes.add(transicao);
+        incidentes.get(origem).add(transicao);
+        incidentes.get(destino).add(transicao);
+
+        boolean epsilon = false;
+        for (String simbolo : registro.simbolos) {
+            if (isEpsilon(simbolo)) {
+                epsilon = true;
+                simbolosEpsilon++;
+                saidasEpsilon.get(origem).merge(destino, 1, Integer::sum);
+                continue;
+            }
+            alfabeto.merge(simbolo, 1, Integer::sum);
+            if (simbolo.length() != 1) simbolosCompostos++;
+            int s = indiceSimbolo.computeIfAbsent(simbolo, k -> {
+                simbolos.add(k);
+                return simbolos.size() - 1;
+            });
+            Map<Integer, Integer> celula = porSimbolo.get(origem).computeIfAbsent(s, k -> new HashMap<>(2));
+            if (celula.merge(destino, 1, Integer::sum) == 1) {
+                if (celula.size() == 1) celulasPreenchidas++;
+                if (celula.size() == 2) conflitos++;
+            }
+        }
+        if (epsilon) transicoesEpsilon++;
+
+        if (saidas.get(origem).merge(destino, 1, Integer::sum) == 1) {
+            entradas.get(destino).put(origem, 1);
+            for (Listener ouvinte : ouvintes) ouvinte.edgeAdded(origem, destino);
+        } else {
+            entradas.get(destino).merge(origem, 1, Integer::sum);
+        }
+    }
+
+    public void removeTransition(Transicao transicao) {
+        Registro registro = registros.remove(transicao);
+        if (registro == null) {
+            return;
+        }
+        modificacoes++;
+        int origem = registro.origem;
+        int destino = registro.destino;
+        if (registro.posicao == listaTransicoes.size() - 1) {
+            listaTransicoes.remove(registro.posicao);
+        } else {
+            listaTransicoes.set(registro.posicao, null);
+            lacunas++;
+        }
+        incidentes.get(origem).remove(transicao);
+        incidentes.get(destino).remove(transicao);
+
+        boolean epsilon = false;
+        for (String simbolo : registro.simbolos) {
+            if (isEpsilon(simbolo)) {
+                epsilon = true;
+                simbolosEpsilon--;
+                decrementar(saidasEpsilon.get(origem), destino);
+                continue;
+            }
+            if (alfabeto.merge(simbolo, -1, Integer::sum) == 0) {
+                alfabeto.remove(simbolo);
+            }
+            if (simbolo.length() != 1) simbolosCompostos--;
+            int s = indiceSimbolo.get(simbolo);
+            Map<Integer, Integer> celula = porSimbolo.get(origem).get(s);
+            if (decrementar(celula, destino)) {
+                if (celula.size() == 1) conflitos--;
+                if (celula.isEmpty()) {
+                    celulasPreenchidas--;
+                    porSimbolo.get(origem).remove(s);
+                }
+            }
+        }
+        if (epsilon) transicoesEpsilon--;
+
+        if (decrementar(saidas.get(origem), destino)) {
+            entradas.get(destino).remove(origem);
+            for (Listener ouvinte : ouvintes) ouvinte.edgeRemoved(origem, destino);
+        } else {
+            entradas.get(destino).merge(origem, -1, Integer::sum);
+        }
+    }
+
+    // Os símbolos da transição foram editados (setSimbolo)
+    public void transitionChanged(Transicao transicao) {
+        Registro registro = registros.get(transicao);
+        if (registro == null) {
+            return;
+        }
+        int posicao = registro.posicao;
+        removeTransition(transicao);
+        addTransition(transicao);
+        // Mantém a transição no mesmo lugar da lista (ocupando a lacuna que ela deixou)
+        Registro novo = registros.get(transicao);
+        if (novo.posicao != posicao) {
+            listaTransicoes.remove(novo.posicao);
+            listaTransicoes.set(posicao, transicao);
+            novo.posicao = posicao;
+            lacunas--;
+        }
+    }
+
+    private void compactarEstados() {
+        if (lacunasEstados == 0) {
+            return;
+        }
+        int livre = 0;
+        for (int i = 0; i < listaEstados.size(); i++) {
+            Estado estado = listaEstados.get(i);
+            if (estado != null) {
+                posicaoEstado[indiceEstado.get(estado)] = livre;
+                listaEstados.set(livre++, estado);
+            }
+        }
+        listaEstados.subList(livre, listaEstados.size()).clear();
+        lacunasEstados = 0;
+    }
+
+    private void compactar() {
+        if (lacunas == 0) {
+            return;
+        }
+        int livre = 0;
+        for (int i = 0; i < listaTransicoes.size(); i++) {
+            Transicao transicao = listaTransicoes.get(i);
+            if (transicao != null) {
+                registros.get(transicao).posicao = livre;
+                listaTransicoes.set(livre++, transicao);
+            }
+        }
+        listaTransicoes.subList(livre, listaTransicoes.size()).clear();
+        lacunas = 0;
+    }
+
+    public void clear() {
+        listaEstados.clear();
+        lacunasEstados = 0;
+        listaTransicoes.clear();
+        lacunas = 0;
+        indiceEstado.clear();
+        porId.clear();
+        saidas.clear();
+        entradas.clear();
+        porSimbolo.clear();
+        saidasEpsilon.clear();
+        incidentes.clear();
+        registros.clear();
+        alfabeto.clear();
+        indiceSimbolo.clear();
+        simbolos.clear();
+        inicial = new boolean[16];
+        finais = new boolean[16];
+        posicaoEstado = new int[16];
+        iniciais = quantidadeFinais = conflitos = celulasPreenchidas = transicoesEpsilon = simbolosEpsilon = 0;
+        simbolosCompostos = 0;
+        modificacoes++;
+        for (Listener ouvinte : ouvintes) ouvinte.cleared();
+    }
+
+    // --- Consultas por id ---
+
+    // Ids vão de 0 a getIdLimit() - 1; ids de estados removidos não são reaproveitados
+    public int getIdLimit() { return porId.size(); }
+    public boolean isLive(int id) { return porId.get(id) != null; }
+    public Estado getState(int id) { return porId.get(id); }
+
+    public int idOf(Estado estado) {
+        Integer id = indiceEstado.get(estado);
+        return id == null ? CompiledAutomaton.SEM_TRANSICAO : id;
+    }
+
+    public boolean isInitial(int id) { return inicial[id]; }
+    public boolean isFinal(int id) { return finais[id]; }
+
+    // Estados alcançados a partir de id por alguma transição (qualquer símbolo ou ε)
+    public Set<Integer> successors(int id) { return Collections.unmodifiableSet(saidas.get(id).keySet()); }
+    public Set<Integer> predecessors(int id) { return Collections.unmodifiableSet(entradas.get(id).keySet()); }
+
+    public Set<Integer> targets(int id, String simbolo) {
+        if (isEpsilon(simbolo)) {
+            return epsilonTargets(id);
+        }
+        Integer s = indiceSimbolo.get(simbolo);
+        Map<Integer, Integer> celula = s == null ? null : porSimbolo.get(id).get(s);
+        return celula == null ? Collections.emptySet() : Collections.unmodifiableSet(celula.keySet());
+    }
+
+    public Set<Integer> epsilonTargets(int id) {
+        return Collections.unmodifiableSet(saidasEpsilon.get(id).keySet());
+    }
+
+    // Transições que saem de ou chegam ao estado
+    public List<Transicao> incidentTransitions(Estado estado) {
+        Integer id = indiceEstado.get(estado);
+        return id == null ? List.of() : new ArrayList<>(incidentes.get(id));
+    }
+
+    // Todos os estados alcançáveis a partir das raízes (para frente ou, com reverso, para trás)
+    public boolean[] reachableFrom(boolean[] raizes, boolean reverso) {
+        boolean[] marcados = new boolean[porId.size()];
+        for (int id = 0; id < porId.size(); id++) {
+            if (raizes[id] && !marcados[id]) {
+                propagate(id, marcados, reverso);
+            }
+        }
+        return marcados;
+    }
+
+    // Marca o que se alcança a partir de 'origem' que ainda não estava marcado
+    public void propagate(int origem, boolean[] marcados, boolean reverso) {
+        List<Map<Integer, Integer>> ligacoes = reverso ? entradas : saidas;
+        ArrayDeque<Integer> fila = new ArrayDeque<>();
+        marcados[origem] = true;
+        fila.add(origem);
+        while (!fila.isEmpty()) {
+            int atual = fila.poll();
+            for (int vizinho : ligacoes.get(atual).keySet()) {
+                if (!marcados[vizinho]) {
+                    marcados[vizinho] = true;
+                    fila.add(vizinho);
+                }
+            }
+        }
+    }
+
+    // --- Contagens ---
+
+    public int getStateCount() { return indiceEstado.size(); }
+    public int getTransitionCount() { return registros.size(); }
+    public int getInitialStateCount() { return iniciais; }
+    public int getFinalStateCount() { return quantidadeFinais; }
+    public int getEpsilonTransitionCount() { return transicoesEpsilon; }
+    public int getEpsilonSymbolCount() { return simbolosEpsilon; }
+    public int getConflictCount() { return conflitos; }
+    public int getFilledCellCount() { return celulasPreenchidas; }
+
+    // Ocorrências de símbolos que não são um caractere só: as contagens por símbolo acima
+    // comparam rótulos, o que não basta quando "a" e "a-z" se sobrepõem
+    public int getCompoundSymbolCount() { return simbolosCompostos; }
+
+    // Aumenta a cada estado ou transição adicionada, removida ou alterada (para caches de
+    // quem consulta)
+    public long getModificationCount() { return modificacoes; }
+
+    // Símbolos em ordem alfabética (sem ε)
+    public Set<String> getAlphabet() {
+        return Collections.unmodifiableSet(alfabeto.navigableKeySet());
+    }
+
+    public int getSymbolOccurrences(String simbolo) {
+        return alfabeto.getOrDefault(simbolo, 0);
+    }
+
+    // --- Auxiliares ---
+
+    private void atualizarMarcacoes(int id, Estado estado, boolean novo) {
+        boolean eraInicial = inicial[id];
+        boolean eraFinal = finais[id];
+        if (!novo && estado.isInicial() == eraInicial && estado.isFinal() == eraFinal) {
+            return;
+        }
+        inicial[id] = estado.isInicial();
+        finais[id] = estado.isFinal();
+        iniciais += (inicial[id] ? 1 : 0) - (eraInicial ? 1 : 0);
+        quantidadeFinais += (finais[id] ? 1 : 0) - (eraFinal ? 1 : 0);
+        for (Listener ouvinte : ouvintes) ouvinte.flagsChanged(id, eraInicial, eraFinal);
+    }
+
+    // Decrementa a multiplicidade; true se chegou a zero (a entrada é removida)
+    private static boolean decrementar(Map<Integer, Integer> mapa, int chave) {
+        if (mapa.merge(chave, -1, Integer::sum) == 0) {
+            mapa.remove(chave);
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isEpsilon(String simbolo) {
+        return simbolo.equals("ε") || simbolo.isEmpty();
+    }
+
+    // Lista de estados do grafo (remoção e contains pelo objeto, não pelo nome)
+    private final class ListaEstados extends AbstractList<Estado> {
+        @Override
+        public Estado get(int i) {
+            compactarEstados();
+            return listaEstados.get(i);
+        }
+
+        @Override
+        public int size() {
+            return indiceEstado.size();
+        }
+
+        @Override
+        public void add(int posicao, Estado estado) {
+            if (posicao != indiceEstado.size()) {
+                throw new UnsupportedOperationException("Estados só podem ser adicionados no fim");
+            }
+            addState(estado);
+        }
+
+        @Override
+        public Estado remove(int posicao) {
+            Estado estado = get(posicao);
+            removeState(estado);
+            return estado;
+        }
+
+        @Override
+        public boolean remove(Object objeto) {
+            if (!(objeto instanceof Estado) || !indiceEstado.containsKey(objeto)) return false;
+            removeState((Estado) objeto);
+            return true;
+        }
+
+        @Override
+        public boolean contains(Object objeto) {
+            return objeto instanceof Estado && indiceEstado.containsKey(objeto);
+        }
+
+        @Override
+        public void clear() {
+            AutomatonGraph.this.clear();
+        }
+    }
+
+    private final class ListaTransicoes extends AbstractList<Transicao> {
+        @Override
+        public Transicao get(int i) {
+            compactar();
+            return listaTransicoes.get(i);
+        }
+
+        @Override
+        public int size() {
+            return registros.size();
+        }
+
+        @Override
+        public void add(int posicao, Transicao transicao) {
+            if (posicao != registros.size()) {
+                throw new UnsupportedOperationException("Transições só podem ser adicionadas no fim");
+            }
+            addTransition(transicao);
+        }
+
+        @Override
+        public Transicao remove(int posicao) {
+            Transicao transicao = get(posicao);
+            removeTransition(transicao);
+            return transicao;
+        }
+
+        @Override
+        public boolean remove(Object objeto) {
+            if (!(objeto instanceof Transicao) || !registros.containsKey(objeto)) return false;
+            removeTransition((Transicao) objeto);
+            return true;
+        }
+
+        @Override
+        public boolean contains(Object objeto) {
+            return objeto instanceof Transicao && registros.containsKey(objeto);
+        }
+
+        // Limpa só as transições; os estados ficam
+        @Override
+        public void clear() {
+            for (Transicao transicao : new ArrayList<>(registros.keySet())) {
+                removeTransition(transicao);
+            }
+        }
+    }
+}
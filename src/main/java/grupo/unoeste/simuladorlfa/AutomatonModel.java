@@ -0,0 +1,77 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+
+import java.util.*;
+
+// Par de listas estados/transições no formato que o editor desenha (modelo de visão);
+// fromCore/toCore convertem de e para o CoreAutomaton usado pelos motores
+public class AutomatonModel {
+    private final List<Estado> estados;
+    private final List<Transicao> transicoes;
+
+    public AutomatonModel(List<Estado> estados, List<Transicao> transicoes) {
+        this.estados = new ArrayList<>(estados);
+        this.transicoes = new ArrayList<>(transicoes);
+    }
+
+    public List<Estado> getEstados() { return new ArrayList<>(estados); }
+    public List<Transicao> getTransicoes() { return new ArrayList<>(transicoes); }
+
+    // Dispõe os estados em círculo, para autômatos gerados sem posições próprias
+    public AutomatonModel circularLayout() {
+        double[] posicoes = CoreAutomaton.circularPositions(estados.size());
+        for (int i = 0; i < estados.size(); i++) {
+            estados.get(i).setX(posicoes[2 * i]);
+            estados.get(i).setY(posicoes[2 * i + 1]);
+        }
+        return this;
+    }
+
+    public CompiledAutomaton compile() {
+        return CompiledAutomaton.compile(estados, transicoes);
+    }
+
+    // Cria os estados e transições do editor a partir do modelo simples, na mesma ordem
+    public static AutomatonModel fromCore(CoreAutomaton automato) {
+        List<Estado> estados = new ArrayList<>(automato.getStateCount());
+        for (int q = 0; q < automato.getStateCount(); q++) {
+            Estado estado = new Estado(automato.getName(q), automato.getX(q), automato.getY(q));
+            estado.setInicial(automato.isInitial(q));
+            estado.setFinal(automato.isFinal(q));
+            estados.add(estado);
+        }
+        List<Transicao> transicoes = new ArrayList<>(automato.getTransitionCount());
+        for (int t = 0; t < automato.getTransitionCount(); t++) {
+            transicoes.add(new Transicao(estados.get(automato.getSource(t)), estados.get(automato.getTarget(t)),
+                    automato.getLabel(t)));
+        }
+        return new AutomatonModel(estados, transicoes);
+    }
+
+    public CoreAutomaton toCore() {
+        return toCore(estados, transicoes);
+    }
+
+    // Cópia simples das listas do editor. Estados com o mesmo nome viram um só (Estado.equals
+    // compara pelo nome); estados usados só nas transições entram no fim.
+    public static CoreAutomaton toCore(List<Estado> estados, List<Transicao> transicoes) {
+        CoreAutomaton.Builder builder = CoreAutomaton.builder();
+        for (Estado estado : estados) {
+            indice(builder, estado);
+        }
+        for (Transicao t : transicoes) {
+            builder.addTransition(indice(builder, t.getOrigem()), indice(builder, t.getDestino()), t.getSimbolo());
+        }
+        return builder.build();
+    }
+
+    private static int indice(CoreAutomaton.Builder builder, Estado estado) {
+        int indice = builder.stateIndex(estado.getNome());
+        if (indice < 0) {
+            indice = builder.addState(estado.getNome(), estado.getX(), estado.getY(), estado.isInicial(), estado.isFinal());
+        }
+        return indice;
+    }
+}
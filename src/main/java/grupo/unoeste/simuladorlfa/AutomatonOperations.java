@@ -0,0 +1,234 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.*;
+
+// Operações booleanas entre autômatos pela construção do produto, feita de forma preguiçosa:
+// os operandos são minimizados antes (AFDs parciais, só com estados úteis) e, a partir do par
+// inicial, só são criados os pares alcançáveis. Pares que nunca podem aceitar não viram
+// estados (na interseção, basta um lado morto; na diferença, o lado de A morto). O resultado
+// é minimizado de novo, então já sai no formato que o editor desenha via toModel().
+//
+// O alfabeto do produto é a união dos caracteres dos dois operandos, dividida em classes
+// que cada lado lê de um jeito só. O complemento é tomado sobre os caracteres que o
+// autômato lê (a entrada é lida caractere a caractere).
+public class AutomatonOperations {
+
+    public enum Operation {
+        UNION("∪"),
+        INTERSECTION("∩"),
+        DIFFERENCE("−"),
+        SYMMETRIC_DIFFERENCE("△");
+
+        private final String simbolo;
+
+        Operation(String simbolo) {
+            this.simbolo = simbolo;
+        }
+
+        public String getSymbol() { return simbolo; }
+
+        // Par (p, q) pode levar a uma palavra aceita? (SEM_TRANSICAO = lado morto)
+        boolean podeAceitar(int p, int q) {
+            boolean vivoA = p != CompiledAutomaton.SEM_TRANSICAO;
+            boolean vivoB = q != CompiledAutomaton.SEM_TRANSICAO;
+            return switch (this) {
+                case INTERSECTION -> vivoA && vivoB;
+                case DIFFERENCE -> vivoA;
+                case UNION, SYMMETRIC_DIFFERENCE -> vivoA || vivoB;
+            };
+        }
+
+        boolean aceita(boolean finalA, boolean finalB) {
+            return switch (this) {
+                case UNION -> finalA || finalB;
+                case INTERSECTION -> finalA && finalB;
+                case DIFFERENCE -> finalA && !finalB;
+                case SYMMETRIC_DIFFERENCE -> finalA != finalB;
+            };
+        }
+    }
+
+    public static CompiledAutomaton union(CompiledAutomaton a, CompiledAutomaton b) {
+        return product(a, b, Operation.UNION);
+    }
+
+    public static CompiledAutomaton intersection(CompiledAutomaton a, CompiledAutomaton b) {
+        return product(a, b, Operation.INTERSECTION);
+    }
+
+    public static CompiledAutomaton difference(CompiledAutomaton a, CompiledAutomaton b) {
+        return product(a, b, Operation.DIFFERENCE);
+    }
+
+    public static CompiledAutomaton symmetricDifference(CompiledAutomaton a, CompiledAutomaton b) {
+        return product(a, b, Operation.SYMMETRIC_DIFFERENCE);
+    }
+
+    public static CompiledAutomaton product(CompiledAutomaton a, CompiledAutomaton b, Operation operacao) {
+        CompiledAutomaton afdA = DFAMinimizer.minimize(a);
+        CompiledAutomaton afdB = DFAMinimizer.minimize(b);
+
+        CharClass[] simbolos = alfabetoComum(afdA, afdB);
+        int k = simbolos.length;
+        int[] simboloA = new int[k];
+        int[] simboloB = new int[k];
+        for (int s = 0; s < k; s++) {
+            simboloA[s] = afdA.symbolOf(simbolos[s].first());
+            simboloB[s] = afdB.symbolOf(simbolos[s].first());
+        }
+
+        // Pares descobertos: componentes intercalados [p0, q0, p1, q1, ...]
+        IndicePares indice = new IndicePares();
+        int[] componentes = new int[32];
+        int[] tabela = new int[16 * Math.max(1, k)];
+        int total = 0;
+        int inicial = CompiledAutomaton.SEM_TRANSICAO;
+
+        int pInicial = afdA.getInitialState();
+        int qInicial = afdB.getInitialState();
+        if (operacao.podeAceitar(pInicial, qInicial)) {
+            indice.put(chave(pInicial, qInicial), 0);
+            componentes[0] = pInicial;
+            componentes[1] = qInicial;
+            total = 1;
+            inicial = 0;
+        }
+
+        for (int atual = 0; atual < total; atual++) {
+            if ((atual + 1) * k > tabela.length) {
+                tabela = Arrays.copyOf(tabela, tabela.length * 2);
+            }
+            int p = componentes[2 * atual];
+            int q = componentes[2 * atual + 1];
+            for (int s = 0; s < k; s++) {
+                int dp = passo(afdA, p, simboloA[s]);
+                int dq = passo(afdB, q, simboloB[s]);
+                int destino = CompiledAutomaton.SEM_TRANSICAO;
+                if (operacao.podeAceitar(dp, dq)) {
+                    long c = chave(dp, dq);
+                    destino = indice.get(c);
+                    if (destino < 0) {
+                        destino = total++;
+                        indice.put(c, destino);
+                        if (2 * total > componentes.length) {
+                            componentes = Arrays.copyOf(componentes, componentes.length * 2);
+                        }
+                        componentes[2 * destino] = dp;
+                        componentes[2 * destino + 1] = dq;
+                    }
+                }
+                tabela[atual * k + s] = destino;
+            }
+        }
+
+        String[] nomes = new String[total];
+        boolean[] finais = new boolean[total];
+        for (int i = 0; i < total; i++) {
+            int p = componentes[2 * i];
+            int q = componentes[2 * i + 1];
+            boolean finalA = p != CompiledAutomaton.SEM_TRANSICAO && afdA.isFinal(p);
+            boolean finalB = q != CompiledAutomaton.SEM_TRANSICAO && afdB.isFinal(q);
+            finais[i] = operacao.aceita(finalA, finalB);
+            nomes[i] = "(" + nome(afdA, p) + "," + nome(afdB, q) + ")";
+        }
+        CompiledAutomaton produto = CompiledAutomaton.fromTable(nomes, new double[total], new double[total],
+                inicial, finais, simbolos, Arrays.copyOf(tabela, total * k));
+        return DFAMinimizer.minimize(produto);
+    }
+
+    // Alfabeto dos dois autômatos juntos: cada classe cabe inteira em um símbolo de A (ou
+    // em nenhum) e em um de B, então symbolOf(classe.first()) vale para a classe toda
+    static CharClass[] alfabetoComum(CompiledAutomaton a, CompiledAutomaton b) {
+        List<CharClass> classes = new ArrayList<>(Arrays.asList(a.getSymbolClasses()));
+        classes.addAll(Arrays.asList(b.getSymbolClasses()));
+        return CharClass.partition(classes).toArray(new CharClass[0]);
+    }
+
+    // Complemento sobre os caracteres que o autômato lê: completa com um poço e troca os finais
+    public static CompiledAutomaton complement(CompiledAutomaton automato) {
+        CompiledAutomaton afd = DFAMinimizer.minimize(automato);
+        int k = afd.getSymbolCount();
+        int n = afd.getStateCount();
+        int poco = n;
+
+        String[] nomes = new String[n + 1];
+        double[] x = new double[n + 1];
+        double[] y = new double[n + 1];
+        boolean[] finais = new boolean[n + 1];
+        int[] tabela = new int[(n + 1) * k];
+        for (int q = 0; q <= n; q++) {
+            nomes[q] = q < n ? afd.getStateName(q) : "∅";
+            x[q] = q < n ? afd.getX(q) : 0;
+            y[q] = q < n ? afd.getY(q) : 0;
+            finais[q] = q == poco || !afd.isFinal(q);
+            for (int s = 0; s < k; s++) {
+                int destino = q == poco ? CompiledAutomaton.SEM_TRANSICAO : afd.step(q, s);
+                tabela[q * k + s] = destino == CompiledAutomaton.SEM_TRANSICAO ? poco : destino;
+            }
+        }
+        int inicial = afd.getInitialState() == CompiledAutomaton.SEM_TRANSICAO ? poco : afd.getInitialState();
+        return DFAMinimizer.minimize(CompiledAutomaton.fromTable(nomes, x, y, inicial, finais,
+                afd.getSymbolClasses(), tabela));
+    }
+
+    private static int passo(CompiledAutomaton afd, int estado, int simbolo) {
+        if (estado == CompiledAutomaton.SEM_TRANSICAO || simbolo == CompiledAutomaton.SEM_TRANSICAO) {
+            return CompiledAutomaton.SEM_TRANSICAO;
+        }
+        return afd.step(estado, simbolo);
+    }
+
+    private static String nome(CompiledAutomaton afd, int estado) {
+        return estado == CompiledAutomaton.SEM_TRANSICAO ? "∅" : afd.getStateName(estado);
+    }
+
+    // (p+1, q+1) em um long; nunca é 0 porque o par (morto, morto) não é guardado
+    private static long chave(int p, int q) {
+        return ((long) (p + 1) << 32) | (q + 1);
+    }
+
+    // Espalhamento aberto par -> índice, sem um objeto por par
+    private static final class IndicePares {
+        private long[] chaves = new long[64];
+        private int[] valores = new int[64];
+        private int tamanho = 0;
+
+        int get(long chave) {
+            int mascara = chaves.length - 1;
+            for (int i = espalhar(chave) & mascara; chaves[i] != 0; i = (i + 1) & mascara) {
+                if (chaves[i] == chave) return valores[i];
+            }
+            return -1;
+        }
+
+        void put(long chave, int valor) {
+            if (2 * (tamanho + 1) > chaves.length) {
+                crescer();
+            }
+            int mascara = chaves.length - 1;
+            int i = espalhar(chave) & mascara;
+            while (chaves[i] != 0 && chaves[i] != chave) {
+                i = (i + 1) & mascara;
+            }
+            if (chaves[i] == 0) tamanho++;
+            chaves[i] = chave;
+            valores[i] = valor;
+        }
+
+        private void crescer() {
+            long[] antigasChaves = chaves;
+            int[] antigosValores = valores;
+            chaves = new long[antigasChaves.length * 2];
+            valores = new int[antigasChaves.length * 2];
+            tamanho = 0;
+            for (int i = 0; i < antigasChaves.length; i++) {
+                if (antigasChaves[i] != 0) put(antigasChaves[i], antigosValores[i]);
+            }
+        }
+
+        private static int espalhar(long chave) {
+            long h = chave * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.*;
+
+// Vários autômatos testados numa única leitura da entrada, como num analisador léxico.
+//
+// Os autômatos viram um AFND só: a união disjunta de todos, com um estado inicial novo
+// ligado por ε a cada inicial. O AFD dessa união é construído sob demanda pelo LazyDFA
+// (cache limitado, com volta ao AFND por vetores de bits), e cada estado dele é um conjunto
+// de estados de vários autômatos ao mesmo tempo. No fim da palavra, os finais presentes no
+// conjunto dizem quais autômatos aceitam: como os estados de cada autômato ocupam uma faixa
+// contínua na união, basta saber o dono de cada estado final. Essa resposta fica guardada
+// por estado do AFD até o cache ser esvaziado.
+//
+// O índice de cada autômato é a posição dele na lista; o menor índice tem prioridade em
+// firstAccepting. Não é thread-safe: use uma instância por thread.
+public final class AutomatonSet {
+
+    private static final int[] NENHUM = new int[0];
+    private static final int MORTO = CompiledAutomaton.SEM_TRANSICAO;
+
+    private final CompiledAutomaton[] automatos;
+    private final CompiledAutomaton uniao;
+    private final int[] dono;        // estado da união -> autômato (-1 no inicial novo)
+    private final long[] finais;
+    private final LazyDFA afd;
+    private BitSetNFA nfa;           // criado só se o AFD preguiçoso desistir
+    private long[] proximo;
+
+    private int[][] aceitosPorEstado = new int[16][];
+    private int limpezasVistas = 0;
+
+    public AutomatonSet(List<CompiledAutomaton> automatos) {
+        this(automatos, LazyDFA.CAPACIDADE_PADRAO);
+    }
+
+    // capacidade: limite de estados do AFD combinado guardados ao mesmo tempo
+    public AutomatonSet(List<CompiledAutomaton> automatos, int capacidade) {
+        this.automatos = automatos.toArray(new CompiledAutomaton[0]);
+
+        dono = stateOwners(this.automatos);
+        int total = dono.length - 1;
+        uniao = disjointUnion(this.automatos);
+        finais = new long[uniao.bitSetWords()];
+        for (int q = 0; q < total; q++) {
+            if (uniao.isFinal(q)) {
+                finais[q >>> 6] |= 1L << q;
+            }
+        }
+        afd = new LazyDFA(uniao, capacidade);
+    }
+
+    // União disjunta: os estados do autômato i vêm em sequência, depois dos estados dos
+    // anteriores, e o inicial novo (com ε para cada inicial) é o último
+    static CompiledAutomaton disjointUnion(CompiledAutomaton[] automatos) {
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        for (CompiledAutomaton automato : automatos) {
+            for (int q = 0; q < automato.getStateCount(); q++) {
+                construtor.addState(automato.getStateName(q), automato.getX(q), automato.getY(q),
+                        false, automato.isFinal(q));
+            }
+        }
+        int inicial = construtor.addState("∪", 0, 0, true, false);
+
+        int deslocamento = 0;
+        for (CompiledAutomaton automato : automatos) {
+            if (automato.getInitialState() != MORTO) {
+                construtor.addTransition(inicial, deslocamento + automato.getInitialState(), "ε");
+            }
+            for (int q = 0; q < automato.getStateCount(); q++) {
+                for (int s = 0; s < automato.getSymbolCount(); s++) {
+                    String rotulo = automato.getSymbolClass(s).label();
+                    for (int destino : automato.targets(q, s)) {
+                        construtor.addTransition(deslocamento + q, deslocamento + destino, rotulo);
+                    }
+                }
+                for (int destino : automato.epsilonTargets(q)) {
+                    construtor.addTransition(deslocamento + q, deslocamento + destino, "ε");
+                }
+            }
+            deslocamento += automato.getStateCount();
+        }
+        return construtor.build().compile();
+    }
+
+    // Dono de cada estado da união disjunta (-1 no inicial novo)
+    static int[] stateOwners(CompiledAutomaton[] automatos) {
+        int total = 0;
+        for (CompiledAutomaton automato : automatos) {
+            total += automato.getStateCount();
+        }
+        int[] dono = new int[total + 1];
+        int deslocamento = 0;
+        for (int i = 0; i < automatos.length; i++) {
+            Arrays.fill(dono, deslocamento, deslocamento + automatos[i].getStateCount(), i);
+            deslocamento += automatos[i].getStateCount();
+        }
+        dono[total] = -1;
+        return dono;
+    }
+
+    public int size() { return automatos.length; }
+    public CompiledAutomaton get(int i) { return automatos[i]; }
+
+    // Índices dos autômatos que aceitam a palavra, em ordem crescente
+    public int[] accepting(CharSequence palavra) {
+        int estado = afd.start();
+        if (estado == LazyDFA.DESISTIU) {
+            return aceitosNoNFA(afd.fallbackSet(), palavra, 0);
+        }
+        for (int i = 0, n = palavra.length(); i < n && estado != MORTO; i++) {
+            int simbolo = uniao.symbolOf(palavra.charAt(i));
+            if (simbolo == CompiledAutomaton.SEM_TRANSICAO) return NENHUM;
+            estado = afd.next(estado, simbolo);
+            if (estado == LazyDFA.DESISTIU) {
+                return aceitosNoNFA(afd.fallbackSet(), palavra, i + 1);
+            }
+        }
+        return estado == MORTO ? NENHUM : aceitosDoEstado(estado);
+    }
+
+    // Algum autômato aceita?
+    public boolean anyAccepts(CharSequence palavra) {
+        return accepting(palavra).length > 0;
+    }
+
+    // Autômato de maior prioridade (menor índice) que aceita, ou -1
+    public int firstAccepting(CharSequence palavra) {
+        int[] aceitos = accepting(palavra);
+        return aceitos.length > 0 ? aceitos[0] : -1;
+    }
+
+    // --- Estatísticas do cache ---
+
+    public int getCachedStates() { return afd.getCachedStates(); }
+    public int getCacheFlushes() { return afd.getCacheFlushes(); }
+    public boolean isNFAFallback() { return afd.isNFAFallback(); }
+
+    private int[] aceitosDoEstado(int estado) {
+        if (afd.getCacheFlushes() != limpezasVistas) {
+            // Os estados foram renumerados: as respostas guardadas não valem mais
+            Arrays.fill(aceitosPorEstado, null);
+            limpezasVistas = afd.getCacheFlushes();
+        }
+        if (estado >= aceitosPorEstado.length) {
+            aceitosPorEstado = Arrays.copyOf(aceitosPorEstado, Math.max(estado + 1, 2 * aceitosPorEstado.length));
+        }
+        int[] aceitos = aceitosPorEstado[estado];
+        if (aceitos == null) {
+            aceitos = aceitosNoConjunto(afd.stateSet(estado));
+            aceitosPorEstado[estado] = aceitos;
+        }
+        return aceitos;
+    }
+
+    private int[] aceitosNoNFA(long[] conjunto, CharSequence palavra, int inicio) {
+        if (nfa == null) {
+            nfa = new BitSetNFA(uniao);
+            proximo = new long[uniao.bitSetWords()];
+        }
+        long[] atual = conjunto.clone();
+        for (int i = inicio, n = palavra.length(); i < n; i++) {
+            int simbolo = uniao.symbolOf(palavra.charAt(i));
+            if (simbolo == CompiledAutomaton.SEM_TRANSICAO) return NENHUM;
+            if (!nfa.step(atual, simbolo, proximo)) return NENHUM;
+            long[] troca = atual;
+            atual = proximo;
+            proximo = troca;
+        }
+        return aceitosNoConjunto(atual);
+    }
+
+    // Donos dos estados finais do conjunto; em ordem porque os estados de cada autômato
+    // vêm em sequência na união
+    private int[] aceitosNoConjunto(long[] conjunto) {
+        int[] aceitos = new int[automatos.length];
+        int total = 0;
+        for (int w = 0; w < conjunto.length; w++) {
+            long bits = conjunto[w] & finais[w];
+            while (bits != 0) {
+                int estado = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (total == 0 || aceitos[total - 1] != dono[estado]) {
+                    aceitos[total++] = dono[estado];
+                }
+            }
+        }
+        return total == 0 ? NENHUM : Arrays.copyOf(aceitos, total);
+    }
+}
@@ -3,33 +3,90 @@ package grupo.unoeste.simuladorlfa;
 import grupo.unoeste.simuladorlfa.entities.Estado;
 import grupo.unoeste.simuladorlfa.entities.Transicao;
 
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Predicate;
 
 public class AutomatonSimulator {
 
+    // Strings dos caracteres 0-255, para o caminho não criar uma String por passo
+    private static final String[] CARACTERES = new String[256];
+
+    static {
+        for (char c = 0; c < CARACTERES.length; c++) {
+            CARACTERES[c] = String.valueOf(c);
+        }
+    }
+
+    // O caminho do simulador fica como índices do autômato compilado; getPath cria os Estado
+    // (modelo de visão) só quando pedido, e getPathNames serve para uso sem JavaFX. O
+    // construtor público com a lista de Estado continua valendo para quem monta resultados.
     public static class SimulationResult {
         private final boolean accepted;
-        private final List<Estado> path;
+        private final CompiledAutomaton automaton;
+        private final int[] path;
+        private final List<Estado> estados; // caminho dado como Estado; null se vem do compilado
         private final List<String> symbolsUsed;
         private final String word;
         private final String message;
 
         public SimulationResult(boolean accepted, List<Estado> path, List<String> symbolsUsed, String word, String message) {
+            this(accepted, null, null, new ArrayList<>(path), symbolsUsed, word, message);
+        }
+
+        SimulationResult(boolean accepted, CompiledAutomaton automaton, int[] path, List<String> symbolsUsed,
+                         String word, String message) {
+            this(accepted, automaton, path, null, symbolsUsed, word, message);
+        }
+
+        private SimulationResult(boolean accepted, CompiledAutomaton automaton, int[] path, List<Estado> estados,
+                                 List<String> symbolsUsed, String word, String message) {
             this.accepted = accepted;
-            this.path = new ArrayList<>(path);
+            this.automaton = automaton;
+            this.path = path;
+            this.estados = estados;
             this.symbolsUsed = new ArrayList<>(symbolsUsed);
             this.word = word;
             this.message = message;
         }
 
         public boolean isAccepted() { return accepted; }
-        public List<Estado> getPath() { return new ArrayList<>(path); }
+
+        public List<Estado> getPath() {
+            if (estados != null) {
+                return new ArrayList<>(estados);
+            }
+            List<Estado> caminho = new ArrayList<>(path.length);
+            Map<Integer, Estado> visoes = new HashMap<>();
+            for (int q : path) {
+                caminho.add(visoes.computeIfAbsent(q, automaton::getEstado));
+            }
+            return caminho;
+        }
+
+        public List<String> getPathNames() {
+            if (estados != null) {
+                List<String> nomes = new ArrayList<>(estados.size());
+                for (Estado estado : estados) {
+                    nomes.add(estado.getNome());
+                }
+                return nomes;
+            }
+            List<String> nomes = new ArrayList<>(path.length);
+            for (int q : path) {
+                nomes.add(automaton.getStateName(q));
+            }
+            return nomes;
+        }
+
         public List<String> getSymbolsUsed() { return new ArrayList<>(symbolsUsed); }
         public String getWord() { return word; }
         public String getMessage() { return message; }
     }
 
-    // Classe para representar uma configuração do autômato durante a simulação
+    // Configuração (estado, posição, caminho) da antiga busca em largura do AFND. O simulador
+    // não a usa mais (ver simulateNFA); fica por compatibilidade com quem a importava.
     public static class Configuration {
         private final Estado estado;
         private final int posicao;
@@ -50,381 +107,250 @@ public class AutomatonSimulator {
     }
 
     public static SimulationResult simulate(List<Estado> estados, List<Transicao> transicoes, String word) {
-        if (word == null) word = "";
+        return simulate(CompiledAutomaton.compile(estados, transicoes), word);
+    }
 
-        // Encontrar estado inicial
-        Estado estadoInicial = null;
-        for (Estado estado : estados) {
-            if (estado.isInicial()) {
-                estadoInicial = estado;
-                break;
-            }
-        }
+    public static SimulationResult simulate(CompiledAutomaton automato, String word) {
+        if (word == null) word = "";
 
-        if (estadoInicial == null) {
-            return new SimulationResult(false, new ArrayList<>(), new ArrayList<>(), word,
+        if (automato.getInitialState() == CompiledAutomaton.SEM_TRANSICAO) {
+            return new SimulationResult(false, automato, new int[0], new ArrayList<>(), word,
                     "Erro: Nenhum estado inicial definido!");
         }
 
         // Verificar se é determinístico ou não-determinístico
-        boolean isDeterministic = isDeterministic(transicoes);
-
-        if (isDeterministic) {
-            return simulateDFA(estadoInicial, transicoes, word);
+        if (automato.isDeterministic()) {
+            return simulateDFA(automato, word);
         } else {
-            return simulateNFA(estadoInicial, transicoes, word);
+            return simulateNFA(automato, word);
         }
     }
 
-    // Método público para verificar determinismo (usado pelo controller)
-    public static boolean isDeterministicPublic(List<Transicao> transicoes) {
-        return isDeterministic(transicoes);
-    }
-
-    private static boolean isDeterministic(List<Transicao> transicoes) {
-        Map<String, Set<String>> transitions = new HashMap<>();
-
-        for (Transicao t : transicoes) {
-            // Para cada símbolo da transição, verificar se há conflito
-            for (String simbolo : t.getSimbolos()) {
-                String key = t.getOrigem().getNome() + ":" + simbolo;
-                transitions.computeIfAbsent(key, k -> new HashSet<>()).add(t.getDestino().getNome());
-
-                // Se há epsilon transições, é NFA
-                if (simbolo.equals("ε") || simbolo.equals("")) {
-                    return false;
-                }
-            }
+    // Só aceitação, sem caminho: tabela do AFD ou, no AFND, uma simulação avulsa por vetores
+    // de bits. Para muitas palavras use acceptor, que mantém o AFD preguiçoso entre as chamadas.
+    public static boolean accepts(CompiledAutomaton automato, CharSequence word) {
+        if (automato.isDeterministic()) {
+            return automato.accepts(word);
         }
+        return new BitSetNFA(automato).accepts(word);
+    }
 
-        // Se algum estado tem mais de uma transição para o mesmo símbolo, é NFA
-        for (Set<String> destinations : transitions.values()) {
-            if (destinations.size() > 1) {
-                return false;
-            }
+    // Entrada em bytes, cada um lido como o caractere 0-255 (ISO-8859-1), sem copiar
+    public static boolean accepts(CompiledAutomaton automato, byte[] entrada) {
+        if (automato.isDeterministic()) {
+            return automato.accepts(entrada);
         }
-
-        return true;
+        return new BitSetNFA(automato).accepts(new Bytes(entrada, 0, entrada.length));
     }
 
-    private static SimulationResult simulateDFA(Estado estadoInicial, List<Transicao> transicoes, String word) {
-        Estado estadoAtual = estadoInicial;
-        List<Estado> caminho = new ArrayList<>();
-        List<String> simbolosUsados = new ArrayList<>();
-        caminho.add(estadoAtual);
-
-        for (int i = 0; i < word.length(); i++) {
-            String simbolo = String.valueOf(word.charAt(i));
-            Estado proximoEstado = null;
-
-            // Buscar transição que aceite este símbolo
-            for (Transicao t : transicoes) {
-                if (t.getOrigem().equals(estadoAtual) && t.aceitaSimbolo(simbolo)) {
-                    proximoEstado = t.getDestino();
-                    break;
-                }
-            }
-
-            if (proximoEstado == null) {
-                return new SimulationResult(false, caminho, simbolosUsados, word,
-                        String.format("Transição não encontrada do estado %s com símbolo '%s'",
-                                estadoAtual.getNome(), simbolo));
-            }
-
-            estadoAtual = proximoEstado;
-            caminho.add(estadoAtual);
-            simbolosUsados.add(simbolo);
+    // Reconhecedor para muitas palavras: a tabela do AFD ou um LazyDFA só dele. O do AFND
+    // não é thread-safe (um por thread) e o cache some junto com ele.
+    public static Predicate<CharSequence> acceptor(CompiledAutomaton automato) {
+        if (automato.isDeterministic()) {
+            return automato::accepts;
         }
-
-        boolean aceito = estadoAtual.isFinal();
-        String mensagem = aceito ? "Palavra aceita pelo AFD!" :
-                String.format("Palavra rejeitada - terminou no estado %s (não final)", estadoAtual.getNome());
-
-        return new SimulationResult(aceito, caminho, simbolosUsados, word, mensagem);
+        return new LazyDFA(automato)::accepts;
     }
 
-    private static SimulationResult simulateNFA(Estado estadoInicial, List<Transicao> transicoes, String word) {
-        // Implementação melhorada do NFA com busca em largura
-        return simulateNFABreadthFirst(estadoInicial, transicoes, word);
+    public static boolean accepts(CompiledAutomaton automato, char[] entrada) {
+        return accepts(automato, CharBuffer.wrap(entrada));
     }
 
-    private static SimulationResult simulateNFABreadthFirst(Estado estadoInicial, List<Transicao> transicoes, String word) {
-        Queue<Configuration> fila = new LinkedList<>();
-        Set<String> visitados = new HashSet<>();
-
-        // Aplicar epsilon closure no estado inicial
-        Set<Estado> estadosIniciais = epsilonClosure(Set.of(estadoInicial), transicoes);
+    // Método público para verificar determinismo (usado pelo controller)
+    public static boolean isDeterministicPublic(List<Transicao> transicoes) {
+        return isDeterministic(transicoes);
+    }
 
-        // Adicionar todas as configurações iniciais na fila
-        for (Estado estado : estadosIniciais) {
-            List<Estado> caminhoInicial = new ArrayList<>();
-            List<String> simbolosInicial = new ArrayList<>();
-            caminhoInicial.add(estadoInicial);
+    private static boolean isDeterministic(List<Transicao> transicoes) {
+        return AutomatonAnalysis.of(List.of(), transicoes).isDeterministic();
+    }
 
-            // Se chegou por epsilon transition, adicionar ao caminho
-            if (!estado.equals(estadoInicial)) {
-                caminhoInicial.add(estado);
-                simbolosInicial.add("ε");
+    private static SimulationResult simulateDFA(CompiledAutomaton automato, String word) {
+        // Percorre a tabela guardando apenas os índices; o caminho é montado no final
+        int[] indices = new int[word.length() + 1];
+        int atual = automato.getInitialState();
+        indices[0] = atual;
+
+        int passos = 0;
+        while (passos < word.length()) {
+            int simbolo = automato.symbolOf(word.charAt(passos));
+            int proximo = simbolo == CompiledAutomaton.SEM_TRANSICAO
+                    ? CompiledAutomaton.SEM_TRANSICAO : automato.step(atual, simbolo);
+            if (proximo == CompiledAutomaton.SEM_TRANSICAO) {
+                break;
             }
-
-            fila.offer(new Configuration(estado, 0, caminhoInicial, simbolosInicial));
+            atual = proximo;
+            indices[++passos] = atual;
         }
 
-        while (!fila.isEmpty()) {
-            Configuration config = fila.poll();
-
-            // Evitar loops infinitos
-            String chave = config.getEstado().getNome() + ":" + config.getPosicao();
-            if (visitados.contains(chave)) {
-                continue;
-            }
-            visitados.add(chave);
-
-            // Se processou toda a palavra
-            if (config.getPosicao() >= word.length()) {
-                if (config.getEstado().isFinal()) {
-                    return new SimulationResult(true, config.getCaminho(), config.getSimbolosUsados(), word,
-                            "Palavra aceita pelo AFND!");
-                }
-                continue;
-            }
-
-            String simboloAtual = String.valueOf(word.charAt(config.getPosicao()));
-
-            // Processar transições normais
-            for (Transicao t : transicoes) {
-                if (t.getOrigem().equals(config.getEstado()) && t.aceitaSimbolo(simboloAtual)) {
-                    List<Estado> novoCaminho = new ArrayList<>(config.getCaminho());
-                    List<String> novosSimbolos = new ArrayList<>(config.getSimbolosUsados());
-
-                    novoCaminho.add(t.getDestino());
-                    novosSimbolos.add(simboloAtual);
-
-                    // Aplicar epsilon closure no estado destino
-                    Set<Estado> closure = epsilonClosure(Set.of(t.getDestino()), transicoes);
-                    for (Estado estadoClosure : closure) {
-                        List<Estado> caminhoFinal = new ArrayList<>(novoCaminho);
-                        List<String> simbolosFinal = new ArrayList<>(novosSimbolos);
-
-                        if (!estadoClosure.equals(t.getDestino())) {
-                            caminhoFinal.add(estadoClosure);
-                            simbolosFinal.add("ε");
-                        }
-
-                        fila.offer(new Configuration(estadoClosure, config.getPosicao() + 1,
-                                caminhoFinal, simbolosFinal));
-                    }
-                }
-            }
-
-            // Processar epsilon transições sem consumir símbolo
-            for (Transicao t : transicoes) {
-                if (t.getOrigem().equals(config.getEstado()) && t.isEpsilon()) {
-                    List<Estado> novoCaminho = new ArrayList<>(config.getCaminho());
-                    List<String> novosSimbolos = new ArrayList<>(config.getSimbolosUsados());
-
-                    novoCaminho.add(t.getDestino());
-                    novosSimbolos.add("ε");
+        int[] posicoes = new int[passos];
+        for (int i = 0; i < passos; i++) {
+            posicoes[i] = i;
+        }
 
-                    fila.offer(new Configuration(t.getDestino(), config.getPosicao(),
-                            novoCaminho, novosSimbolos));
-                }
-            }
+        if (passos < word.length()) {
+            return resultado(false, automato, indices, posicoes, word,
+                    String.format("Transição não encontrada do estado %s com símbolo '%s'",
+                            automato.getStateName(atual), word.charAt(passos)));
         }
 
-        // Se não encontrou caminho de aceitação, tentar mostrar um caminho parcial
-        List<Estado> caminhoFalha = new ArrayList<>();
-        List<String> simbolosFalha = new ArrayList<>();
-        simulateNFAPartial(estadoInicial, transicoes, word, caminhoFalha, simbolosFalha);
+        boolean aceito = automato.isFinal(atual);
+        String mensagem = aceito ? "Palavra aceita pelo AFD!" :
+                String.format("Palavra rejeitada - terminou no estado %s (não final)", automato.getStateName(atual));
 
-        return new SimulationResult(false, caminhoFalha, simbolosFalha, word, "Palavra rejeitada pelo AFND!");
+        return resultado(aceito, automato, indices, posicoes, word, mensagem);
     }
 
-    private static Set<Estado> epsilonClosure(Set<Estado> estados, List<Transicao> transicoes) {
-        Set<Estado> closure = new HashSet<>(estados);
-        Queue<Estado> fila = new LinkedList<>(estados);
-
-        while (!fila.isEmpty()) {
-            Estado atual = fila.poll();
-
-            for (Transicao t : transicoes) {
-                if (t.getOrigem().equals(atual) && t.isEpsilon()) {
-                    if (!closure.contains(t.getDestino())) {
-                        closure.add(t.getDestino());
-                        fila.offer(t.getDestino());
-                    }
-                }
+    private static SimulationResult simulateNFA(CompiledAutomaton automato, String word) {
+        // Simulação por conjuntos de estados; o caminho só é reconstruído se a palavra for aceita
+        BitSetNFA nfa = new BitSetNFA(automato);
+        if (nfa.accepts(word)) {
+            BitSetNFA.Caminho caminhoAceito = nfa.acceptingPath(word);
+            int[] caminho = new int[caminhoAceito.length() + 1];
+            int[] posicoes = new int[caminhoAceito.length()];
+            caminho[0] = caminhoAceito.getEstado(0);
+            for (int i = 0; i < caminhoAceito.length(); i++) {
+                posicoes[i] = caminhoAceito.getPosicao(i);
+                caminho[i + 1] = caminhoAceito.getEstado(i + 1);
             }
+            return resultado(true, automato, caminho, posicoes, word, "Palavra aceita pelo AFND!");
         }
 
-        return closure;
+        // Se não encontrou caminho de aceitação, tentar mostrar um caminho parcial
+        int[] caminhoFalha = simulateNFAPartial(automato, word);
+        int[] posicoes = new int[caminhoFalha.length - 1];
+        for (int i = 0; i < posicoes.length; i++) {
+            posicoes[i] = i;
+        }
+        return resultado(false, automato, caminhoFalha, posicoes, word, "Palavra rejeitada pelo AFND!");
     }
 
-    private static void simulateNFAPartial(Estado estadoInicial, List<Transicao> transicoes, String word,
-                                           List<Estado> caminho, List<String> simbolosUsados) {
-        Estado estadoAtual = estadoInicial;
-        caminho.add(estadoAtual);
+    private static int[] simulateNFAPartial(CompiledAutomaton automato, String word) {
+        int[] caminho = new int[word.length() + 1];
+        int passos = 0;
+        int estadoAtual = automato.getInitialState();
+        caminho[0] = estadoAtual;
 
         for (int i = 0; i < word.length(); i++) {
-            String simbolo = String.valueOf(word.charAt(i));
-            boolean encontrouTransicao = false;
-
-            // Busca primeira transição válida
-            for (Transicao t : transicoes) {
-                if (t.getOrigem().equals(estadoAtual) && t.aceitaSimbolo(simbolo)) {
-                    estadoAtual = t.getDestino();
-                    caminho.add(estadoAtual);
-                    simbolosUsados.add(simbolo);
-                    encontrouTransicao = true;
-                    break;
-                }
-            }
-
-            if (!encontrouTransicao) {
+            // Segue a primeira transição válida
+            int simbolo = automato.symbolOf(word.charAt(i));
+            int proximo = simbolo == CompiledAutomaton.SEM_TRANSICAO
+                    ? CompiledAutomaton.SEM_TRANSICAO : automato.step(estadoAtual, simbolo);
+            if (proximo == CompiledAutomaton.SEM_TRANSICAO) {
                 break;
             }
+            estadoAtual = proximo;
+            caminho[++passos] = estadoAtual;
         }
+        return Arrays.copyOf(caminho, passos + 1);
     }
 
-    // --- MÉTODOS PARA ANÁLISE DO AUTÔMATO ---
-
-    public static Set<String> getAlphabet(List<Transicao> transicoes) {
-        Set<String> alfabeto = new HashSet<>();
-        for (Transicao t : transicoes) {
-            for (String simbolo : t.getSimbolos()) {
-                if (!simbolo.equals("ε")) {
-                    alfabeto.add(simbolo);
-                }
+    // Monta o resultado a partir dos estados visitados e da posição lida em cada passo
+    // (-1 = ε). Os passos por estados de token viram um passo só, com o token inteiro como
+    // símbolo, então o caminho mostra apenas estados declarados.
+    private static SimulationResult resultado(boolean aceito, CompiledAutomaton automato, int[] caminho,
+                                              int[] posicoes, String word, String mensagem) {
+        int[] estados = new int[posicoes.length + 1];
+        List<String> simbolosUsados = new ArrayList<>(posicoes.length);
+        estados[0] = caminho[0];
+        int tamanho = 1;
+        int inicioToken = -1;
+        for (int i = 0; i < posicoes.length; i++) {
+            int destino = caminho[i + 1];
+            int posicao = posicoes[i];
+            if (automato.isTokenState(destino)) {
+                if (inicioToken < 0) inicioToken = posicao;
+                continue;
             }
+            if (inicioToken >= 0) {
+                simbolosUsados.add(word.substring(inicioToken, posicao + 1));
+                inicioToken = -1;
+            } else if (posicao < 0) {
+                simbolosUsados.add("ε");
+            } else {
+                char c = word.charAt(posicao);
+                simbolosUsados.add(c < CARACTERES.length ? CARACTERES[c] : String.valueOf(c));
+            }
+            estados[tamanho++] = destino;
         }
-        return alfabeto;
+        return new SimulationResult(aceito, automato, Arrays.copyOf(estados, tamanho), simbolosUsados, word, mensagem);
     }
 
-    public static boolean isComplete(List<Estado> estados, List<Transicao> transicoes) {
-        if (!isDeterministic(transicoes)) {
-            return false; // Completude só faz sentido para AFDs
-        }
-
-        Set<String> alfabeto = getAlphabet(transicoes);
-        if (alfabeto.isEmpty()) {
-            return true; // Autômato vazio é tecnicamente completo
+    // ε-fecho de um conjunto de estados usando os fechos já calculados do autômato compilado
+    public static Set<Estado> epsilonClosure(CompiledAutomaton automato, Set<Estado> estados) {
+        long[] conjunto = new long[automato.bitSetWords()];
+        for (Estado estado : estados) {
+            int q = automato.indexOf(estado);
+            if (q == CompiledAutomaton.SEM_TRANSICAO) continue;
+            long[] fecho = automato.epsilonClosure(q);
+            for (int w = 0; w < conjunto.length; w++) {
+                conjunto[w] |= fecho[w];
+            }
         }
 
-        // Verificar se cada estado tem transição para cada símbolo do alfabeto
-        for (Estado estado : estados) {
-            for (String simbolo : alfabeto) {
-                boolean hasTransition = transicoes.stream()
-                        .anyMatch(t -> t.getOrigem().equals(estado) && t.aceitaSimbolo(simbolo));
-                if (!hasTransition) {
-                    return false;
-                }
+        Set<Estado> closure = new HashSet<>();
+        for (int w = 0; w < conjunto.length; w++) {
+            long bits = conjunto[w];
+            while (bits != 0) {
+                closure.add(automato.getEstado((w << 6) + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
             }
         }
-        return true;
+        return closure;
     }
 
-    public static List<Estado> getUnreachableStates(List<Estado> estados, List<Transicao> transicoes) {
-        Estado estadoInicial = estados.stream()
-                .filter(Estado::isInicial)
-                .findFirst()
-                .orElse(null);
+    // Bytes vistos como caracteres 0-255, sem cópia
+    private static final class Bytes implements CharSequence {
+        private final byte[] dados;
+        private final int inicio;
+        private final int tamanho;
 
-        if (estadoInicial == null) {
-            return new ArrayList<>(estados); // Todos são inalcançáveis se não há inicial
+        Bytes(byte[] dados, int inicio, int tamanho) {
+            this.dados = dados;
+            this.inicio = inicio;
+            this.tamanho = tamanho;
         }
 
-        Set<Estado> alcancaveis = new HashSet<>();
-        Queue<Estado> fila = new LinkedList<>();
-        fila.offer(estadoInicial);
-        alcancaveis.add(estadoInicial);
+        @Override
+        public int length() { return tamanho; }
 
-        while (!fila.isEmpty()) {
-            Estado atual = fila.poll();
+        @Override
+        public char charAt(int i) { return (char) (dados[inicio + i] & 0xFF); }
 
-            for (Transicao t : transicoes) {
-                if (t.getOrigem().equals(atual) && !alcancaveis.contains(t.getDestino())) {
-                    alcancaveis.add(t.getDestino());
-                    fila.offer(t.getDestino());
-                }
-            }
+        @Override
+        public CharSequence subSequence(int de, int ate) {
+            return new Bytes(dados, inicio + de, ate - de);
         }
 
-        List<Estado> inalcancaveis = new ArrayList<>();
-        for (Estado estado : estados) {
-            if (!alcancaveis.contains(estado)) {
-                inalcancaveis.add(estado);
-            }
+        @Override
+        public String toString() {
+            return new String(dados, inicio, tamanho, StandardCharsets.ISO_8859_1);
         }
-        return inalcancaveis;
     }
 
-    public static boolean hasDeadStates(List<Estado> estados, List<Transicao> transicoes) {
-        // Estado morto: não consegue alcançar nenhum estado final
-        for (Estado estado : estados) {
-            if (!estado.isFinal() && !canReachFinalState(estado, estados, transicoes)) {
-                return true;
-            }
-        }
-        return false;
-    }
+    // --- MÉTODOS PARA ANÁLISE DO AUTÔMATO ---
+    // Cada chamada monta uma AutomatonAnalysis (O(|Q| + |T|)); o editor mantém a sua
+    // atualizada a cada edição em vez de chamar estes métodos.
 
-    private static boolean canReachFinalState(Estado estado, List<Estado> estados, List<Transicao> transicoes) {
-        Set<Estado> visitados = new HashSet<>();
-        Queue<Estado> fila = new LinkedList<>();
-        fila.offer(estado);
-        visitados.add(estado);
+    public static Set<String> getAlphabet(List<Transicao> transicoes) {
+        return new HashSet<>(AutomatonAnalysis.of(List.of(), transicoes).getAlphabet());
+    }
 
-        while (!fila.isEmpty()) {
-            Estado atual = fila.poll();
+    public static boolean isComplete(List<Estado> estados, List<Transicao> transicoes) {
+        return AutomatonAnalysis.of(estados, transicoes).isComplete();
+    }
 
-            if (atual.isFinal()) {
-                return true;
-            }
+    public static List<Estado> getUnreachableStates(List<Estado> estados, List<Transicao> transicoes) {
+        return AutomatonAnalysis.of(estados, transicoes).getUnreachableStates();
+    }
 
-            for (Transicao t : transicoes) {
-                if (t.getOrigem().equals(atual) && !visitados.contains(t.getDestino())) {
-                    visitados.add(t.getDestino());
-                    fila.offer(t.getDestino());
-                }
-            }
-        }
-        return false;
+    public static boolean hasDeadStates(List<Estado> estados, List<Transicao> transicoes) {
+        // Estado morto: não consegue alcançar nenhum estado final
+        return AutomatonAnalysis.of(estados, transicoes).hasDeadStates();
     }
 
     // Método para validar se o autômato está bem formado
     public static List<String> validateAutomaton(List<Estado> estados, List<Transicao> transicoes) {
-        List<String> problemas = new ArrayList<>();
-
-        if (estados.isEmpty()) {
-            problemas.add("Nenhum estado definido");
-            return problemas;
-        }
-
-        // Verificar estado inicial
-        long initialStates = estados.stream().filter(Estado::isInicial).count();
-        if (initialStates == 0) {
-            problemas.add("Nenhum estado inicial definido");
-        } else if (initialStates > 1) {
-            problemas.add("Múltiplos estados iniciais (característico de AFND)");
-        }
-
-        // Verificar estados finais
-        if (estados.stream().noneMatch(Estado::isFinal)) {
-            problemas.add("Nenhum estado final definido");
-        }
-
-        // Verificar estados inalcançáveis
-        List<Estado> inalcancaveis = getUnreachableStates(estados, transicoes);
-        if (!inalcancaveis.isEmpty()) {
-            problemas.add("Estados inalcançáveis encontrados: " +
-                    inalcancaveis.stream().map(Estado::getNome).reduce((a, b) -> a + ", " + b).orElse(""));
-        }
-
-        // Verificar estados mortos (apenas para AFD)
-        if (isDeterministic(transicoes) && hasDeadStates(estados, transicoes)) {
-            problemas.add("Estados mortos encontrados (não alcançam estado final)");
-        }
-
-        return problemas;
+        return AutomatonAnalysis.of(estados, transicoes).validate();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+// Formato texto do botão "Exportar", agora também legível de volta:
+//
+//   ESTADOS:
+//   - q0 (inicial) [100.0,200.0]
+//   - q1 (final) [300.0,200.0]
+//
+//   TRANSIÇÕES:
+//   - q0 --[a,b]--> q1
+//
+// Linhas fora das seções (cabeçalho, contagens, tipo) são ignoradas na leitura.
+public class AutomatonTextFormat {
+
+    private static final String SECAO_ESTADOS = "ESTADOS:";
+    private static final String SECAO_TRANSICOES = "TRANSIÇÕES:";
+
+    public static String write(List<Estado> estados, List<Transicao> transicoes) {
+        StringBuilder export = new StringBuilder();
+        export.append("=== AUTÔMATO EXPORTADO ===\n");
+        export.append("Estados: ").append(estados.size()).append("\n");
+        export.append("Transições: ").append(transicoes.size()).append("\n");
+        export.append("Tipo: ").append(AutomatonSimulator.isDeterministicPublic(transicoes) ? "AFD" : "AFND").append("\n\n");
+
+        export.append(SECAO_ESTADOS).append("\n");
+        for (Estado estado : estados) {
+            export.append("- ").append(estado.getNome());
+            if (estado.isInicial()) export.append(" (inicial)");
+            if (estado.isFinal()) export.append(" (final)");
+            export.append(" [").append(estado.getX()).append(",").append(estado.getY()).append("]\n");
+        }
+
+        export.append("\n").append(SECAO_TRANSICOES).append("\n");
+        for (Transicao transicao : transicoes) {
+            export.append("- ").append(transicao.getOrigem().getNome())
+                    .append(" --[").append(transicao.getSimbolo()).append("]--> ")
+                    .append(transicao.getDestino().getNome()).append("\n");
+        }
+        return export.toString();
+    }
+
+    public static CoreAutomaton read(Reader entrada) throws IOException {
+        BufferedReader leitor = entrada instanceof BufferedReader ? (BufferedReader) entrada : new BufferedReader(entrada);
+        CoreAutomaton.Builder automato = CoreAutomaton.builder();
+        String secao = "";
+        int numeroLinha = 0;
+
+        String linha;
+        while ((linha = leitor.readLine()) != null) {
+            numeroLinha++;
+            linha = linha.trim();
+            if (linha.equals(SECAO_ESTADOS) || linha.equals(SECAO_TRANSICOES)) {
+                secao = linha;
+                continue;
+            }
+            if (!linha.startsWith("- ")) {
+                continue;
+            }
+            String conteudo = linha.substring(2).trim();
+
+            if (secao.equals(SECAO_ESTADOS)) {
+                lerEstado(conteudo, numeroLinha, automato);
+            } else if (secao.equals(SECAO_TRANSICOES)) {
+                int seta = conteudo.indexOf(" --[");
+                int fimSeta = conteudo.lastIndexOf("]--> ");
+                if (seta < 0 || fimSeta < seta) {
+                    throw new IOException("Linha " + numeroLinha + ": transição inválida: " + linha);
+                }
+                int origem = automato.stateIndex(conteudo.substring(0, seta).trim());
+                int destino = automato.stateIndex(conteudo.substring(fimSeta + 5).trim());
+                if (origem < 0 || destino < 0) {
+                    throw new IOException("Linha " + numeroLinha + ": transição usa estado não declarado: " + linha);
+                }
+                automato.addTransition(origem, destino, conteudo.substring(seta + 4, fimSeta));
+            }
+        }
+
+        return automato.build();
+    }
+
+    private static void lerEstado(String conteudo, int numeroLinha, CoreAutomaton.Builder automato) throws IOException {
+        double x = 0, y = 0;
+        int coordenadas = conteudo.lastIndexOf(" [");
+        if (coordenadas >= 0 && conteudo.endsWith("]")) {
+            String[] partes = conteudo.substring(coordenadas + 2, conteudo.length() - 1).split(",");
+            try {
+                x = Double.parseDouble(partes[0].trim());
+                y = Double.parseDouble(partes[1].trim());
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IOException("Linha " + numeroLinha + ": coordenadas inválidas: " + conteudo);
+            }
+            conteudo = conteudo.substring(0, coordenadas).trim();
+        }
+
+        boolean inicial = false;
+        boolean ehFinal = false;
+        while (true) {
+            if (conteudo.endsWith(" (final)")) {
+                ehFinal = true;
+                conteudo = conteudo.substring(0, conteudo.length() - 8).trim();
+            } else if (conteudo.endsWith(" (inicial)")) {
+                inicial = true;
+                conteudo = conteudo.substring(0, conteudo.length() - 10).trim();
+            } else {
+                break;
+            }
+        }
+        if (conteudo.isEmpty()) {
+            throw new IOException("Linha " + numeroLinha + ": estado sem nome");
+        }
+
+        if (automato.stateIndex(conteudo) >= 0) {
+            throw new IOException("Linha " + numeroLinha + ": estado repetido '" + conteudo + "'");
+        }
+        automato.addState(conteudo, x, y, inicial, ehFinal);
+    }
+}
@@ -0,0 +1,193 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Avaliação de muitas palavras em paralelo contra um mesmo autômato compilado.
+// As palavras são lidas em blocos, cada bloco vira uma tarefa no ForkJoinPool e os
+// resultados voltam pelo callback (na thread que chamou run) em ordem ou assim que
+// ficam prontos. Há um limite de blocos em andamento, então a memória não cresce com
+// o tamanho da entrada. Cada bloco pega um reconhecedor livre (com o AFD preguiçoso, no
+// caso de AFND) e o devolve no fim, então há no máximo um por tarefa simultânea, e todos
+// são liberados junto com o BatchSimulator.
+public class BatchSimulator {
+
+    public static final int TAMANHO_BLOCO_PADRAO = 4096;
+
+    public static class BatchResult {
+        private final long index;
+        private final String word;
+        private final boolean accepted;
+
+        public BatchResult(long index, String word, boolean accepted) {
+            this.index = index;
+            this.word = word;
+            this.accepted = accepted;
+        }
+
+        public long getIndex() { return index; }
+        public String getWord() { return word; }
+        public boolean isAccepted() { return accepted; }
+    }
+
+    public static class BatchSummary {
+        private final long total;
+        private final long accepted;
+
+        public BatchSummary(long total, long accepted) {
+            this.total = total;
+            this.accepted = accepted;
+        }
+
+        public long getTotal() { return total; }
+        public long getAccepted() { return accepted; }
+        public long getRejected() { return total - accepted; }
+    }
+
+    private static class Bloco {
+        final long primeiro;
+        final String[] palavras;
+        final boolean[] aceitas;
+
+        Bloco(long primeiro, String[] palavras) {
+            this.primeiro = primeiro;
+            this.palavras = palavras;
+            this.aceitas = new boolean[palavras.length];
+        }
+    }
+
+    private final Supplier<Predicate<CharSequence>> fabrica;
+    private final Queue<Predicate<CharSequence>> livres = new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor;
+    private final int tamanhoBloco;
+    private final int maxBlocosPendentes;
+
+    public BatchSimulator(CompiledAutomaton automato) {
+        this(automato, ForkJoinPool.commonPool(), TAMANHO_BLOCO_PADRAO);
+    }
+
+    public BatchSimulator(CompiledAutomaton automato, ExecutorService executor, int tamanhoBloco) {
+        this(() -> AutomatonSimulator.acceptor(automato), executor, tamanhoBloco);
+    }
+
+    // Imagem mapeada (.afi): as threads leem a mesma tabela mapeada
+    public BatchSimulator(MappedDFA automato) {
+        this(() -> automato::accepts, ForkJoinPool.commonPool(), TAMANHO_BLOCO_PADRAO);
+    }
+
+    private BatchSimulator(Supplier<Predicate<CharSequence>> fabrica, ExecutorService executor, int tamanhoBloco) {
+        this.fabrica = fabrica;
+        this.executor = executor;
+        this.tamanhoBloco = Math.max(1, tamanhoBloco);
+        int paralelismo = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.maxBlocosPendentes = Math.max(2, paralelismo * 2);
+    }
+
+    public BatchSummary run(Stream<String> palavras, Consumer<BatchResult> callback, boolean ordenado) {
+        return run((Iterable<String>) palavras::iterator, callback, ordenado);
+    }
+
+    public BatchSummary run(Iterable<String> palavras, Consumer<BatchResult> callback, boolean ordenado) {
+        Iterator<String> iterador = palavras.iterator();
+        // Todos os blocos enviados e ainda não entregues, nos dois modos (em ordem de envio)
+        Deque<Future<Bloco>> pendentes = new ArrayDeque<>();
+        CompletionService<Bloco> prontos = new ExecutorCompletionService<>(executor);
+        long lidas = 0;
+        long[] aceitas = new long[1];
+        boolean concluido = false;
+
+        try {
+            while (iterador.hasNext()) {
+                String[] bloco = new String[tamanhoBloco];
+                int tamanho = 0;
+                while (tamanho < tamanhoBloco && iterador.hasNext()) {
+                    bloco[tamanho++] = iterador.next();
+                }
+                Bloco tarefa = new Bloco(lidas, tamanho == tamanhoBloco ? bloco : Arrays.copyOf(bloco, tamanho));
+                lidas += tamanho;
+
+                pendentes.add(ordenado ? executor.submit(() -> avaliar(tarefa)) : prontos.submit(() -> avaliar(tarefa)));
+                if (pendentes.size() >= maxBlocosPendentes) {
+                    entregar(proximo(pendentes, prontos, ordenado), callback, aceitas);
+                }
+            }
+
+            while (!pendentes.isEmpty()) {
+                entregar(proximo(pendentes, prontos, ordenado), callback, aceitas);
+            }
+            concluido = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Simulação em lote interrompida");
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException) throw (RuntimeException) causa;
+            if (causa instanceof Error) throw (Error) causa;
+            throw new IllegalStateException(causa);
+        } finally {
+            // Erro na avaliação, no callback ou na leitura das palavras: os blocos restantes
+            // não são mais esperados
+            if (!concluido) {
+                pendentes.forEach(f -> f.cancel(true));
+            }
+        }
+
+        return new BatchSummary(lidas, aceitas[0]);
+    }
+
+    // Próximo bloco a entregar: o mais antigo (ordenado) ou o primeiro que ficar pronto
+    private static Bloco proximo(Deque<Future<Bloco>> pendentes, CompletionService<Bloco> prontos, boolean ordenado)
+            throws InterruptedException, ExecutionException {
+        if (ordenado) {
+            Bloco bloco = pendentes.peek().get(); // continua pendente se a espera for interrompida
+            pendentes.poll();
+            return bloco;
+        }
+        Future<Bloco> pronto = prontos.take();
+        pendentes.remove(pronto);
+        return pronto.get();
+    }
+
+    // Executa fora da thread atual (ex.: thread do JavaFX); o callback roda nessa outra thread
+    public CompletableFuture<BatchSummary> runAsync(Iterable<String> palavras, Consumer<BatchResult> callback,
+                                                    boolean ordenado) {
+        CompletableFuture<BatchSummary> resultado = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                resultado.complete(run(palavras, callback, ordenado));
+            } catch (Throwable t) {
+                resultado.completeExceptionally(t);
+            }
+        }, "simulacao-em-lote");
+        thread.setDaemon(true);
+        thread.start();
+        return resultado;
+    }
+
+    private Bloco avaliar(Bloco bloco) {
+        Predicate<CharSequence> reconhecedor = livres.poll();
+        if (reconhecedor == null) {
+            reconhecedor = fabrica.get();
+        }
+        for (int i = 0; i < bloco.palavras.length; i++) {
+            bloco.aceitas[i] = reconhecedor.test(bloco.palavras[i]);
+        }
+        livres.offer(reconhecedor);
+        return bloco;
+    }
+
+    private static void entregar(Bloco bloco, Consumer<BatchResult> callback, long[] aceitas) {
+        for (int i = 0; i < bloco.palavras.length; i++) {
+            if (bloco.aceitas[i]) aceitas[0]++;
+            if (callback != null) {
+                callback.accept(new BatchResult(bloco.primeiro + i, bloco.palavras[i], bloco.aceitas[i]));
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.Arrays;
+
+// Simulação de AFND por conjuntos de estados (estilo Thompson): o conjunto ativo é um
+// vetor de bits e avança um caractere por vez usando os ε-fechos pré-calculados.
+public final class BitSetNFA {
+
+    // Caminho de aceitação reconstruído pelos ponteiros de retorno.
+    // posicoes[i] é o índice do caractere consumido no passo i, ou -1 para ε.
+    public static final class Caminho {
+        private final int[] estados;
+        private final int[] posicoes;
+
+        Caminho(int[] estados, int[] posicoes) {
+            this.estados = estados;
+            this.posicoes = posicoes;
+        }
+
+        public int length() { return posicoes.length; }
+        public int getEstado(int i) { return estados[i]; }
+        public int getPosicao(int passo) { return posicoes[passo]; }
+    }
+
+    private final CompiledAutomaton automato;
+    private final int palavras;
+    private final long[] finais;
+
+    public BitSetNFA(CompiledAutomaton automato) {
+        this.automato = automato;
+        this.palavras = automato.bitSetWords();
+        this.finais = new long[palavras];
+        for (int q = 0; q < automato.getStateCount(); q++) {
+            if (automato.isFinal(q)) {
+                finais[q >>> 6] |= 1L << q;
+            }
+        }
+    }
+
+    public CompiledAutomaton getAutomaton() { return automato; }
+
+    // Aceitação sem caminho: dois vetores de bits reaproveitados a cada caractere
+    public boolean accepts(CharSequence palavra) {
+        int inicial = automato.getInitialState();
+        if (inicial == CompiledAutomaton.SEM_TRANSICAO) return false;
+
+        long[] atual = new long[palavras];
+        long[] proximo = new long[palavras];
+        adicionarFecho(atual, inicial);
+
+        for (int i = 0, n = palavra.length(); i < n; i++) {
+            int simbolo = automato.symbolOf(palavra.charAt(i));
+            if (simbolo == CompiledAutomaton.SEM_TRANSICAO) return false;
+            if (!step(atual, simbolo, proximo)) return false;
+            long[] troca = atual;
+            atual = proximo;
+            proximo = troca;
+        }
+        return intersectsFinal(atual);
+    }
+
+    public void initialSet(long[] destino) {
+        Arrays.fill(destino, 0L);
+        int inicial = automato.getInitialState();
+        if (inicial != CompiledAutomaton.SEM_TRANSICAO) {
+            adicionarFecho(destino, inicial);
+        }
+    }
+
+    // Calcula em 'proximo' o conjunto alcançado a partir de 'atual' lendo o símbolo.
+    // Retorna false se o conjunto resultante for vazio.
+    public boolean step(long[] atual, int simbolo, long[] proximo) {
+        Arrays.fill(proximo, 0L);
+        boolean vazio = true;
+        for (int w = 0; w < palavras; w++) {
+            long bits = atual[w];
+            while (bits != 0) {
+                int q = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                for (int destino : automato.targets(q, simbolo)) {
+                    if ((proximo[destino >>> 6] & (1L << destino)) == 0) {
+                        adicionarFecho(proximo, destino);
+                        vazio = false;
+                    }
+                }
+            }
+        }
+        return !vazio;
+    }
+
+    public boolean intersectsFinal(long[] conjunto) {
+        for (int w = 0; w < palavras; w++) {
+            if ((conjunto[w] & finais[w]) != 0) return true;
+        }
+        return false;
+    }
+
+    private void adicionarFecho(long[] conjunto, int estado) {
+        if (!automato.hasEpsilonTransitions()) {
+            conjunto[estado >>> 6] |= 1L << estado;
+            return;
+        }
+        long[] fecho = automato.epsilonClosure(estado);
+        for (int w = 0; w < palavras; w++) {
+            conjunto[w] |= fecho[w];
+        }
+    }
+
+    // Reconstrói um caminho de aceitação. Só aqui os ponteiros de retorno são guardados
+    // (um int por estado e posição); retorna null se a palavra for rejeitada.
+    public Caminho acceptingPath(CharSequence palavra) {
+        int inicial = automato.getInitialState();
+        if (inicial == CompiledAutomaton.SEM_TRANSICAO) return null;
+
+        int n = palavra.length();
+        int totalEstados = automato.getStateCount();
+        // pai[i][q] = (predecessor << 1) | (1 se consumiu o caractere i - 1, 0 se ε); -1 = ausente
+        int[][] pai = new int[n + 1][];
+        int[] fila = new int[totalEstados];
+
+        pai[0] = novoNivel(totalEstados);
+        pai[0][inicial] = inicial << 1;
+        int tamanho = fecharNivel(pai[0], fila, 0, inicial);
+
+        for (int i = 0; i < n; i++) {
+            int simbolo = automato.symbolOf(palavra.charAt(i));
+            if (simbolo == CompiledAutomaton.SEM_TRANSICAO) return null;
+            int[] nivel = novoNivel(totalEstados);
+            int novos = 0;
+            for (int j = 0; j < tamanho; j++) {
+                int q = fila[j];
+                for (int destino : automato.targets(q, simbolo)) {
+                    if (nivel[destino] == -1) {
+                        nivel[destino] = (q << 1) | 1;
+                        novos++;
+                    }
+                }
+            }
+            if (novos == 0) return null;
+            tamanho = 0;
+            for (int q = 0; q < totalEstados; q++) {
+                if (nivel[q] != -1 && (nivel[q] & 1) == 1) {
+                    tamanho = fecharNivel(nivel, fila, tamanho, q);
+                }
+            }
+            pai[i + 1] = nivel;
+        }
+
+        int fim = -1;
+        for (int q = 0; q < totalEstados && fim == -1; q++) {
+            if (pai[n][q] != -1 && automato.isFinal(q)) fim = q;
+        }
+        if (fim == -1) return null;
+
+        // Percorre os ponteiros de trás para frente
+        int[] estados = new int[n + 2];
+        int[] posicoes = new int[n + 2];
+        int passos = 0;
+        int q = fim;
+        int i = n;
+        estados[0] = q;
+        while (i > 0 || q != inicial) {
+            if (passos + 1 == estados.length) {
+                estados = Arrays.copyOf(estados, estados.length * 2);
+                posicoes = Arrays.copyOf(posicoes, posicoes.length * 2);
+            }
+            int valor = pai[i][q];
+            boolean consumiu = (valor & 1) == 1;
+            posicoes[passos] = consumiu ? i - 1 : -1;
+            q = valor >>> 1;
+            if (consumiu) i--;
+            estados[++passos] = q;
+        }
+
+        int[] caminhoEstados = new int[passos + 1];
+        int[] caminhoPosicoes = new int[passos];
+        for (int p = 0; p <= passos; p++) {
+            caminhoEstados[p] = estados[passos - p];
+        }
+        for (int p = 0; p < passos; p++) {
+            caminhoPosicoes[p] = posicoes[passos - 1 - p];
+        }
+        return new Caminho(caminhoEstados, caminhoPosicoes);
+    }
+
+    private static int[] novoNivel(int totalEstados) {
+        int[] nivel = new int[totalEstados];
+        Arrays.fill(nivel, -1);
+        return nivel;
+    }
+
+    // Busca em largura pelas transições ε a partir de 'origem', anotando o predecessor
+    private int fecharNivel(int[] nivel, int[] fila, int tamanho, int origem) {
+        int inicio = tamanho;
+        fila[tamanho++] = origem;
+        while (inicio < tamanho) {
+            int atual = fila[inicio++];
+            for (int destino : automato.epsilonTargets(atual)) {
+                if (nivel[destino] == -1) {
+                    nivel[destino] = atual << 1;
+                    fila[tamanho++] = destino;
+                }
+            }
+        }
+        return tamanho;
+    }
+}
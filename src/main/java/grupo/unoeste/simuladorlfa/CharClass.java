@@ -0,0 +1,269 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.*;
+
+// Conjunto de caracteres como faixas ordenadas e disjuntas [início, fim] (inclusive).
+//
+// Sintaxe dos símbolos de transição que viram classes:
+//   a-z       faixa
+//   [a-z0-9_] classe com caracteres e faixas; [^...] é o complemento
+//   outro     qualquer caractere que nenhuma outra transição do estado lê
+// Dentro de [...] a barra invertida escapa o próximo caractere (\], \-, \\), \t \n \r são
+// tabulação e quebras de linha e \\uXXXX dá o código. O rótulo gerado por label() é lido
+// de volta pelo parse() sem perda.
+public final class CharClass {
+
+    public static final String OUTRO = "outro";
+
+    private static final int MAXIMO = Character.MAX_VALUE;
+    private static final CharClass VAZIA = new CharClass(new int[0]);
+    private static final CharClass TODOS = new CharClass(new int[]{0, MAXIMO});
+
+    private final int[] faixas; // [início0, fim0, início1, fim1, ...]
+
+    private CharClass(int[] faixas) {
+        this.faixas = faixas;
+    }
+
+    public static CharClass empty() { return VAZIA; }
+    public static CharClass all() { return TODOS; }
+
+    public static CharClass of(char c) {
+        return new CharClass(new int[]{c, c});
+    }
+
+    public static CharClass range(char inicio, char fim) {
+        return inicio <= fim ? new CharClass(new int[]{inicio, fim}) : VAZIA;
+    }
+
+    // Classe descrita pelo símbolo, ou null se ele não for faixa nem [...] (caractere
+    // isolado, token de vários caracteres, ε ou "outro")
+    public static CharClass parse(String simbolo) {
+        if (simbolo.length() == 3 && simbolo.charAt(1) == '-' && simbolo.charAt(0) != '['
+                && simbolo.charAt(0) <= simbolo.charAt(2)) {
+            return range(simbolo.charAt(0), simbolo.charAt(2));
+        }
+        if (simbolo.length() < 3 || simbolo.charAt(0) != '[' || simbolo.charAt(simbolo.length() - 1) != ']') {
+            return null;
+        }
+        int fim = simbolo.length() - 1;
+        int i = 1;
+        boolean negada = simbolo.charAt(i) == '^';
+        if (negada) i++;
+        List<int[]> lidas = new ArrayList<>();
+        int[] posicao = {i};
+        while (posicao[0] < fim) {
+            int inicio = lerCaractere(simbolo, posicao, fim);
+            if (inicio < 0) return null;
+            int ultimo = inicio;
+            if (posicao[0] + 1 < fim && simbolo.charAt(posicao[0]) == '-') {
+                posicao[0]++;
+                ultimo = lerCaractere(simbolo, posicao, fim);
+                if (ultimo < inicio) return null;
+            }
+            lidas.add(new int[]{inicio, ultimo});
+        }
+        if (lidas.isEmpty() && !negada) {
+            return null;
+        }
+        CharClass classe = normalizar(lidas);
+        return negada ? classe.complement() : classe;
+    }
+
+    // Caractere na posição (com escapes); avança a posição. -1 se o escape estiver incompleto
+    private static int lerCaractere(String texto, int[] posicao, int fim) {
+        char c = texto.charAt(posicao[0]++);
+        if (c != '\\') {
+            return c;
+        }
+        if (posicao[0] >= fim) return -1;
+        char escapado = texto.charAt(posicao[0]++);
+        if (escapado == 't') return '\t';
+        if (escapado == 'n') return '\n';
+        if (escapado == 'r') return '\r';
+        if (escapado == 'u' && posicao[0] + 4 <= fim) {
+            try {
+                int codigo = Integer.parseInt(texto.substring(posicao[0], posicao[0] + 4), 16);
+                posicao[0] += 4;
+                return codigo;
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        return escapado;
+    }
+
+    private static CharClass normalizar(List<int[]> lidas) {
+        lidas.sort(Comparator.comparingInt(f -> f[0]));
+        int[] faixas = new int[2 * lidas.size()];
+        int tamanho = 0;
+        for (int[] faixa : lidas) {
+            if (tamanho > 0 && faixa[0] <= faixas[tamanho - 1] + 1) {
+                faixas[tamanho - 1] = Math.max(faixas[tamanho - 1], faixa[1]);
+            } else {
+                faixas[tamanho++] = faixa[0];
+                faixas[tamanho++] = faixa[1];
+            }
+        }
+        return new CharClass(Arrays.copyOf(faixas, tamanho));
+    }
+
+    // --- Consultas ---
+
+    public boolean isEmpty() { return faixas.length == 0; }
+    public int getRangeCount() { return faixas.length / 2; }
+    public char getRangeStart(int i) { return (char) faixas[2 * i]; }
+    public char getRangeEnd(int i) { return (char) faixas[2 * i + 1]; }
+
+    public boolean contains(char c) {
+        int baixo = 0, alto = faixas.length / 2 - 1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (c < faixas[2 * meio]) alto = meio - 1;
+            else if (c > faixas[2 * meio + 1]) baixo = meio + 1;
+            else return true;
+        }
+        return false;
+    }
+
+    // Número de caracteres
+    public int size() {
+        int total = 0;
+        for (int i = 0; i < faixas.length; i += 2) {
+            total += faixas[i + 1] - faixas[i] + 1;
+        }
+        return total;
+    }
+
+    // i-ésimo caractere em ordem crescente (0 <= i < size())
+    public char charAt(int i) {
+        for (int f = 0; f < faixas.length; f += 2) {
+            int largura = faixas[f + 1] - faixas[f] + 1;
+            if (i < largura) return (char) (faixas[f] + i);
+            i -= largura;
+        }
+        throw new IndexOutOfBoundsException("Caractere " + i + " fora da classe");
+    }
+
+    public char first() {
+        return (char) faixas[0];
+    }
+
+    // --- Operações ---
+
+    public CharClass complement() {
+        List<int[]> resultado = new ArrayList<>();
+        int proximo = 0;
+        for (int i = 0; i < faixas.length; i += 2) {
+            if (faixas[i] > proximo) resultado.add(new int[]{proximo, faixas[i] - 1});
+            proximo = faixas[i + 1] + 1;
+        }
+        if (proximo <= MAXIMO) resultado.add(new int[]{proximo, MAXIMO});
+        return normalizar(resultado);
+    }
+
+    public CharClass union(CharClass outra) {
+        List<int[]> todas = new ArrayList<>(getRangeCount() + outra.getRangeCount());
+        for (CharClass classe : List.of(this, outra)) {
+            for (int i = 0; i < classe.faixas.length; i += 2) {
+                todas.add(new int[]{classe.faixas[i], classe.faixas[i + 1]});
+            }
+        }
+        return normalizar(todas);
+    }
+
+    // Átomos: a partição mais grossa em que cada classe dada é união de átomos. Cada átomo
+    // é um conjunto de caracteres que pertence exatamente às mesmas classes; caracteres fora
+    // de todas as classes não entram. Ordem: pelo primeiro caractere.
+    public static List<CharClass> partition(Collection<CharClass> classes) {
+        List<CharClass> lista = new ArrayList<>(classes);
+        TreeSet<Integer> fronteiras = new TreeSet<>();
+        for (CharClass classe : lista) {
+            for (int i = 0; i < classe.faixas.length; i += 2) {
+                fronteiras.add(classe.faixas[i]);
+                fronteiras.add(classe.faixas[i + 1] + 1);
+            }
+        }
+
+        // Intervalos elementares agrupados pela assinatura (em quais classes estão)
+        Map<BitSet, List<int[]>> porAssinatura = new LinkedHashMap<>();
+        Integer inicio = fronteiras.isEmpty() ? null : fronteiras.first();
+        while (inicio != null) {
+            Integer proxima = fronteiras.higher(inicio);
+            if (proxima == null) break;
+            BitSet assinatura = new BitSet(lista.size());
+            for (int c = 0; c < lista.size(); c++) {
+                if (lista.get(c).contains((char) (int) inicio)) assinatura.set(c);
+            }
+            if (!assinatura.isEmpty()) {
+                porAssinatura.computeIfAbsent(assinatura, a -> new ArrayList<>()).add(new int[]{inicio, proxima - 1});
+            }
+            inicio = proxima;
+        }
+
+        List<CharClass> atomos = new ArrayList<>(porAssinatura.size());
+        for (List<int[]> intervalos : porAssinatura.values()) {
+            atomos.add(normalizar(intervalos));
+        }
+        atomos.sort(Comparator.comparingInt(CharClass::first));
+        return atomos;
+    }
+
+    // --- Rótulo ---
+
+    // Rótulo que parse() lê de volta: o próprio caractere quando é um só (e não confunde
+    // com ε, vírgula ou espaço), senão [...] ou [^...], o que for mais curto
+    public String label() {
+        if (faixas.length == 2 && faixas[0] == faixas[1] && simples((char) faixas[0])) {
+            return String.valueOf((char) faixas[0]);
+        }
+        String direta = "[" + escrever(this) + "]";
+        CharClass complemento = complement();
+        if (complemento.isEmpty()) {
+            return "[^]";
+        }
+        String negada = "[^" + escrever(complemento) + "]";
+        return negada.length() < direta.length() ? negada : direta;
+    }
+
+    private static boolean simples(char c) {
+        return c > ' ' && c != ',' && c != 'ε' && c != '[' && c != '\\' && !Character.isWhitespace(c);
+    }
+
+    private static String escrever(CharClass classe) {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < classe.faixas.length; i += 2) {
+            escreverCaractere(texto, classe.faixas[i], i == 0);
+            if (classe.faixas[i + 1] > classe.faixas[i]) {
+                if (classe.faixas[i + 1] > classe.faixas[i] + 1) texto.append('-');
+                escreverCaractere(texto, classe.faixas[i + 1], false);
+            }
+        }
+        return texto.toString();
+    }
+
+    private static void escreverCaractere(StringBuilder texto, int c, boolean primeiro) {
+        if (c <= ' ' || c > '~' && (Character.isWhitespace(c) || Character.isISOControl(c) || c > 0xFF00)) {
+            texto.append(String.format("\\u%04x", c));
+        } else if (c == ']' || c == '\\' || c == '-' || c == ',' || (primeiro && c == '^')) {
+            texto.append('\\').append((char) c);
+        } else {
+            texto.append((char) c);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CharClass && Arrays.equals(faixas, ((CharClass) obj).faixas);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(faixas);
+    }
+
+    @Override
+    public String toString() {
+        return label();
+    }
+}
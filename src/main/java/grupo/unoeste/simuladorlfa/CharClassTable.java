@@ -0,0 +1,66 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.*;
+
+// Caractere -> símbolo para um alfabeto de classes disjuntas. Os caracteres abaixo de 256
+// são lidos direto de uma tabela; os demais por busca binária nas faixas ordenadas, então
+// uma classe como [^a] ocupa uma faixa e não 65535 entradas.
+final class CharClassTable {
+
+    private final int[] baixos = new int[256];
+    private final int[] inicios; // faixas ordenadas pelo início
+    private final int[] fins;
+    private final int[] simbolos;
+
+    CharClassTable(int[] inicios, int[] fins, int[] simbolos) {
+        this.inicios = inicios;
+        this.fins = fins;
+        this.simbolos = simbolos;
+        Arrays.fill(baixos, CompiledAutomaton.SEM_TRANSICAO);
+        for (int f = 0; f < inicios.length && inicios[f] < baixos.length; f++) {
+            for (int c = inicios[f]; c <= fins[f] && c < baixos.length; c++) {
+                baixos[c] = simbolos[f];
+            }
+        }
+    }
+
+    // Símbolo s -> classes[s] (as classes não podem se sobrepor)
+    static CharClassTable of(CharClass[] classes) {
+        List<int[]> faixas = new ArrayList<>();
+        for (int s = 0; s < classes.length; s++) {
+            for (int f = 0; f < classes[s].getRangeCount(); f++) {
+                faixas.add(new int[]{classes[s].getRangeStart(f), classes[s].getRangeEnd(f), s});
+            }
+        }
+        faixas.sort(Comparator.comparingInt(f -> f[0]));
+        int[] inicios = new int[faixas.size()];
+        int[] fins = new int[faixas.size()];
+        int[] simbolos = new int[faixas.size()];
+        for (int f = 0; f < faixas.size(); f++) {
+            inicios[f] = faixas.get(f)[0];
+            fins[f] = faixas.get(f)[1];
+            simbolos[f] = faixas.get(f)[2];
+        }
+        return new CharClassTable(inicios, fins, simbolos);
+    }
+
+    int symbolOf(char c) {
+        if (c < baixos.length) {
+            return baixos[c];
+        }
+        int baixo = 0, alto = inicios.length - 1;
+        while (baixo <= alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (c < inicios[meio]) alto = meio - 1;
+            else if (c > fins[meio]) baixo = meio + 1;
+            else return simbolos[meio];
+        }
+        return CompiledAutomaton.SEM_TRANSICAO;
+    }
+
+    // Faixas em ordem crescente de caractere
+    int getRangeCount() { return inicios.length; }
+    char getRangeStart(int f) { return (char) inicios[f]; }
+    char getRangeEnd(int f) { return (char) fins[f]; }
+    int getRangeSymbol(int f) { return simbolos[f]; }
+}
@@ -0,0 +1,441 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+
+import java.util.*;
+
+// Representação compilada do autômato: estados viram índices inteiros, o alfabeto é
+// internado e as transições ficam numa tabela densa [estado * |Σ| + símbolo].
+// Dos estados guarda só nome e posição; Estado (JavaFX) é criado apenas em toModel/getEstado.
+//
+// Cada símbolo compilado é uma classe de caracteres (ver CharClass): os rótulos do editor
+// ("a", "a-z", "[^0-9]", "outro") são divididos em átomos disjuntos, e a entrada é lida
+// caractere a caractere por CharClassTable, sem criar Strings. Um token de vários
+// caracteres ("if", "->") vira uma cadeia de estados auxiliares, um por prefixo,
+// numerados depois dos estados declarados (isTokenState).
+public final class CompiledAutomaton {
+
+    public static final int SEM_TRANSICAO = -1;
+
+    private static final int[] VAZIO = new int[0];
+
+    private final String[] nomes;
+    private final double[] x;
+    private final double[] y;
+    private final int estadosDeclarados; // os demais são estados de token
+    private volatile Map<String, Integer> indiceNome; // montado na primeira busca por nome
+    private final int inicial;
+    private final boolean[] finais;
+
+    private final String[] simbolos;      // rótulo de cada classe
+    private final CharClass[] classes;
+    private final Map<String, Integer> indiceSimbolo;
+    private final CharClassTable classeCaractere; // char -> índice do símbolo (ou -1)
+
+    private final int[] tabela;     // primeiro destino por (estado, símbolo)
+    private final int[][] destinos; // todos os destinos por (estado, símbolo)
+    private final int[][] epsilon;  // destinos ε por estado
+    private final boolean deterministico;
+    private final boolean possuiEpsilon;
+
+    private volatile long[][] fechos; // ε-fecho de cada estado, calculado sob demanda
+
+    private CompiledAutomaton(String[] nomes, double[] x, double[] y, int estadosDeclarados, int inicial,
+                              boolean[] finais, CharClass[] classes, int[] tabela, int[][] destinos,
+                              int[][] epsilon, boolean deterministico) {
+        this.nomes = nomes;
+        this.x = x;
+        this.y = y;
+        this.estadosDeclarados = estadosDeclarados;
+        this.inicial = inicial;
+        this.finais = finais;
+        this.classes = classes;
+        this.simbolos = new String[classes.length];
+        this.indiceSimbolo = new HashMap<>();
+        for (int s = 0; s < classes.length; s++) {
+            simbolos[s] = classes[s].label();
+            indiceSimbolo.put(simbolos[s], s);
+        }
+        this.classeCaractere = CharClassTable.of(classes);
+        this.tabela = tabela;
+        this.destinos = destinos;
+        this.epsilon = epsilon;
+        this.deterministico = deterministico;
+
+        boolean algumEpsilon = false;
+        for (int[] e : epsilon) {
+            algumEpsilon |= e.length > 0;
+        }
+        this.possuiEpsilon = algumEpsilon;
+    }
+
+    // Estados do editor (Estado.equals compara pelo nome)
+    public static CompiledAutomaton compile(List<Estado> estados, List<Transicao> transicoes) {
+        return compile(AutomatonModel.toCore(estados, transicoes));
+    }
+
+    public static CompiledAutomaton compile(CoreAutomaton automato) {
+        int declarados = automato.getStateCount();
+        List<String> nomes = new ArrayList<>(declarados);
+        List<double[]> posicoes = new ArrayList<>(declarados);
+        int inicial = SEM_TRANSICAO;
+        for (int q = 0; q < declarados; q++) {
+            nomes.add(automato.getName(q));
+            posicoes.add(new double[]{automato.getX(q), automato.getY(q)});
+            if (inicial == SEM_TRANSICAO && automato.isInitial(q)) {
+                inicial = q;
+            }
+        }
+
+        // Arestas por classe (origem, classe, destino), ε e "outro"
+        List<int[]> arestas = new ArrayList<>();
+        List<CharClass> classesArestas = new ArrayList<>();
+        List<int[]> arestasEpsilon = new ArrayList<>();
+        List<int[]> arestasOutro = new ArrayList<>();
+        Map<String, CharClass> classeDoSimbolo = new HashMap<>();
+        Map<String, Integer> prefixos = new HashMap<>(); // "origem\0prefixo" -> estado de token
+
+        for (int t = 0; t < automato.getTransitionCount(); t++) {
+            int origem = automato.getSource(t);
+            int destino = automato.getTarget(t);
+            for (String simbolo : automato.getSymbols(t)) {
+                if (isEpsilon(simbolo)) {
+                    arestasEpsilon.add(new int[]{origem, destino});
+                    continue;
+                }
+                if (simbolo.equals(CharClass.OUTRO)) {
+                    arestasOutro.add(new int[]{origem, destino});
+                    continue;
+                }
+                CharClass classe = classeDoSimbolo.computeIfAbsent(simbolo,
+                        k -> k.length() == 1 ? CharClass.of(k.charAt(0)) : CharClass.parse(k));
+                if (classe != null) {
+                    arestas.add(new int[]{origem, destino});
+                    classesArestas.add(classe);
+                    continue;
+                }
+
+                // Token: um estado auxiliar por prefixo, compartilhado entre os tokens da origem
+                int atual = origem;
+                for (int i = 0; i < simbolo.length() - 1; i++) {
+                    String chave = origem + "\0" + simbolo.substring(0, i + 1);
+                    Integer proximo = prefixos.get(chave);
+                    if (proximo == null) {
+                        proximo = nomes.size();
+                        prefixos.put(chave, proximo);
+                        double fracao = (i + 1.0) / simbolo.length();
+                        nomes.add(nomes.get(origem) + "·" + simbolo.substring(0, i + 1));
+                        posicoes.add(new double[]{
+                                automato.getX(origem) + fracao * (automato.getX(destino) - automato.getX(origem)),
+                                automato.getY(origem) + fracao * (automato.getY(destino) - automato.getY(origem))});
+                    }
+                    arestas.add(new int[]{atual, proximo});
+                    classesArestas.add(classeDoSimbolo.computeIfAbsent(String.valueOf(simbolo.charAt(i)),
+                            k -> CharClass.of(k.charAt(0))));
+                    atual = proximo;
+                }
+                arestas.add(new int[]{atual, destino});
+                classesArestas.add(classeDoSimbolo.computeIfAbsent(simbolo.substring(simbolo.length() - 1),
+                        k -> CharClass.of(k.charAt(0))));
+            }
+        }
+
+        // "outro": o que nenhuma outra transição da origem lê
+        if (!arestasOutro.isEmpty()) {
+            Map<Integer, CharClass> lidos = new HashMap<>();
+            for (int[] aresta : arestasOutro) {
+                lidos.put(aresta[0], CharClass.empty());
+            }
+            for (int a = 0; a < arestas.size(); a++) {
+                CharClass classe = classesArestas.get(a);
+                lidos.computeIfPresent(arestas.get(a)[0], (q, lido) -> lido.union(classe));
+            }
+            for (int[] aresta : arestasOutro) {
+                CharClass resto = lidos.get(aresta[0]).complement();
+                if (!resto.isEmpty()) {
+                    arestas.add(aresta);
+                    classesArestas.add(resto);
+                }
+            }
+        }
+
+        // Alfabeto: átomos das classes usadas; cada classe vira a lista dos seus átomos
+        Set<CharClass> distintas = new LinkedHashSet<>(classesArestas);
+        List<CharClass> atomos = CharClass.partition(distintas);
+        Map<CharClass, int[]> atomosDaClasse = new HashMap<>();
+        for (CharClass classe : distintas) {
+            int[] lista = new int[atomos.size()];
+            int tamanho = 0;
+            for (int s = 0; s < atomos.size(); s++) {
+                if (classe.contains(atomos.get(s).first())) lista[tamanho++] = s;
+            }
+            atomosDaClasse.put(classe, Arrays.copyOf(lista, tamanho));
+        }
+
+        int n = nomes.size();
+        int k = atomos.size();
+        boolean[] finais = new boolean[n];
+        for (int q = 0; q < declarados; q++) {
+            finais[q] = automato.isFinal(q);
+        }
+
+        int[] tabela = new int[n * k];
+        Arrays.fill(tabela, SEM_TRANSICAO);
+        int[][] destinos = new int[n * k][];
+        int[][] epsilon = new int[n][];
+        int[] tamanhoEpsilon = new int[n];
+        int[] tamanhoDestinos = new int[n * k];
+        boolean deterministico = arestasEpsilon.isEmpty();
+
+        for (int[] aresta : arestasEpsilon) {
+            int origem = aresta[0];
+            epsilon[origem] = adicionar(epsilon[origem], tamanhoEpsilon[origem]++, aresta[1]);
+        }
+        for (int a = 0; a < arestas.size(); a++) {
+            int origem = arestas.get(a)[0];
+            int destino = arestas.get(a)[1];
+            for (int s : atomosDaClasse.get(classesArestas.get(a))) {
+                int celula = origem * k + s;
+                if (tabela[celula] == SEM_TRANSICAO) {
+                    tabela[celula] = destino;
+                } else if (tabela[celula] != destino) {
+                    deterministico = false;
+                }
+                if (!contem(destinos[celula], tamanhoDestinos[celula], destino)) {
+                    destinos[celula] = adicionar(destinos[celula], tamanhoDestinos[celula]++, destino);
+                }
+            }
+        }
+
+        for (int c = 0; c < destinos.length; c++) {
+            destinos[c] = destinos[c] == null ? VAZIO : Arrays.copyOf(destinos[c], tamanhoDestinos[c]);
+        }
+        for (int q = 0; q < n; q++) {
+            epsilon[q] = epsilon[q] == null ? VAZIO : Arrays.copyOf(epsilon[q], tamanhoEpsilon[q]);
+        }
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int q = 0; q < n; q++) {
+            x[q] = posicoes.get(q)[0];
+            y[q] = posicoes.get(q)[1];
+        }
+        return new CompiledAutomaton(nomes.toArray(new String[0]), x, y, declarados, inicial, finais,
+                atomos.toArray(new CharClass[0]), tabela, destinos, epsilon, deterministico);
+    }
+
+    // Monta um AFD a partir de uma tabela já pronta (determinização, minimização etc.);
+    // as classes precisam ser disjuntas
+    static CompiledAutomaton fromTable(String[] nomes, double[] x, double[] y, int inicial, boolean[] finais,
+                                       CharClass[] classes, int[] tabela) {
+        int[][] destinos = new int[tabela.length][];
+        for (int c = 0; c < tabela.length; c++) {
+            destinos[c] = tabela[c] == SEM_TRANSICAO ? VAZIO : new int[]{tabela[c]};
+        }
+        int[][] epsilon = new int[nomes.length][];
+        Arrays.fill(epsilon, VAZIO);
+        return new CompiledAutomaton(nomes, x, y, nomes.length, inicial, finais, classes,
+                tabela, destinos, epsilon, true);
+    }
+
+    private static boolean isEpsilon(String simbolo) {
+        return simbolo.equals("ε") || simbolo.isEmpty();
+    }
+
+    private static int[] adicionar(int[] vetor, int tamanho, int valor) {
+        if (vetor == null) {
+            vetor = new int[2];
+        } else if (tamanho == vetor.length) {
+            vetor = Arrays.copyOf(vetor, tamanho * 2);
+        }
+        vetor[tamanho] = valor;
+        return vetor;
+    }
+
+    private static boolean contem(int[] vetor, int tamanho, int valor) {
+        for (int i = 0; i < tamanho; i++) {
+            if (vetor[i] == valor) return true;
+        }
+        return false;
+    }
+
+    // --- Consultas ---
+
+    public int getStateCount() { return nomes.length; }
+    public int getSymbolCount() { return simbolos.length; }
+    public int getInitialState() { return inicial; }
+    public boolean isFinal(int estado) { return finais[estado]; }
+    public boolean isDeterministic() { return deterministico; }
+    public String getStateName(int estado) { return nomes[estado]; }
+    public double getX(int estado) { return x[estado]; }
+    public double getY(int estado) { return y[estado]; }
+    public String getSymbol(int simbolo) { return simbolos[simbolo]; }
+    public CharClass getSymbolClass(int simbolo) { return classes[simbolo]; }
+    public CharClass[] getSymbolClasses() { return classes.clone(); }
+
+    // Estados criados para os tokens de vários caracteres vêm depois dos declarados
+    public int getDeclaredStateCount() { return estadosDeclarados; }
+    public boolean isTokenState(int estado) { return estado >= estadosDeclarados; }
+
+    // Novo Estado (modelo de visão) com o nome, a posição e as marcações do estado
+    public Estado getEstado(int estado) {
+        Estado visao = new Estado(nomes[estado], x[estado], y[estado]);
+        visao.setInicial(estado == inicial);
+        visao.setFinal(finais[estado]);
+        return visao;
+    }
+
+    // Índice do primeiro estado com o nome (Estado.equals também compara pelo nome)
+    public int indexOf(String nome) {
+        Map<String, Integer> indice = indiceNome;
+        if (indice == null) {
+            indice = new HashMap<>();
+            for (int q = 0; q < nomes.length; q++) {
+                indice.putIfAbsent(nomes[q], q);
+            }
+            indiceNome = indice;
+        }
+        Integer q = indice.get(nome);
+        return q == null ? SEM_TRANSICAO : q;
+    }
+
+    public int indexOf(Estado estado) {
+        return indexOf(estado.getNome());
+    }
+
+    public int symbolIndex(String simbolo) {
+        Integer indice = indiceSimbolo.get(simbolo);
+        return indice == null ? SEM_TRANSICAO : indice;
+    }
+
+    public int symbolOf(char c) {
+        return classeCaractere.symbolOf(c);
+    }
+
+    // Faixas de caracteres do alfabeto em ordem crescente, com o símbolo de cada uma
+    CharClassTable charClassTable() {
+        return classeCaractere;
+    }
+
+    // Próximo estado pela tabela (primeiro destino no caso de AFND)
+    public int step(int estado, int simbolo) {
+        return tabela[estado * simbolos.length + simbolo];
+    }
+
+    public int[] targets(int estado, int simbolo) {
+        return destinos[estado * simbolos.length + simbolo];
+    }
+
+    public int[] epsilonTargets(int estado) {
+        return epsilon[estado];
+    }
+
+    public boolean hasEpsilonTransitions() { return possuiEpsilon; }
+
+    // Número de longs usados por um conjunto de estados em bits
+    public int bitSetWords() {
+        return (nomes.length + 63) >>> 6;
+    }
+
+    // ε-fecho do estado como conjunto de bits (inclui o próprio estado)
+    public long[] epsilonClosure(int estado) {
+        long[][] atual = fechos;
+        if (atual == null) {
+            atual = calcularFechos();
+        }
+        return atual[estado];
+    }
+
+    private synchronized long[][] calcularFechos() {
+        if (fechos != null) {
+            return fechos;
+        }
+        int n = nomes.length;
+        int palavras = bitSetWords();
+        long[][] resultado = new long[n][];
+        int[] pilha = new int[n];
+        for (int q = 0; q < n; q++) {
+            long[] fecho = new long[palavras];
+            fecho[q >>> 6] |= 1L << q;
+            int topo = 0;
+            pilha[topo++] = q;
+            while (topo > 0) {
+                int atual = pilha[--topo];
+                for (int destino : epsilon[atual]) {
+                    long bit = 1L << destino;
+                    if ((fecho[destino >>> 6] & bit) == 0) {
+                        fecho[destino >>> 6] |= bit;
+                        pilha[topo++] = destino;
+                    }
+                }
+            }
+            resultado[q] = fecho;
+        }
+        fechos = resultado;
+        return resultado;
+    }
+
+    // Converte de volta para estados/transições novos (uma Transicao por par origem/destino)
+    public AutomatonModel toModel() {
+        int n = nomes.length;
+        int k = simbolos.length;
+        List<Estado> novosEstados = new ArrayList<>(n);
+        for (int q = 0; q < n; q++) {
+            novosEstados.add(getEstado(q));
+        }
+
+        List<Transicao> novasTransicoes = new ArrayList<>();
+        Map<Integer, StringJoiner> rotulos = new LinkedHashMap<>();
+        for (int q = 0; q < n; q++) {
+            rotulos.clear();
+            for (int destino : epsilon[q]) {
+                rotulos.computeIfAbsent(destino, d -> new StringJoiner(",")).add("ε");
+            }
+            for (int s = 0; s < k; s++) {
+                for (int destino : destinos[q * k + s]) {
+                    rotulos.computeIfAbsent(destino, d -> new StringJoiner(",")).add(simbolos[s]);
+                }
+            }
+            for (Map.Entry<Integer, StringJoiner> rotulo : rotulos.entrySet()) {
+                novasTransicoes.add(new Transicao(novosEstados.get(q), novosEstados.get(rotulo.getKey()),
+                        rotulo.getValue().toString()));
+            }
+        }
+        return new AutomatonModel(novosEstados, novasTransicoes);
+    }
+
+    // Execução do AFD sobre a tabela, sem alocação por caractere
+    public boolean accepts(CharSequence palavra) {
+        if (!deterministico) {
+            throw new IllegalStateException("Autômato não determinístico: use a simulação de AFND");
+        }
+        int atual = inicial;
+        if (atual == SEM_TRANSICAO) return false;
+        int k = simbolos.length;
+        for (int i = 0, n = palavra.length(); i < n; i++) {
+            int simbolo = classeCaractere.symbolOf(palavra.charAt(i));
+            if (simbolo == SEM_TRANSICAO) return false;
+            atual = tabela[atual * k + simbolo];
+            if (atual == SEM_TRANSICAO) return false;
+        }
+        return finais[atual];
+    }
+
+    // Mesma execução sobre bytes, cada um lido como o caractere 0-255 (ISO-8859-1)
+    public boolean accepts(byte[] entrada) {
+        if (!deterministico) {
+            throw new IllegalStateException("Autômato não determinístico: use a simulação de AFND");
+        }
+        int atual = inicial;
+        if (atual == SEM_TRANSICAO) return false;
+        int k = simbolos.length;
+        for (byte b : entrada) {
+            int simbolo = classeCaractere.symbolOf((char) (b & 0xFF));
+            if (simbolo == SEM_TRANSICAO) return false;
+            atual = tabela[atual * k + simbolo];
+            if (atual == SEM_TRANSICAO) return false;
+        }
+        return finais[atual];
+    }
+}
@@ -0,0 +1,170 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.util.SymbolLabels;
+
+import java.util.*;
+
+// Autômato em forma simples e imutável, sem propriedades JavaFX: nome, posição e
+// marcações de cada estado em vetores paralelos, e cada transição como
+// (origem, destino, rótulo) por índice. É o que os leitores de arquivo produzem e o que
+// CompiledAutomaton compila, então simular a partir de um arquivo não cria nenhum Estado.
+//
+// Estado/Transicao ficam como modelo de visão do editor: AutomatonModel.fromCore cria os
+// objetos desenháveis e AutomatonModel.toCore tira uma cópia simples deles.
+public final class CoreAutomaton {
+
+    private static final double RAIO_MINIMO = 200;
+    private static final double ESPACAMENTO = 80; // distância aproximada entre estados vizinhos
+    private static final double MARGEM = 100;
+
+    private final String[] nomes;
+    private final double[] x;
+    private final double[] y;
+    private final boolean[] iniciais;
+    private final boolean[] finais;
+
+    private final int[] origens;
+    private final int[] destinos;
+    private final String[] rotulos;
+    private final List<String>[] simbolos; // rótulos lidos uma vez; rótulos iguais dividem a lista
+
+    @SuppressWarnings("unchecked")
+    private CoreAutomaton(Builder builder) {
+        int n = builder.totalEstados;
+        int t = builder.totalTransicoes;
+        nomes = Arrays.copyOf(builder.nomes, n);
+        x = Arrays.copyOf(builder.x, n);
+        y = Arrays.copyOf(builder.y, n);
+        iniciais = Arrays.copyOf(builder.iniciais, n);
+        finais = Arrays.copyOf(builder.finais, n);
+        origens = Arrays.copyOf(builder.origens, t);
+        destinos = Arrays.copyOf(builder.destinos, t);
+        rotulos = Arrays.copyOf(builder.rotulos, t);
+        simbolos = new List[t];
+        Map<String, List<String>> lidos = new HashMap<>();
+        for (int i = 0; i < t; i++) {
+            simbolos[i] = lidos.computeIfAbsent(rotulos[i], rotulo -> List.copyOf(SymbolLabels.parse(rotulo)));
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // --- Consultas ---
+
+    public int getStateCount() { return nomes.length; }
+    public String getName(int estado) { return nomes[estado]; }
+    public double getX(int estado) { return x[estado]; }
+    public double getY(int estado) { return y[estado]; }
+    public boolean isInitial(int estado) { return iniciais[estado]; }
+    public boolean isFinal(int estado) { return finais[estado]; }
+
+    public int getTransitionCount() { return rotulos.length; }
+    public int getSource(int transicao) { return origens[transicao]; }
+    public int getTarget(int transicao) { return destinos[transicao]; }
+    public String getLabel(int transicao) { return rotulos[transicao]; }
+
+    // Símbolos do rótulo ("a,b" -> [a, b]; vazio ou "ε" -> [ε]), lidos como na Transicao;
+    // lista imutável
+    public List<String> getSymbols(int transicao) {
+        return simbolos[transicao];
+    }
+
+    public CompiledAutomaton compile() {
+        return CompiledAutomaton.compile(this);
+    }
+
+    // Posições (x0, y0, x1, y1, ...) de n estados em círculo, para autômatos gerados sem
+    // posições próprias
+    static double[] circularPositions(int n) {
+        double raio = Math.max(RAIO_MINIMO, n * ESPACAMENTO / (2 * Math.PI));
+        double centro = raio + MARGEM;
+        double[] posicoes = new double[2 * n];
+        for (int i = 0; i < n; i++) {
+            double angulo = 2 * Math.PI * i / n;
+            posicoes[2 * i] = centro + raio * Math.cos(angulo);
+            posicoes[2 * i + 1] = centro + raio * Math.sin(angulo);
+        }
+        return posicoes;
+    }
+
+    // Montagem incremental; os estados são numerados na ordem em que são adicionados
+    public static final class Builder {
+        private String[] nomes = new String[16];
+        private double[] x = new double[16];
+        private double[] y = new double[16];
+        private boolean[] iniciais = new boolean[16];
+        private boolean[] finais = new boolean[16];
+        private int totalEstados = 0;
+
+        private int[] origens = new int[16];
+        private int[] destinos = new int[16];
+        private String[] rotulos = new String[16];
+        private int totalTransicoes = 0;
+
+        // Primeiro estado com cada nome, para os leitores que referenciam estados pelo nome
+        private final Map<String, Integer> indiceNome = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public int addState(String nome, double x, double y, boolean inicial, boolean ehFinal) {
+            if (totalEstados == nomes.length) {
+                int capacidade = nomes.length * 2;
+                nomes = Arrays.copyOf(nomes, capacidade);
+                this.x = Arrays.copyOf(this.x, capacidade);
+                this.y = Arrays.copyOf(this.y, capacidade);
+                iniciais = Arrays.copyOf(iniciais, capacidade);
+                finais = Arrays.copyOf(finais, capacidade);
+            }
+            int estado = totalEstados++;
+            nomes[estado] = nome;
+            this.x[estado] = x;
+            this.y[estado] = y;
+            iniciais[estado] = inicial;
+            finais[estado] = ehFinal;
+            indiceNome.putIfAbsent(nome, estado);
+            return estado;
+        }
+
+        public Builder addTransition(int origem, int destino, String rotulo) {
+            if (origem < 0 || origem >= totalEstados || destino < 0 || destino >= totalEstados) {
+                throw new IllegalArgumentException("Transição com estado inexistente: " + origem + " -> " + destino);
+            }
+            if (totalTransicoes == rotulos.length) {
+                int capacidade = rotulos.length * 2;
+                origens = Arrays.copyOf(origens, capacidade);
+                destinos = Arrays.copyOf(destinos, capacidade);
+                rotulos = Arrays.copyOf(rotulos, capacidade);
+            }
+            origens[totalTransicoes] = origem;
+            destinos[totalTransicoes] = destino;
+            rotulos[totalTransicoes] = rotulo == null ? "" : rotulo.trim();
+            totalTransicoes++;
+            return this;
+        }
+
+        // Índice do primeiro estado com o nome, ou -1
+        public int stateIndex(String nome) {
+            Integer estado = indiceNome.get(nome);
+            return estado == null ? -1 : estado;
+        }
+
+        public int getStateCount() { return totalEstados; }
+
+        // Dispõe em círculo os estados adicionados até aqui
+        public Builder circularLayout() {
+            double[] posicoes = circularPositions(totalEstados);
+            for (int q = 0; q < totalEstados; q++) {
+                x[q] = posicoes[2 * q];
+                y[q] = posicoes[2 * q + 1];
+            }
+            return this;
+        }
+
+        public CoreAutomaton build() {
+            return new CoreAutomaton(this);
+        }
+    }
+}
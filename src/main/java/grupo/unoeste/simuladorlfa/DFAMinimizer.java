@@ -0,0 +1,276 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+
+import java.util.*;
+
+// Minimização de AFD pelo algoritmo de Hopcroft (refinamento de partições, O(k·n·log n))
+// sobre a tabela compilada. AFNDs são determinizados antes.
+public class DFAMinimizer {
+
+    public static class MinimizationResult {
+        private final AutomatonModel automato;
+        private final CompiledAutomaton compilado;
+        private final int estadosAntes;
+        private final int transicoesAntes;
+
+        public MinimizationResult(AutomatonModel automato, CompiledAutomaton compilado,
+                                  int estadosAntes, int transicoesAntes) {
+            this.automato = automato;
+            this.compilado = compilado;
+            this.estadosAntes = estadosAntes;
+            this.transicoesAntes = transicoesAntes;
+        }
+
+        public List<Estado> getEstados() { return automato.getEstados(); }
+        public List<Transicao> getTransicoes() { return automato.getTransicoes(); }
+        public AutomatonModel getModel() { return automato; }
+        public CompiledAutomaton getCompiled() { return compilado; }
+        public int getStatesBefore() { return estadosAntes; }
+        public int getStatesAfter() { return automato.getEstados().size(); }
+        public int getTransitionsBefore() { return transicoesAntes; }
+        public int getTransitionsAfter() { return automato.getTransicoes().size(); }
+        public int getRemovedStates() { return getStatesBefore() - getStatesAfter(); }
+        public int getRemovedTransitions() { return getTransitionsBefore() - getTransitionsAfter(); }
+    }
+
+    public static MinimizationResult minimize(List<Estado> estados, List<Transicao> transicoes) {
+        CompiledAutomaton minimo = minimize(CompiledAutomaton.compile(estados, transicoes));
+        return new MinimizationResult(minimo.toModel(), minimo, estados.size(), transicoes.size());
+    }
+
+    public static CompiledAutomaton minimize(CompiledAutomaton automato) {
+        CompiledAutomaton afd = LazyDFA.determinize(automato);
+        int k = afd.getSymbolCount();
+        int inicial = afd.getInitialState();
+        if (inicial == CompiledAutomaton.SEM_TRANSICAO) {
+            return CompiledAutomaton.fromTable(new String[0], new double[0], new double[0],
+                    CompiledAutomaton.SEM_TRANSICAO, new boolean[0], afd.getSymbolClasses(), new int[0]);
+        }
+
+        // 1. Apenas estados alcançáveis, renumerados; o índice n é o estado "poço" que completa o AFD
+        int[] novoIndice = new int[afd.getStateCount()];
+        Arrays.fill(novoIndice, -1);
+        int[] originais = new int[afd.getStateCount()];
+        int n = 0;
+        novoIndice[inicial] = n;
+        originais[n++] = inicial;
+        for (int i = 0; i < n; i++) {
+            for (int s = 0; s < k; s++) {
+                int destino = afd.step(originais[i], s);
+                if (destino != CompiledAutomaton.SEM_TRANSICAO && novoIndice[destino] == -1) {
+                    novoIndice[destino] = n;
+                    originais[n++] = destino;
+                }
+            }
+        }
+        int poco = n;
+        int total = n + 1;
+        int[] delta = new int[total * k];
+        for (int q = 0; q < total; q++) {
+            for (int s = 0; s < k; s++) {
+                int destino = q == poco ? CompiledAutomaton.SEM_TRANSICAO : afd.step(originais[q], s);
+                delta[q * k + s] = destino == CompiledAutomaton.SEM_TRANSICAO ? poco : novoIndice[destino];
+            }
+        }
+
+        // 2. Transições inversas por símbolo em formato compacto (CSR)
+        int[] inicioInverso = new int[k * total + 1];
+        for (int q = 0; q < total; q++) {
+            for (int s = 0; s < k; s++) {
+                inicioInverso[s * total + delta[q * k + s] + 1]++;
+            }
+        }
+        for (int i = 0; i < k * total; i++) {
+            inicioInverso[i + 1] += inicioInverso[i];
+        }
+        int[] inverso = new int[total * k];
+        int[] preenchido = Arrays.copyOf(inicioInverso, k * total);
+        for (int q = 0; q < total; q++) {
+            for (int s = 0; s < k; s++) {
+                inverso[preenchido[s * total + delta[q * k + s]]++] = q;
+            }
+        }
+
+        // 3. Partição inicial {finais, não finais}
+        int[] elementos = new int[total];
+        int[] posicao = new int[total];
+        int[] blocoDe = new int[total];
+        int[] inicioBloco = new int[total + 1];
+        int[] fimBloco = new int[total + 1];
+        int[] marcados = new int[total + 1];
+        int blocos = 0;
+
+        int preenchidos = 0;
+        for (int finalidade = 1; finalidade >= 0; finalidade--) {
+            int inicio = preenchidos;
+            for (int q = 0; q < total; q++) {
+                boolean ehFinal = q != poco && afd.isFinal(originais[q]);
+                if (ehFinal == (finalidade == 1)) {
+                    elementos[preenchidos] = q;
+                    posicao[q] = preenchidos++;
+                    blocoDe[q] = blocos;
+                }
+            }
+            if (preenchidos > inicio) {
+                inicioBloco[blocos] = inicio;
+                fimBloco[blocos] = preenchidos;
+                marcados[blocos] = inicio;
+                blocos++;
+            }
+        }
+
+        // Lista de trabalho de pares (bloco, símbolo)
+        boolean[] naLista = new boolean[(total + 1) * Math.max(1, k)];
+        ArrayDeque<Integer> trabalho = new ArrayDeque<>();
+        if (blocos == 2) {
+            int menor = fimBloco[0] - inicioBloco[0] <= fimBloco[1] - inicioBloco[1] ? 0 : 1;
+            for (int s = 0; s < k; s++) {
+                naLista[menor * k + s] = true;
+                trabalho.add(menor * k + s);
+            }
+        }
+
+        int[] predecessores = new int[total];
+        boolean[] visto = new boolean[total];
+        int[] tocados = new int[total];
+
+        while (!trabalho.isEmpty()) {
+            int par = trabalho.poll();
+            naLista[par] = false;
+            int divisor = par / k;
+            int simbolo = par % k;
+
+            // Estados que chegam ao bloco divisor lendo o símbolo
+            int quantidade = 0;
+            for (int i = inicioBloco[divisor]; i < fimBloco[divisor]; i++) {
+                int q = elementos[i];
+                for (int j = inicioInverso[simbolo * total + q]; j < inicioInverso[simbolo * total + q + 1]; j++) {
+                    int p = inverso[j];
+                    if (!visto[p]) {
+                        visto[p] = true;
+                        predecessores[quantidade++] = p;
+                    }
+                }
+            }
+
+            // Move os marcados para o início do seu bloco
+            int totalTocados = 0;
+            for (int i = 0; i < quantidade; i++) {
+                int p = predecessores[i];
+                visto[p] = false;
+                int b = blocoDe[p];
+                if (marcados[b] == inicioBloco[b]) {
+                    tocados[totalTocados++] = b;
+                }
+                int destinoPos = marcados[b]++;
+                int outro = elementos[destinoPos];
+                elementos[destinoPos] = p;
+                elementos[posicao[p]] = outro;
+                posicao[outro] = posicao[p];
+                posicao[p] = destinoPos;
+            }
+
+            // Divide os blocos parcialmente marcados
+            for (int t = 0; t < totalTocados; t++) {
+                int b = tocados[t];
+                int corte = marcados[b];
+                marcados[b] = inicioBloco[b];
+                if (corte == fimBloco[b]) {
+                    continue;
+                }
+                int novo = blocos++;
+                inicioBloco[novo] = inicioBloco[b];
+                fimBloco[novo] = corte;
+                marcados[novo] = inicioBloco[novo];
+                inicioBloco[b] = corte;
+                marcados[b] = corte;
+                for (int i = inicioBloco[novo]; i < fimBloco[novo]; i++) {
+                    blocoDe[elementos[i]] = novo;
+                }
+
+                int tamanhoNovo = fimBloco[novo] - inicioBloco[novo];
+                int tamanhoVelho = fimBloco[b] - inicioBloco[b];
+                for (int s = 0; s < k; s++) {
+                    int escolhido;
+                    if (naLista[b * k + s]) {
+                        escolhido = novo;
+                    } else {
+                        escolhido = tamanhoNovo <= tamanhoVelho ? novo : b;
+                    }
+                    if (!naLista[escolhido * k + s]) {
+                        naLista[escolhido * k + s] = true;
+                        trabalho.add(escolhido * k + s);
+                    }
+                }
+            }
+        }
+
+        // 4. Um estado por bloco, descartando o bloco do poço (estados mortos)
+        int blocoMorto = blocoDe[poco];
+        int[] indiceBloco = new int[blocos];
+        Arrays.fill(indiceBloco, -1);
+        int[] ordem = new int[blocos];
+        int resultantes = 0;
+        // Numera na ordem de descoberta a partir do inicial, para nomes estáveis
+        indiceBloco[blocoDe[0]] = resultantes;
+        ordem[resultantes++] = blocoDe[0];
+        for (int i = 0; i < resultantes; i++) {
+            int representante = elementos[inicioBloco[ordem[i]]];
+            for (int s = 0; s < k; s++) {
+                int b = blocoDe[delta[representante * k + s]];
+                if (b != blocoMorto && indiceBloco[b] == -1) {
+                    indiceBloco[b] = resultantes;
+                    ordem[resultantes++] = b;
+                }
+            }
+        }
+        if (blocoDe[0] == blocoMorto) {
+            // Linguagem vazia: sobra só o estado inicial, sem transições
+            resultantes = 1;
+        }
+
+        String[] nomes = new String[resultantes];
+        double[] x = new double[resultantes];
+        double[] y = new double[resultantes];
+        boolean[] finais = new boolean[resultantes];
+        int[] tabela = new int[resultantes * k];
+        for (int i = 0; i < resultantes; i++) {
+            int b = ordem[i];
+            estadoDoBloco(afd, originais, elementos, inicioBloco[b], fimBloco[b], poco, i, nomes, x, y);
+            int representante = elementos[inicioBloco[b]];
+            finais[i] = representante != poco && afd.isFinal(originais[representante]);
+            for (int s = 0; s < k; s++) {
+                int destino = blocoDe[delta[representante * k + s]];
+                tabela[i * k + s] = destino == blocoMorto || blocoDe[0] == blocoMorto
+                        ? CompiledAutomaton.SEM_TRANSICAO : indiceBloco[destino];
+            }
+        }
+
+        return CompiledAutomaton.fromTable(nomes, x, y, 0, finais, afd.getSymbolClasses(), tabela);
+    }
+
+    // Estado que representa um bloco: nome dos membros e posição do primeiro deles
+    private static void estadoDoBloco(CompiledAutomaton afd, int[] originais, int[] elementos,
+                                      int inicio, int fim, int poco,
+                                      int indice, String[] nomes, double[] x, double[] y) {
+        List<Integer> membros = new ArrayList<>();
+        for (int i = inicio; i < fim; i++) {
+            if (elementos[i] != poco) {
+                membros.add(originais[elementos[i]]);
+            }
+        }
+        Collections.sort(membros);
+        int primeiro = membros.get(0);
+        x[indice] = afd.getX(primeiro);
+        y[indice] = afd.getY(primeiro);
+        if (membros.size() == 1) {
+            nomes[indice] = afd.getStateName(primeiro);
+            return;
+        }
+        StringJoiner nome = new StringJoiner(",", "{", "}");
+        membros.forEach(q -> nome.add(afd.getStateName(q)));
+        nomes[indice] = nome.toString();
+    }
+}
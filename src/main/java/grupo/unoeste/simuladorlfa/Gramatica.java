@@ -3,6 +3,7 @@ package grupo.unoeste.simuladorlfa;
 import grupo.unoeste.simuladorlfa.entities.Variavel;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 public class Gramatica {
 
@@ -38,6 +39,9 @@ public class Gramatica {
             var.add(novaVar);
         }
 
+        // A gramática é compilada uma vez para AFND; validação e geração usam o autômato
+        CompiledAutomaton automato = GrammarCompiler.compile(var).compile();
+
         int opcao = -1;
         while (opcao != 6) {
             System.out.println("\n==== MENU ====");
@@ -52,11 +56,11 @@ public class Gramatica {
             scanner.nextLine();
 
             switch (opcao) {
-                case 1 -> validarDireto(var, scanner);
-                case 2 -> validarStepByStep(var, scanner);
+                case 1 -> validarDireto(automato, scanner);
+                case 2 -> validarStepByStep(automato, scanner);
                 case 3 -> mostrarTransicoes(var);
                 case 4 -> gerarGVTPS(var);
-                case 5 -> gerar10PrimeirasPalavras(var);
+                case 5 -> gerar10PrimeirasPalavras(automato);
                 case 6 -> System.out.println("Encerrando...");
                 default -> System.out.println("Opção inválida.");
             }
@@ -80,8 +84,10 @@ public class Gramatica {
     private static LinkedHashSet<String> gerarAlfabeto(List<Variavel> var) {
         LinkedHashSet<String> alfabeto = new LinkedHashSet<>();
         for (Variavel variavel : var) {
-            for (String simbolo : variavel.getTransicoes().keySet()) {
-                alfabeto.add(simbolo);
+            for (String leitura : variavel.getTransicoes().keySet()) {
+                for (char c : leitura.toCharArray()) {
+                    alfabeto.add(String.valueOf(c));
+                }
             }
         }
         return alfabeto;
@@ -91,40 +97,24 @@ public class Gramatica {
         System.out.println("P = {");
         for (Variavel variavelAtual : var) {
             System.out.print("     " + variavelAtual.getNome() + " -> ");
-            int i = 0;
-            for (String simbolo : variavelAtual.getTransicoes().keySet()) {
-                Variavel destino = variavelAtual.getTransicoes().get(simbolo);
-                if (i < variavelAtual.getTransicoes().size() - 1)
-                    System.out.print(simbolo +
-                        (destino != null ? destino.getNome() : "") + "|");
-                else
-                    System.out.print(simbolo +
-                            (destino != null ? destino.getNome() : ""));
-                i++;
+            StringJoiner producoes = new StringJoiner("|");
+            for (Map.Entry<String, List<Variavel>> producao : variavelAtual.getTransicoes().entrySet()) {
+                for (Variavel destino : producao.getValue()) {
+                    String texto = producao.getKey() + (destino != null ? destino.getNome() : "");
+                    producoes.add(texto.isEmpty() ? "ε" : texto);
+                }
             }
-            System.out.println();
+            System.out.println(producoes);
         }
         System.out.println("}");
     }
 
-    public static void validarDireto(List<Variavel> var, Scanner scanner) {
+    public static void validarDireto(CompiledAutomaton automato, Scanner scanner) {
         System.out.println("Digite a palavra para validação:");
         String palavra = scanner.nextLine();
+        Predicate<CharSequence> reconhecedor = AutomatonSimulator.acceptor(automato);
         while (!palavra.isEmpty()) {
-            Variavel atual = var.get(0);
-            boolean aceita = true;
-
-            for (int idx = 0; idx < palavra.length() && aceita; idx++) {
-                String simbolo = String.valueOf(palavra.charAt(idx));
-                atual = buscarTransicao(simbolo, var, atual);
-
-                if (atual == null && idx < palavra.length() - 1) {
-                    aceita = false;
-                }
-                if (atual != null && idx == palavra.length() - 1) {
-                    aceita = false;
-                }
-            }
+            boolean aceita = reconhecedor.test(palavra);
 
             System.out.println(aceita ? "Palavra aceita." : "Palavra rejeitada.");
             System.out.println("Digite outra palavra (ENTER para voltar ao menu):");
@@ -132,85 +122,36 @@ public class Gramatica {
         }
     }
 
-    public static void validarStepByStep(List<Variavel> var, Scanner scanner) {
+    public static void validarStepByStep(CompiledAutomaton automato, Scanner scanner) {
         System.out.println("Digite a palavra para validação:");
         String palavra = scanner.nextLine();
         while (!palavra.isEmpty()) {
-            Variavel atual = var.get(0);
-            boolean aceita = true;
-
-            for (int idx = 0; idx < palavra.length() && aceita; idx++) {
-                String simbolo = String.valueOf(palavra.charAt(idx));
-                System.out.println("Variável atual: " + atual.getNome() + ", Símbolo lido: " + simbolo);
-                atual = buscarTransicao(simbolo, var, atual);
-
-                if (atual == null && idx < palavra.length() - 1) {
-                    aceita = false;
-                }
-                if (atual != null && idx == palavra.length() - 1) {
-                    aceita = false;
-                }
-
-                System.out.println("Variável após transição: " + (atual != null ? atual.getNome() : "ε"));
+            // Caminho de aceitação (ou o mais longo possível, se a palavra for rejeitada)
+            AutomatonSimulator.SimulationResult resultado = AutomatonSimulator.simulate(automato, palavra);
+            List<String> caminho = resultado.getPathNames();
+            List<String> simbolos = resultado.getSymbolsUsed();
+
+            for (int passo = 0; passo < simbolos.size(); passo++) {
+                System.out.println("Variável atual: " + caminho.get(passo) + ", Símbolo lido: " + simbolos.get(passo));
+                System.out.println("Variável após transição: " + caminho.get(passo + 1));
                 System.out.println("Pressione ENTER para continuar...");
                 scanner.nextLine();
             }
 
-            System.out.println(aceita ? "Palavra aceita." : "Palavra rejeitada.");
+            System.out.println(resultado.isAccepted() ? "Palavra aceita." : "Palavra rejeitada.");
             System.out.println("Digite outra palavra (ENTER para voltar ao menu):");
             palavra = scanner.nextLine();
         }
     }
 
-    public static Variavel buscarTransicao(String simbolo, List<Variavel> var, Variavel atual) {
-        int i = 0;
-        while (!Objects.equals(var.get(i).getNome(), atual.getNome()))
-            i++;
-
-        return var.get(i).getDestino(simbolo);
-    }
-
-    public static void gerar10PrimeirasPalavras(List<Variavel> var) {
-        if (var.isEmpty()) {
-            System.out.println("Nenhuma variável criada!");
+    public static void gerar10PrimeirasPalavras(CompiledAutomaton automato) {
+        List<String> palavrasGeradas = new ArrayList<>(new WordEnumerator(automato).first(10));
+        if (palavrasGeradas.isEmpty()) {
+            System.out.println("A linguagem da gramática é vazia.");
             return;
         }
 
-        List<String> alfabeto = new ArrayList<>(gerarAlfabeto(var));
-        List<String> palavrasGeradas = new ArrayList<>();
-        List<String> testadas = new ArrayList<>();
-        testadas.add("");
-
-        int cont = 0;
-        int ini = 0;
-        boolean flag = true;
-
-        if (palavraAceita("", var)) {
-            palavrasGeradas.add("");
-            cont++;
-        }
-
-        while (cont < 10 && flag) {
-            for (; flag && ini < testadas.size() && cont < 10; ini++) {
-                for (int j = 0; flag && j < alfabeto.size() && cont < 10; j++) {
-                    String palavra = testadas.get(ini) + alfabeto.get(j);
-                    if (!testadas.contains(palavra)) {
-                        testadas.add(palavra);
-                        if (palavraAceita(palavra, var)) {
-                            palavrasGeradas.add(palavra);
-                            cont++;
-                        } else if (palavra.length() > 10) { // limite de profundidade
-                            flag = false;
-                        }
-                    }
-                }
-            }
-            if (ini >= testadas.size()) {
-                flag = false;
-            }
-        }
-
-        if (!palavrasGeradas.isEmpty() && palavrasGeradas.get(0).isEmpty()) {
+        if (palavrasGeradas.get(0).isEmpty()) {
             palavrasGeradas.set(0, "ε");
         }
 
@@ -220,19 +161,12 @@ public class Gramatica {
         }
     }
 
-    public static boolean palavraAceita(String palavra, List<Variavel> var) {
-        if (palavra.isEmpty()) {
-            return var.get(0).getTransicoes().containsValue(null);
-        }
+    public static boolean palavraAceita(String palavra, CompiledAutomaton automato) {
+        return AutomatonSimulator.accepts(automato, palavra);
+    }
 
-        Variavel atual = var.get(0);
-        for (int i = 0; i < palavra.length(); i++) {
-            String simbolo = String.valueOf(palavra.charAt(i));
-            atual = buscarTransicao(simbolo, var, atual);
-            if (atual == null && i < palavra.length() - 1) return false;
-            if (atual != null && i == palavra.length() - 1)
-                return atual.getTransicoes().containsValue(null);
-        }
-        return true;
+    // Conveniência: compila a gramática a cada chamada (para muitas palavras, compile antes)
+    public static boolean palavraAceita(String palavra, List<Variavel> var) {
+        return palavraAceita(palavra, GrammarCompiler.compile(var).compile());
     }
 }
@@ -0,0 +1,126 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Variavel;
+
+import java.util.*;
+
+// Gramática linear à direita -> AFND. A primeira variável da lista é a inicial.
+//
+//   A -> aB   transição A --a--> B
+//   A -> a    transição A --a--> F (estado final extra)
+//   A -> B    transição A --ε--> B
+//   A -> ε    A é final
+//
+// Leituras com mais de um símbolo (A -> abB) viram uma cadeia de estados intermediários.
+// As variáveis são indexadas por nome uma única vez; destinos que não foram declarados
+// viram estados sem produções (não levam a nenhuma palavra). O resultado é um
+// CoreAutomaton (sem JavaFX), com os estados em círculo para o caso de ser desenhado.
+public class GrammarCompiler {
+
+    private static final int FINAL = -1; // destino: o estado final extra, criado no fim
+
+    // Transição a criar; iguais (mesma produção declarada duas vezes) contam uma vez só
+    private static final class Aresta {
+        final int origem;
+        final int destino;
+        final String rotulo;
+
+        Aresta(int origem, int destino, String rotulo) {
+            this.origem = origem;
+            this.destino = destino;
+            this.rotulo = rotulo;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Aresta)) return false;
+            Aresta outra = (Aresta) obj;
+            return origem == outra.origem && destino == outra.destino && rotulo.equals(outra.rotulo);
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * origem + destino) * 31 + rotulo.hashCode();
+        }
+    }
+
+    public static CoreAutomaton compile(List<Variavel> variaveis) {
+        // Índice de cada variável pelo nome (a primeira declaração vale)
+        Map<String, Integer> indice = new LinkedHashMap<>();
+        for (Variavel variavel : variaveis) {
+            indice.putIfAbsent(variavel.getNome(), indice.size());
+        }
+        int declaradas = indice.size();
+        for (Variavel variavel : variaveis) {
+            for (List<Variavel> destinos : variavel.getTransicoes().values()) {
+                for (Variavel destino : destinos) {
+                    if (destino != null) indice.putIfAbsent(destino.getNome(), indice.size());
+                }
+            }
+        }
+
+        List<String> nomes = new ArrayList<>(indice.keySet());
+        BitSet finais = new BitSet();
+        boolean usaFinal = false;
+
+        // Uma transição por símbolo, com o rótulo de CharClass: terminais como ',', '[' ou
+        // 'ε' são lidos como o caractere, nunca como sintaxe de rótulo
+        Set<Aresta> transicoes = new LinkedHashSet<>();
+        Set<Integer> processadas = new HashSet<>();
+        int intermediarios = 0;
+        for (Variavel variavel : variaveis) {
+            int origem = indice.get(variavel.getNome());
+            if (!processadas.add(origem)) {
+                continue; // variável repetida: só a primeira declaração conta
+            }
+            for (Map.Entry<String, List<Variavel>> producao : variavel.getTransicoes().entrySet()) {
+                String leitura = producao.getKey() == null ? "" : producao.getKey().trim();
+                for (Variavel destinoVar : producao.getValue()) {
+                    int destino;
+                    if (destinoVar != null) {
+                        destino = indice.get(destinoVar.getNome());
+                    } else if (leitura.isEmpty()) {
+                        finais.set(origem); // A -> ε
+                        continue;
+                    } else {
+                        usaFinal = true;
+                        destino = FINAL;
+                    }
+
+                    // Cadeia para leituras com vários símbolos: A -a-> A·1 -b-> B
+                    int atual = origem;
+                    for (int i = 0; i < leitura.length() - 1; i++) {
+                        int intermediario = nomes.size();
+                        nomes.add(nomeLivre(variavel.getNome() + "·" + (++intermediarios), indice.keySet()));
+                        transicoes.add(new Aresta(atual, intermediario, CharClass.of(leitura.charAt(i)).label()));
+                        atual = intermediario;
+                    }
+                    String ultimo = leitura.isEmpty() ? "ε" : CharClass.of(leitura.charAt(leitura.length() - 1)).label();
+                    transicoes.add(new Aresta(atual, destino, ultimo));
+                }
+            }
+        }
+
+        int estadoFinal = nomes.size();
+        if (usaFinal) {
+            nomes.add(nomeLivre("F", indice.keySet()));
+            finais.set(estadoFinal);
+        }
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        for (int q = 0; q < nomes.size(); q++) {
+            construtor.addState(nomes.get(q), 0, 0, q == 0 && declaradas > 0, finais.get(q));
+        }
+        for (Aresta aresta : transicoes) {
+            construtor.addTransition(aresta.origem, aresta.destino == FINAL ? estadoFinal : aresta.destino, aresta.rotulo);
+        }
+        return construtor.circularLayout().build();
+    }
+
+    private static String nomeLivre(String base, Set<String> usados) {
+        String nome = base;
+        while (usados.contains(nome)) {
+            nome += "'";
+        }
+        return nome;
+    }
+}
@@ -0,0 +1,365 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+
+import java.util.*;
+
+// Comparação de linguagens sem determinizar os autômatos por inteiro.
+//
+// Equivalência: algoritmo de Hopcroft–Karp. A busca em largura percorre pares (X, Y) de
+// estados dos dois lados (conjuntos de estados, no caso de AFND, criados só quando
+// alcançados) e une-os numa estrutura union-find; um par cujas classes já foram unidas
+// não é explorado de novo. Custo quase linear no número de pares visitados.
+//
+// Inclusão L(A) ⊆ L(B): pares (p, S) com p um estado de A e S um conjunto de estados de B,
+// podados por antichain: (p, S) é descartado se já foi visto (p, S') com S' ⊆ S, porque
+// qualquer contraexemplo a partir de (p, S) também existe a partir de (p, S').
+//
+// Nos dois casos a busca é em largura, então o contraexemplo devolvido é uma palavra de
+// tamanho mínimo. O alfabeto são as classes de caracteres dos dois autômatos juntas
+// (AutomatonOperations.alfabetoComum); o contraexemplo usa o primeiro caractere de cada uma.
+public class LanguageComparator {
+
+    private static final int MORTO = CompiledAutomaton.SEM_TRANSICAO;
+    private static final int DESCONHECIDO = -2;
+
+    public static class ComparisonResult {
+        private final boolean valido;
+        private final String contraexemplo;
+        private final boolean aceitoPeloPrimeiro;
+        private final int paresExplorados;
+
+        public ComparisonResult(boolean valido, String contraexemplo, boolean aceitoPeloPrimeiro, int paresExplorados) {
+            this.valido = valido;
+            this.contraexemplo = contraexemplo;
+            this.aceitoPeloPrimeiro = aceitoPeloPrimeiro;
+            this.paresExplorados = paresExplorados;
+        }
+
+        // true se as linguagens são equivalentes (ou se a inclusão vale)
+        public boolean holds() { return valido; }
+        // Palavra mais curta que distingue os autômatos; null se holds()
+        public String getCounterexample() { return contraexemplo; }
+        public boolean isAcceptedByFirst() { return aceitoPeloPrimeiro; }
+        public int getExploredPairs() { return paresExplorados; }
+    }
+
+    public static ComparisonResult equivalent(List<Estado> estadosA, List<Transicao> transicoesA,
+                                              List<Estado> estadosB, List<Transicao> transicoesB) {
+        return equivalent(CompiledAutomaton.compile(estadosA, transicoesA),
+                CompiledAutomaton.compile(estadosB, transicoesB));
+    }
+
+    public static ComparisonResult isSubset(List<Estado> estadosA, List<Transicao> transicoesA,
+                                            List<Estado> estadosB, List<Transicao> transicoesB) {
+        return isSubset(CompiledAutomaton.compile(estadosA, transicoesA),
+                CompiledAutomaton.compile(estadosB, transicoesB));
+    }
+
+    public static ComparisonResult equivalent(CompiledAutomaton a, CompiledAutomaton b) {
+        CharClass[] alfabeto = AutomatonOperations.alfabetoComum(a, b);
+        Lado ladoA = new Lado(a, alfabeto);
+        Lado ladoB = new Lado(b, alfabeto);
+        int k = alfabeto.length;
+
+        // Nós do union-find: índice 0 é o estado morto de cada lado; os demais, sob demanda
+        UniaoBusca classes = new UniaoBusca();
+        int[] noA = new int[16];
+        int[] noB = new int[16];
+        Arrays.fill(noA, -1);
+        Arrays.fill(noB, -1);
+        int morto = classes.novo();
+        noA[0] = morto;
+        noB[0] = morto;
+
+        Busca busca = new Busca();
+        int x0 = ladoA.inicial();
+        int y0 = ladoB.inicial();
+        if (ladoA.aceita(x0) != ladoB.aceita(y0)) {
+            return new ComparisonResult(false, "", ladoA.aceita(x0), 0);
+        }
+        noA = no(noA, x0, classes);
+        noB = no(noB, y0, classes);
+        classes.unir(noA[x0 + 1], noB[y0 + 1]);
+        busca.adicionar(x0, y0, -1, -1);
+
+        for (int i = 0; i < busca.tamanho; i++) {
+            int x = busca.primeiro[i];
+            int y = busca.segundo[i];
+            for (int s = 0; s < k; s++) {
+                int dx = ladoA.passo(x, s);
+                int dy = ladoB.passo(y, s);
+                noA = no(noA, dx, classes);
+                noB = no(noB, dy, classes);
+                if (classes.buscar(noA[dx + 1]) == classes.buscar(noB[dy + 1])) {
+                    continue;
+                }
+                if (ladoA.aceita(dx) != ladoB.aceita(dy)) {
+                    return new ComparisonResult(false, busca.palavra(i, s, alfabeto), ladoA.aceita(dx), busca.tamanho);
+                }
+                classes.unir(noA[dx + 1], noB[dy + 1]);
+                busca.adicionar(dx, dy, i, s);
+            }
+        }
+        return new ComparisonResult(true, null, false, busca.tamanho);
+    }
+
+    // L(a) ⊆ L(b)? O contraexemplo, se houver, é aceito por a e rejeitado por b.
+    public static ComparisonResult isSubset(CompiledAutomaton a, CompiledAutomaton b) {
+        CharClass[] alfabeto = AutomatonOperations.alfabetoComum(a, b);
+        Lado ladoB = new Lado(b, alfabeto);
+        int k = alfabeto.length;
+        int[] simboloA = new int[k];
+        for (int s = 0; s < k; s++) {
+            simboloA[s] = a.symbolOf(alfabeto[s].first());
+        }
+
+        // antichain.get(p): conjuntos de B (ids de ladoB) minimais já vistos junto com p
+        List<List<Integer>> antichain = new ArrayList<>();
+        for (int p = 0; p < a.getStateCount(); p++) {
+            antichain.add(new ArrayList<>());
+        }
+
+        Busca busca = new Busca();
+        int inicialA = a.getInitialState();
+        if (inicialA == MORTO) {
+            return new ComparisonResult(true, null, false, 0);
+        }
+        int y0 = ladoB.inicial();
+        for (int p : fecho(a, inicialA)) {
+            if (a.isFinal(p) && !ladoB.aceita(y0)) {
+                return new ComparisonResult(false, "", true, busca.tamanho);
+            }
+            if (inserirNaAntichain(antichain.get(p), y0, ladoB)) {
+                busca.adicionar(p, y0, -1, -1);
+            }
+        }
+
+        for (int i = 0; i < busca.tamanho; i++) {
+            int p = busca.primeiro[i];
+            int y = busca.segundo[i];
+            for (int s = 0; s < k; s++) {
+                if (simboloA[s] == MORTO) continue;
+                int[] destinos = a.targets(p, simboloA[s]);
+                if (destinos.length == 0) continue;
+                int dy = ladoB.passo(y, s);
+                for (int destino : destinos) {
+                    for (int q : fecho(a, destino)) {
+                        if (a.isFinal(q) && !ladoB.aceita(dy)) {
+                            return new ComparisonResult(false, busca.palavra(i, s, alfabeto), true, busca.tamanho);
+                        }
+                        if (inserirNaAntichain(antichain.get(q), dy, ladoB)) {
+                            busca.adicionar(q, dy, i, s);
+                        }
+                    }
+                }
+            }
+        }
+        return new ComparisonResult(true, null, false, busca.tamanho);
+    }
+
+    // Insere o conjunto y se nenhum subconjunto dele já estiver presente, tirando os que o contêm
+    private static boolean inserirNaAntichain(List<Integer> conjuntos, int y, Lado lado) {
+        for (int existente : conjuntos) {
+            if (lado.contido(existente, y)) {
+                return false;
+            }
+        }
+        conjuntos.removeIf(existente -> lado.contido(y, existente));
+        conjuntos.add(y);
+        return true;
+    }
+
+    // ε-fecho de um estado como vetor de índices
+    private static int[] fecho(CompiledAutomaton automato, int estado) {
+        if (!automato.hasEpsilonTransitions()) {
+            return new int[]{estado};
+        }
+        long[] bits = automato.epsilonClosure(estado);
+        int total = 0;
+        for (long b : bits) {
+            total += Long.bitCount(b);
+        }
+        int[] resultado = new int[total];
+        int n = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long b = bits[w];
+            while (b != 0) {
+                resultado[n++] = (w << 6) + Long.numberOfTrailingZeros(b);
+                b &= b - 1;
+            }
+        }
+        return resultado;
+    }
+
+    private static int[] no(int[] nos, int id, UniaoBusca classes) {
+        if (id + 1 >= nos.length) {
+            int antigo = nos.length;
+            nos = Arrays.copyOf(nos, Math.max(id + 2, antigo * 2));
+            Arrays.fill(nos, antigo, nos.length, -1);
+        }
+        if (nos[id + 1] < 0) {
+            nos[id + 1] = classes.novo();
+        }
+        return nos;
+    }
+
+    // Um lado da comparação visto como AFD: em AFD os ids são os próprios estados; em AFND
+    // são conjuntos de estados (com ε-fecho) numerados na ordem em que aparecem. MORTO = vazio.
+    private static final class Lado {
+        private final CompiledAutomaton automato;
+        private final int[] simbolo; // símbolo do alfabeto unido -> símbolo local
+        private final int k;
+        private final boolean deterministico;
+
+        private BitSetNFA nfa;
+        private Map<LazyDFA.Conjunto, Integer> indice;
+        private List<long[]> conjuntos;
+        private List<Boolean> aceitacao;
+        private int[] transicoes;
+        private long[] temporario;
+
+        Lado(CompiledAutomaton automato, CharClass[] alfabeto) {
+            this.automato = automato;
+            this.k = alfabeto.length;
+            this.simbolo = new int[k];
+            for (int s = 0; s < k; s++) {
+                simbolo[s] = automato.symbolOf(alfabeto[s].first());
+            }
+            this.deterministico = automato.isDeterministic();
+            if (!deterministico) {
+                nfa = new BitSetNFA(automato);
+                indice = new HashMap<>();
+                conjuntos = new ArrayList<>();
+                aceitacao = new ArrayList<>();
+                transicoes = new int[16 * Math.max(1, k)];
+                temporario = new long[automato.bitSetWords()];
+            }
+        }
+
+        int inicial() {
+            if (automato.getInitialState() == MORTO) return MORTO;
+            if (deterministico) return automato.getInitialState();
+            nfa.initialSet(temporario);
+            return buscarOuCriar(temporario);
+        }
+
+        int passo(int id, int s) {
+            if (id == MORTO || simbolo[s] == MORTO) return MORTO;
+            if (deterministico) return automato.step(id, simbolo[s]);
+            int destino = transicoes[id * k + s];
+            if (destino == DESCONHECIDO) {
+                destino = nfa.step(conjuntos.get(id), simbolo[s], temporario) ? buscarOuCriar(temporario) : MORTO;
+                transicoes[id * k + s] = destino;
+            }
+            return destino;
+        }
+
+        boolean aceita(int id) {
+            if (id == MORTO) return false;
+            return deterministico ? automato.isFinal(id) : aceitacao.get(id);
+        }
+
+        // Conjunto x ⊆ conjunto y?
+        boolean contido(int x, int y) {
+            if (x == y || x == MORTO) return true;
+            if (y == MORTO || deterministico) return false;
+            long[] bx = conjuntos.get(x);
+            long[] by = conjuntos.get(y);
+            for (int w = 0; w < bx.length; w++) {
+                if ((bx[w] & ~by[w]) != 0) return false;
+            }
+            return true;
+        }
+
+        private int buscarOuCriar(long[] conjunto) {
+            Integer existente = indice.get(new LazyDFA.Conjunto(conjunto));
+            if (existente != null) return existente;
+            int novo = conjuntos.size();
+            long[] copia = conjunto.clone();
+            conjuntos.add(copia);
+            aceitacao.add(nfa.intersectsFinal(copia));
+            indice.put(new LazyDFA.Conjunto(copia), novo);
+            if ((novo + 1) * k > transicoes.length) {
+                transicoes = Arrays.copyOf(transicoes, Math.max((novo + 1) * k, transicoes.length * 2));
+            }
+            Arrays.fill(transicoes, novo * k, novo * k + k, DESCONHECIDO);
+            return novo;
+        }
+    }
+
+    // Fila da busca em largura com ponteiros de retorno para reconstruir a palavra
+    private static final class Busca {
+        private int[] primeiro = new int[64];
+        private int[] segundo = new int[64];
+        private int[] pai = new int[64];
+        private int[] simbolo = new int[64];
+        private int tamanho = 0;
+
+        void adicionar(int x, int y, int origem, int s) {
+            if (tamanho == primeiro.length) {
+                int capacidade = tamanho * 2;
+                primeiro = Arrays.copyOf(primeiro, capacidade);
+                segundo = Arrays.copyOf(segundo, capacidade);
+                pai = Arrays.copyOf(pai, capacidade);
+                simbolo = Arrays.copyOf(simbolo, capacidade);
+            }
+            primeiro[tamanho] = x;
+            segundo[tamanho] = y;
+            pai[tamanho] = origem;
+            simbolo[tamanho] = s;
+            tamanho++;
+        }
+
+        // Palavra até o item i da fila, seguida do símbolo s
+        String palavra(int i, int s, CharClass[] alfabeto) {
+            int tamanho = 1;
+            for (int atual = i; pai[atual] >= 0; atual = pai[atual]) {
+                tamanho++;
+            }
+            char[] palavra = new char[tamanho];
+            palavra[--tamanho] = alfabeto[s].first();
+            for (int atual = i; pai[atual] >= 0; atual = pai[atual]) {
+                palavra[--tamanho] = alfabeto[simbolo[atual]].first();
+            }
+            return new String(palavra);
+        }
+    }
+
+    private static final class UniaoBusca {
+        private int[] pai = new int[64];
+        private int[] posto = new int[64];
+        private int tamanho = 0;
+
+        int novo() {
+            if (tamanho == pai.length) {
+                pai = Arrays.copyOf(pai, tamanho * 2);
+                posto = Arrays.copyOf(posto, tamanho * 2);
+            }
+            pai[tamanho] = tamanho;
+            return tamanho++;
+        }
+
+        int buscar(int x) {
+            while (pai[x] != x) {
+                pai[x] = pai[pai[x]];
+                x = pai[x];
+            }
+            return x;
+        }
+
+        void unir(int x, int y) {
+            int rx = buscar(x);
+            int ry = buscar(y);
+            if (rx == ry) return;
+            if (posto[rx] < posto[ry]) {
+                int troca = rx;
+                rx = ry;
+                ry = troca;
+            }
+            pai[ry] = rx;
+            if (posto[rx] == posto[ry]) posto[rx]++;
+        }
+    }
+}
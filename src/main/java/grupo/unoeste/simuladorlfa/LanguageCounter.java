@@ -0,0 +1,309 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.math.BigInteger;
+import java.util.*;
+
+// Contagem de palavras aceitas por tamanho, por programação dinâmica sobre o AFD mínimo.
+//
+//   cont[0][q] = 1 se q é final
+//   cont[l][q] = soma, para cada símbolo s, de |s|·cont[l-1][δ(q, s)]
+//
+// count(n) = cont[n][inicial]. Cada símbolo é uma classe de caracteres e conta tantas
+// palavras quantos caracteres tiver (|s|), então [a-z] custa o mesmo que um símbolo só.
+// Cada nível custa O(|Q|·|Σ|); para n enorme há a versão modular com exponenciação da
+// matriz de transições, O(|Q|³·log n).
+public class LanguageCounter {
+
+    // Limite para que o produto de dois restos caiba em um long
+    public static final long MAIOR_MODULO = 3037000499L;
+
+    private final CompiledAutomaton afd;
+    private final int[] simbolos;
+    private final int[] peso;       // caracteres de cada símbolo
+    private final boolean[] util;   // alcançável a partir do inicial e chega a um final
+    private final boolean infinita;
+    private final int maiorTamanho; // -1 para linguagem vazia; só vale se finita
+
+    // Níveis já calculados (cont[l] só para os estados úteis)
+    private final List<BigInteger[]> niveis = new ArrayList<>();
+
+    public LanguageCounter(CompiledAutomaton automato) {
+        this.afd = DFAMinimizer.minimize(automato);
+        simbolos = new int[afd.getSymbolCount()];
+        peso = new int[simbolos.length];
+        for (int s = 0; s < simbolos.length; s++) {
+            simbolos[s] = s;
+            peso[s] = afd.getSymbolClass(s).size();
+        }
+
+        util = estadosUteis();
+        int[] resultado = analisarCiclos();
+        infinita = resultado[0] == 1;
+        maiorTamanho = resultado[1];
+
+        BigInteger[] base = new BigInteger[afd.getStateCount()];
+        for (int q = 0; q < base.length; q++) {
+            base[q] = util[q] && afd.isFinal(q) ? BigInteger.ONE : BigInteger.ZERO;
+        }
+        niveis.add(base);
+    }
+
+    public boolean isEmpty() {
+        return maiorTamanho < 0 && !infinita;
+    }
+
+    public boolean isInfinite() {
+        return infinita;
+    }
+
+    // Tamanho da maior palavra aceita; -1 se a linguagem é vazia
+    public int getLongestWordLength() {
+        if (infinita) {
+            throw new IllegalStateException("A linguagem é infinita");
+        }
+        return maiorTamanho;
+    }
+
+    // Número total de palavras (só para linguagens finitas)
+    public BigInteger size() {
+        if (infinita) {
+            throw new IllegalStateException("A linguagem é infinita");
+        }
+        return maiorTamanho < 0 ? BigInteger.ZERO : countUpTo(maiorTamanho);
+    }
+
+    public synchronized BigInteger count(int tamanho) {
+        if (tamanho < 0) {
+            throw new IllegalArgumentException("Tamanho negativo: " + tamanho);
+        }
+        int inicial = afd.getInitialState();
+        if (inicial == CompiledAutomaton.SEM_TRANSICAO || !util[inicial]) {
+            return BigInteger.ZERO;
+        }
+        if (!infinita && tamanho > maiorTamanho) {
+            return BigInteger.ZERO;
+        }
+        return nivel(tamanho)[inicial];
+    }
+
+    // Quantidade de palavras de cada tamanho, de 0 até tamanhoMaximo
+    public List<BigInteger> counts(int tamanhoMaximo) {
+        List<BigInteger> resultado = new ArrayList<>(tamanhoMaximo + 1);
+        for (int l = 0; l <= tamanhoMaximo; l++) {
+            resultado.add(count(l));
+        }
+        return resultado;
+    }
+
+    // Quantidade de palavras com tamanho de 0 até tamanhoMaximo
+    public BigInteger countUpTo(int tamanhoMaximo) {
+        BigInteger total = BigInteger.ZERO;
+        for (int l = 0; l <= tamanhoMaximo; l++) {
+            total = total.add(count(l));
+        }
+        return total;
+    }
+
+    // count(tamanho) mod modulo, para tamanhos grandes demais para a programação dinâmica
+    public long countMod(long tamanho, long modulo) {
+        if (tamanho < 0) {
+            throw new IllegalArgumentException("Tamanho negativo: " + tamanho);
+        }
+        if (modulo <= 0 || modulo > MAIOR_MODULO) {
+            throw new IllegalArgumentException("Módulo deve estar entre 1 e " + MAIOR_MODULO);
+        }
+        int inicial = afd.getInitialState();
+        if (inicial == CompiledAutomaton.SEM_TRANSICAO || !util[inicial]) {
+            return 0;
+        }
+
+        // Matriz só com os estados úteis
+        int[] indice = new int[afd.getStateCount()];
+        int m = 0;
+        for (int q = 0; q < indice.length; q++) {
+            indice[q] = util[q] ? m++ : -1;
+        }
+        long[][] matriz = new long[m][m];
+        long[] finais = new long[m];
+        for (int q = 0; q < indice.length; q++) {
+            if (indice[q] < 0) continue;
+            finais[indice[q]] = afd.isFinal(q) ? 1 % modulo : 0;
+            for (int s : simbolos) {
+                int destino = afd.step(q, s);
+                if (destino != CompiledAutomaton.SEM_TRANSICAO && indice[destino] >= 0) {
+                    matriz[indice[q]][indice[destino]] = (matriz[indice[q]][indice[destino]] + peso[s]) % modulo;
+                }
+            }
+        }
+
+        // vetor = M^tamanho · finais, por quadrados sucessivos
+        long[] vetor = finais;
+        long expoente = tamanho;
+        while (expoente > 0) {
+            if ((expoente & 1) == 1) {
+                vetor = multiplicar(matriz, vetor, modulo);
+            }
+            expoente >>= 1;
+            if (expoente > 0) {
+                matriz = multiplicar(matriz, matriz, modulo);
+            }
+        }
+        return vetor[indice[inicial]];
+    }
+
+    private BigInteger[] nivel(int tamanho) {
+        while (niveis.size() <= tamanho) {
+            BigInteger[] anterior = niveis.get(niveis.size() - 1);
+            BigInteger[] atual = new BigInteger[anterior.length];
+            for (int q = 0; q < atual.length; q++) {
+                BigInteger soma = BigInteger.ZERO;
+                if (util[q]) {
+                    for (int s : simbolos) {
+                        int destino = afd.step(q, s);
+                        if (destino != CompiledAutomaton.SEM_TRANSICAO && util[destino]) {
+                            soma = soma.add(peso[s] == 1 ? anterior[destino]
+                                    : anterior[destino].multiply(BigInteger.valueOf(peso[s])));
+                        }
+                    }
+                }
+                atual[q] = soma;
+            }
+            niveis.add(atual);
+        }
+        return niveis.get(tamanho);
+    }
+
+    private boolean[] estadosUteis() {
+        int n = afd.getStateCount();
+        boolean[] alcancavel = new boolean[n];
+        int inicial = afd.getInitialState();
+        if (inicial == CompiledAutomaton.SEM_TRANSICAO) {
+            return alcancavel;
+        }
+
+        int[] fila = new int[n];
+        int tamanho = 0;
+        alcancavel[inicial] = true;
+        fila[tamanho++] = inicial;
+        for (int i = 0; i < tamanho; i++) {
+            for (int s : simbolos) {
+                int destino = afd.step(fila[i], s);
+                if (destino != CompiledAutomaton.SEM_TRANSICAO && !alcancavel[destino]) {
+                    alcancavel[destino] = true;
+                    fila[tamanho++] = destino;
+                }
+            }
+        }
+
+        // Co-alcançáveis: busca para trás a partir dos finais, com predecessores em CSR
+        int[] inicioPredecessores = new int[n + 1];
+        for (int q = 0; q < n; q++) {
+            for (int s : simbolos) {
+                int destino = afd.step(q, s);
+                if (destino != CompiledAutomaton.SEM_TRANSICAO) inicioPredecessores[destino + 1]++;
+            }
+        }
+        for (int q = 0; q < n; q++) {
+            inicioPredecessores[q + 1] += inicioPredecessores[q];
+        }
+        int[] predecessores = new int[inicioPredecessores[n]];
+        int[] preenchido = Arrays.copyOf(inicioPredecessores, n);
+        for (int q = 0; q < n; q++) {
+            for (int s : simbolos) {
+                int destino = afd.step(q, s);
+                if (destino != CompiledAutomaton.SEM_TRANSICAO) predecessores[preenchido[destino]++] = q;
+            }
+        }
+
+        boolean[] util = new boolean[n];
+        tamanho = 0;
+        for (int q = 0; q < n; q++) {
+            if (alcancavel[q] && afd.isFinal(q)) {
+                util[q] = true;
+                fila[tamanho++] = q;
+            }
+        }
+        for (int i = 0; i < tamanho; i++) {
+            int q = fila[i];
+            for (int j = inicioPredecessores[q]; j < inicioPredecessores[q + 1]; j++) {
+                int p = predecessores[j];
+                if (alcancavel[p] && !util[p]) {
+                    util[p] = true;
+                    fila[tamanho++] = p;
+                }
+            }
+        }
+        return util;
+    }
+
+    // [1 se há ciclo entre estados úteis (linguagem infinita), maior caminho até um final]
+    private int[] analisarCiclos() {
+        int n = afd.getStateCount();
+        int inicial = afd.getInitialState();
+        if (inicial == CompiledAutomaton.SEM_TRANSICAO || !util[inicial]) {
+            return new int[]{0, -1};
+        }
+
+        // DFS iterativa com cores; maior[q] = maior palavra aceita a partir de q
+        int[] cor = new int[n]; // 0 = branco, 1 = na pilha, 2 = concluído
+        int[] maior = new int[n];
+        int[] pilha = new int[n];
+        int[] proximo = new int[n];
+        int topo = 0;
+        pilha[topo++] = inicial;
+        cor[inicial] = 1;
+        while (topo > 0) {
+            int q = pilha[topo - 1];
+            if (proximo[q] < simbolos.length) {
+                int destino = afd.step(q, simbolos[proximo[q]++]);
+                if (destino == CompiledAutomaton.SEM_TRANSICAO || !util[destino]) continue;
+                if (cor[destino] == 1) {
+                    return new int[]{1, -1};
+                }
+                if (cor[destino] == 0) {
+                    cor[destino] = 1;
+                    pilha[topo++] = destino;
+                }
+            } else {
+                maior[q] = afd.isFinal(q) ? 0 : -1;
+                for (int s : simbolos) {
+                    int destino = afd.step(q, s);
+                    if (destino != CompiledAutomaton.SEM_TRANSICAO && util[destino] && maior[destino] >= 0) {
+                        maior[q] = Math.max(maior[q], maior[destino] + 1);
+                    }
+                }
+                cor[q] = 2;
+                topo--;
+            }
+        }
+        return new int[]{0, maior[inicial]};
+    }
+
+    private static long[][] multiplicar(long[][] a, long[][] b, long modulo) {
+        int m = a.length;
+        long[][] c = new long[m][m];
+        for (int i = 0; i < m; i++) {
+            for (int k = 0; k < m; k++) {
+                long x = a[i][k];
+                if (x == 0) continue;
+                for (int j = 0; j < m; j++) {
+                    c[i][j] = (c[i][j] + x * b[k][j]) % modulo;
+                }
+            }
+        }
+        return c;
+    }
+
+    private static long[] multiplicar(long[][] a, long[] v, long modulo) {
+        int m = a.length;
+        long[] resultado = new long[m];
+        for (int i = 0; i < m; i++) {
+            long soma = 0;
+            for (int j = 0; j < m; j++) {
+                soma = (soma + a[i][j] * v[j]) % modulo;
+            }
+            resultado[i] = soma;
+        }
+        return resultado;
+    }
+}
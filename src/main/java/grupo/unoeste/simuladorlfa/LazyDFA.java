@@ -0,0 +1,328 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.*;
+
+// Determinização sob demanda (construção de subconjuntos preguiçosa): cada estado do AFD
+// é um conjunto de estados do AFND, criado só quando a entrada chega nele. Os estados ficam
+// num cache limitado; quando enche, o cache é esvaziado (como no AFD do RE2). Se isso
+// acontecer com frequência demais, a simulação volta para o AFND por vetores de bits.
+// Não é thread-safe: quem usa cria a sua instância, uma por thread (ver
+// AutomatonSimulator.acceptor e BatchSimulator).
+public final class LazyDFA {
+
+    public static final int CAPACIDADE_PADRAO = 4096;
+
+    // Abaixo desta média de caracteres lidos por estado criado, a limpeza conta como "ruim"
+    private static final int MIN_CARACTERES_POR_ESTADO = 10;
+    private static final int MAX_LIMPEZAS_RUINS = 3;
+
+    private static final int MORTO = CompiledAutomaton.SEM_TRANSICAO;
+    private static final int DESCONHECIDO = -2;
+    static final int DESISTIU = -3;
+
+    // Conjunto de estados do AFND usado como chave do cache (também em LanguageComparator)
+    static final class Conjunto {
+        final long[] bits;
+        private final int hash;
+
+        Conjunto(long[] bits) {
+            this.bits = bits;
+            this.hash = Arrays.hashCode(bits);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Conjunto && Arrays.equals(bits, ((Conjunto) obj).bits);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final CompiledAutomaton automato;
+    private final BitSetNFA nfa;
+    private final int k;
+    private final int palavras;
+    private final int capacidade;
+
+    private final Map<Conjunto, Integer> indice = new HashMap<>();
+    private long[][] conjuntos = new long[16][];
+    private boolean[] aceitacao = new boolean[16];
+    private int[] transicoes;
+    private int total = 0;
+    private int inicial = MORTO;
+
+    private final long[] temporario;
+    private long[] conjuntoDesistencia;
+
+    private long caracteresDesdeLimpeza = 0;
+    private int limpezas = 0;
+    private int limpezasRuins = 0;
+    private boolean modoNFA = false;
+
+    public LazyDFA(CompiledAutomaton automato) {
+        this(automato, CAPACIDADE_PADRAO);
+    }
+
+    public LazyDFA(CompiledAutomaton automato, int capacidade) {
+        this.automato = automato;
+        this.nfa = new BitSetNFA(automato);
+        this.k = automato.getSymbolCount();
+        this.palavras = automato.bitSetWords();
+        this.capacidade = Math.max(2, capacidade);
+        this.transicoes = new int[16 * Math.max(1, k)];
+        this.temporario = new long[palavras];
+    }
+
+    public boolean accepts(CharSequence palavra) {
+        if (automato.getInitialState() == CompiledAutomaton.SEM_TRANSICAO) return false;
+        if (modoNFA) return nfa.accepts(palavra);
+
+        int atual = estadoInicial();
+        int contados = 0;
+        int n = palavra.length();
+        for (int i = 0; i < n; i++) {
+            int simbolo = automato.symbolOf(palavra.charAt(i));
+            if (simbolo == CompiledAutomaton.SEM_TRANSICAO) return false;
+            int proximo = transicoes[atual * k + simbolo];
+            if (proximo == DESCONHECIDO) {
+                caracteresDesdeLimpeza += i - contados;
+                contados = i;
+                proximo = calcularTransicao(atual, simbolo);
+                if (proximo == DESISTIU) {
+                    return continuarComNFA(conjuntoDesistencia, palavra, i + 1);
+                }
+            }
+            if (proximo == MORTO) return false;
+            atual = proximo;
+        }
+        caracteresDesdeLimpeza += n - contados;
+        return aceitacao[atual];
+    }
+
+    private boolean continuarComNFA(long[] conjunto, CharSequence palavra, int inicio) {
+        long[] atual = conjunto.clone();
+        long[] proximo = new long[palavras];
+        for (int i = inicio, n = palavra.length(); i < n; i++) {
+            int simbolo = automato.symbolOf(palavra.charAt(i));
+            if (simbolo == CompiledAutomaton.SEM_TRANSICAO) return false;
+            if (!nfa.step(atual, simbolo, proximo)) return false;
+            long[] troca = atual;
+            atual = proximo;
+            proximo = troca;
+        }
+        return nfa.intersectsFinal(atual);
+    }
+
+    private int estadoInicial() {
+        if (inicial == MORTO) {
+            nfa.initialSet(temporario);
+            inicial = buscarOuCriar(temporario);
+        }
+        return inicial;
+    }
+
+    private int calcularTransicao(int atual, int simbolo) {
+        if (!nfa.step(conjuntos[atual], simbolo, temporario)) {
+            transicoes[atual * k + simbolo] = MORTO;
+            return MORTO;
+        }
+        Integer existente = indice.get(new Conjunto(temporario));
+        if (existente != null) {
+            transicoes[atual * k + simbolo] = existente;
+            return existente;
+        }
+        if (total < capacidade) {
+            int novo = criar(temporario);
+            transicoes[atual * k + simbolo] = novo;
+            return novo;
+        }
+
+        // Cache cheio: esvazia e verifica se está "se debatendo"
+        if (caracteresDesdeLimpeza < (long) MIN_CARACTERES_POR_ESTADO * total) {
+            limpezasRuins++;
+        } else {
+            limpezasRuins = 0;
+        }
+        limpar();
+        if (limpezasRuins >= MAX_LIMPEZAS_RUINS) {
+            modoNFA = true;
+            conjuntoDesistencia = temporario;
+            return DESISTIU;
+        }
+        // O estado atual foi descartado; só o destino é recriado
+        return criar(temporario);
+    }
+
+    private int buscarOuCriar(long[] conjunto) {
+        Integer existente = indice.get(new Conjunto(conjunto));
+        if (existente != null) return existente;
+        if (total == capacidade) limpar();
+        return criar(conjunto);
+    }
+
+    private int criar(long[] conjunto) {
+        if (total == conjuntos.length) {
+            int novoTamanho = Math.min(capacidade, total * 2);
+            conjuntos = Arrays.copyOf(conjuntos, novoTamanho);
+            aceitacao = Arrays.copyOf(aceitacao, novoTamanho);
+            transicoes = Arrays.copyOf(transicoes, novoTamanho * Math.max(1, k));
+        }
+        int novo = total++;
+        long[] copia = conjunto.clone();
+        conjuntos[novo] = copia;
+        aceitacao[novo] = nfa.intersectsFinal(copia);
+        Arrays.fill(transicoes, novo * k, novo * k + k, DESCONHECIDO);
+        indice.put(new Conjunto(copia), novo);
+        return novo;
+    }
+
+    private void limpar() {
+        indice.clear();
+        Arrays.fill(conjuntos, 0, total, null);
+        total = 0;
+        inicial = MORTO;
+        limpezas++;
+        caracteresDesdeLimpeza = 0;
+    }
+
+    // --- Passo a passo (StreamingMatcher, AutomatonSet) ---
+    // Quem chama guarda o estado atual entre as chamadas. O id vale até o próximo passo:
+    // uma limpeza do cache renumera tudo, mas next já devolve o destino recriado.
+    // DESISTIU: o cache está se debatendo e a leitura deve seguir pelo AFND, a partir de
+    // fallbackSet().
+
+    int start() {
+        if (automato.getInitialState() == CompiledAutomaton.SEM_TRANSICAO) return MORTO;
+        if (modoNFA) {
+            nfa.initialSet(temporario);
+            conjuntoDesistencia = temporario;
+            return DESISTIU;
+        }
+        return estadoInicial();
+    }
+
+    int next(int estado, int simbolo) {
+        caracteresDesdeLimpeza++;
+        int proximo = transicoes[estado * k + simbolo];
+        return proximo == DESCONHECIDO ? calcularTransicao(estado, simbolo) : proximo;
+    }
+
+    boolean isAccepting(int estado) {
+        return aceitacao[estado];
+    }
+
+    // Conjunto de estados do AFND que o estado representa (não alterar)
+    long[] stateSet(int estado) {
+        return conjuntos[estado];
+    }
+
+    long[] fallbackSet() {
+        return conjuntoDesistencia.clone();
+    }
+
+    // --- Estatísticas do cache ---
+
+    public int getCachedStates() { return total; }
+    public int getCacheFlushes() { return limpezas; }
+    public boolean isNFAFallback() { return modoNFA; }
+
+    // Construção de subconjuntos completa (sem limite de cache), gerando um AFD parcial:
+    // conjuntos vazios não viram estados, ficam como ausência de transição.
+    public static CompiledAutomaton determinize(CompiledAutomaton automato) {
+        return determinize(automato, Integer.MAX_VALUE);
+    }
+
+    // Idem, mas desiste (null) se o AFD passar de limite estados
+    public static CompiledAutomaton determinize(CompiledAutomaton automato, int limite) {
+        return determinize(automato, limite, new ArrayList<>());
+    }
+
+    // Idem, deixando em conjuntos o conjunto de estados do AFND de cada estado do AFD
+    // (Lexer usa para saber que autômatos aceitam em cada estado)
+    static CompiledAutomaton determinize(CompiledAutomaton automato, int limite, List<long[]> conjuntos) {
+        if (automato.isDeterministic()) {
+            for (int q = 0; q < automato.getStateCount(); q++) {
+                long[] unitario = new long[automato.bitSetWords()];
+                unitario[q >>> 6] |= 1L << q;
+                conjuntos.add(unitario);
+            }
+            return automato;
+        }
+
+        BitSetNFA nfa = new BitSetNFA(automato);
+        int k = automato.getSymbolCount();
+        int palavras = automato.bitSetWords();
+
+        Map<Conjunto, Integer> indice = new HashMap<>();
+        int[] tabela = new int[16 * Math.max(1, k)];
+        int inicial = CompiledAutomaton.SEM_TRANSICAO;
+
+        if (automato.getInitialState() != CompiledAutomaton.SEM_TRANSICAO) {
+            long[] conjuntoInicial = new long[palavras];
+            nfa.initialSet(conjuntoInicial);
+            indice.put(new Conjunto(conjuntoInicial), 0);
+            conjuntos.add(conjuntoInicial);
+            inicial = 0;
+        }
+
+        long[] proximo = new long[palavras];
+        for (int atual = 0; atual < conjuntos.size(); atual++) {
+            if ((atual + 1) * k > tabela.length) {
+                tabela = Arrays.copyOf(tabela, tabela.length * 2);
+            }
+            for (int simbolo = 0; simbolo < k; simbolo++) {
+                int destino = CompiledAutomaton.SEM_TRANSICAO;
+                if (nfa.step(conjuntos.get(atual), simbolo, proximo)) {
+                    Conjunto chave = new Conjunto(proximo.clone());
+                    Integer existente = indice.get(chave);
+                    if (existente == null) {
+                        if (conjuntos.size() == limite) return null;
+                        existente = conjuntos.size();
+                        indice.put(chave, existente);
+                        conjuntos.add(chave.bits);
+                    }
+                    destino = existente;
+                }
+                tabela[atual * k + simbolo] = destino;
+            }
+        }
+
+        int n = conjuntos.size();
+        String[] nomes = new String[n];
+        double[] x = new double[n];
+        double[] y = new double[n];
+        boolean[] finais = new boolean[n];
+        for (int q = 0; q < n; q++) {
+            estadoDoConjunto(automato, conjuntos.get(q), q, nomes, x, y);
+            finais[q] = nfa.intersectsFinal(conjuntos.get(q));
+        }
+
+        return CompiledAutomaton.fromTable(nomes, x, y, inicial, finais, automato.getSymbolClasses(),
+                Arrays.copyOf(tabela, n * k));
+    }
+
+    // Estado do AFD nomeado pelos estados do AFND que representa, na posição média deles
+    private static void estadoDoConjunto(CompiledAutomaton automato, long[] conjunto,
+                                         int indice, String[] nomes, double[] x, double[] y) {
+        StringJoiner nome = new StringJoiner(",", "{", "}");
+        double somaX = 0, somaY = 0;
+        int quantidade = 0;
+        for (int w = 0; w < conjunto.length; w++) {
+            long bits = conjunto[w];
+            while (bits != 0) {
+                int membro = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                nome.add(automato.getStateName(membro));
+                somaX += automato.getX(membro);
+                somaY += automato.getY(membro);
+                quantidade++;
+            }
+        }
+        nomes[indice] = nome.toString();
+        x[indice] = somaX / quantidade;
+        y[indice] = somaY / quantidade;
+    }
+}
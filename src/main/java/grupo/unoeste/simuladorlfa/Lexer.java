@@ -0,0 +1,196 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+
+// Analisador léxico gerado de uma lista ordenada de definições de token (expressões
+// regulares, ver RegexCompiler, ou autômatos do editor).
+//
+// As definições viram um único AFD: a união disjunta dos autômatos (a mesma do
+// AutomatonSet) determinizada de uma vez. Cada estado do AFD guarda o tipo do token que
+// reconhece: o da primeira definição da lista entre as que aceitam ali, então a ordem é a
+// prioridade (como no lex: palavras-chave antes de identificadores). A leitura é pelo
+// casamento mais longo: da posição atual o AFD anda até morrer, lembrando o último estado
+// que aceitou, e o token vai até ali; o próximo começa logo depois.
+//
+// Os tokens saem num buffer de ints (tipo, início, tamanho) que pode ser reaproveitado,
+// sem um objeto por token. Definições ignoradas (espaços, comentários) são reconhecidas
+// mas não entram no buffer. Um caractere que não começa nenhum token vira um token ERRO
+// de tamanho 1 e a leitura continua. Depois de construído, pode ser usado por várias
+// threads ao mesmo tempo (cada uma com seu buffer).
+public final class Lexer {
+
+    public static final int ERRO = -1;
+
+    // Tokens como triplas (tipo, início, tamanho) num único vetor
+    public static final class Tokens {
+        private int[] dados = new int[3 * 64];
+        private int total = 0;
+
+        public void clear() { total = 0; }
+        public int getCount() { return total; }
+        public int getType(int i) { return dados[3 * i]; }
+        public int getOffset(int i) { return dados[3 * i + 1]; }
+        public int getLength(int i) { return dados[3 * i + 2]; }
+
+        void add(int tipo, int inicio, int tamanho) {
+            if (3 * total == dados.length) {
+                dados = Arrays.copyOf(dados, dados.length * 2);
+            }
+            dados[3 * total] = tipo;
+            dados[3 * total + 1] = inicio;
+            dados[3 * total + 2] = tamanho;
+            total++;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Definições na ordem de prioridade; o tipo de cada token é a posição dele aqui
+    public static final class Builder {
+        private final List<String> nomes = new ArrayList<>();
+        private final List<CompiledAutomaton> automatos = new ArrayList<>();
+        private final List<Boolean> ignorados = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder addToken(String nome, String expressao) {
+            return addToken(nome, RegexCompiler.compile(expressao).compile());
+        }
+
+        public Builder addToken(String nome, CompiledAutomaton automato) {
+            return adicionar(nome, automato, false);
+        }
+
+        public Builder addSkipped(String nome, String expressao) {
+            return addSkipped(nome, RegexCompiler.compile(expressao).compile());
+        }
+
+        public Builder addSkipped(String nome, CompiledAutomaton automato) {
+            return adicionar(nome, automato, true);
+        }
+
+        private Builder adicionar(String nome, CompiledAutomaton automato, boolean ignorado) {
+            nomes.add(nome);
+            automatos.add(automato);
+            ignorados.add(ignorado);
+            return this;
+        }
+
+        public Lexer build() {
+            return new Lexer(this);
+        }
+    }
+
+    private final String[] nomes;
+    private final boolean[] ignorados;
+    private final CompiledAutomaton afd;
+    private final int[] tipoDoEstado; // ERRO se o estado não aceita
+    // Tabelas do laço principal: símbolo dos caracteres abaixo de 256 e δ(q, s) em q*k + s
+    private final int[] simboloBaixo = new int[256];
+    private final int[] tabela;
+    private final int k;
+
+    private Lexer(Builder construtor) {
+        nomes = construtor.nomes.toArray(new String[0]);
+        ignorados = new boolean[nomes.length];
+        for (int i = 0; i < nomes.length; i++) {
+            ignorados[i] = construtor.ignorados.get(i);
+        }
+
+        CompiledAutomaton[] automatos = construtor.automatos.toArray(new CompiledAutomaton[0]);
+        int[] dono = AutomatonSet.stateOwners(automatos);
+        CompiledAutomaton uniao = AutomatonSet.disjointUnion(automatos);
+        List<long[]> conjuntos = new ArrayList<>();
+        afd = LazyDFA.determinize(uniao, Integer.MAX_VALUE, conjuntos);
+
+        k = Math.max(1, afd.getSymbolCount());
+        tabela = new int[afd.getStateCount() * k];
+        for (int q = 0; q < afd.getStateCount(); q++) {
+            for (int s = 0; s < afd.getSymbolCount(); s++) {
+                tabela[q * k + s] = afd.step(q, s);
+            }
+        }
+        for (char c = 0; c < simboloBaixo.length; c++) {
+            simboloBaixo[c] = afd.symbolOf(c);
+        }
+
+        // Os estados de cada definição vêm em sequência na união: o primeiro final do
+        // conjunto é da definição de maior prioridade
+        tipoDoEstado = new int[afd.getStateCount()];
+        for (int q = 0; q < tipoDoEstado.length; q++) {
+            tipoDoEstado[q] = ERRO;
+            long[] conjunto = conjuntos.get(q);
+            for (int w = 0; w < conjunto.length && tipoDoEstado[q] == ERRO; w++) {
+                long bits = conjunto[w];
+                while (bits != 0) {
+                    int estado = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    if (uniao.isFinal(estado)) {
+                        tipoDoEstado[q] = dono[estado];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    public int getTokenTypeCount() { return nomes.length; }
+    public String getTokenName(int tipo) { return tipo == ERRO ? "ERRO" : nomes[tipo]; }
+    public boolean isSkipped(int tipo) { return tipo != ERRO && ignorados[tipo]; }
+    public int getStateCount() { return afd.getStateCount(); }
+
+    public Tokens tokenize(CharSequence texto) {
+        Tokens tokens = new Tokens();
+        tokenize(texto, tokens);
+        return tokens;
+    }
+
+    // Bytes como ISO-8859-1; posições em bytes
+    public void tokenize(byte[] texto, Tokens destino) {
+        tokenize(new TextSearcher.Latin1(ByteBuffer.wrap(texto)), destino);
+    }
+
+    // O arquivo é mapeado em memória (até 2 GB) e lido como ISO-8859-1
+    public void tokenizeFile(Path arquivo, Tokens destino) throws IOException {
+        tokenize(new TextSearcher.Latin1(TextSearcher.mapFile(arquivo)), destino);
+    }
+
+    // Esvazia o buffer e o preenche com os tokens do texto
+    public void tokenize(CharSequence texto, Tokens destino) {
+        destino.clear();
+        int inicial = afd.getInitialState();
+        int n = texto.length();
+        int posicao = 0;
+        while (posicao < n) {
+            int q = inicial;
+            int fim = -1;
+            int tipo = ERRO;
+            for (int j = posicao; j < n; j++) {
+                char c = texto.charAt(j);
+                int simbolo = c < simboloBaixo.length ? simboloBaixo[c] : afd.symbolOf(c);
+                if (simbolo == CompiledAutomaton.SEM_TRANSICAO) break;
+                q = tabela[q * k + simbolo];
+                if (q == CompiledAutomaton.SEM_TRANSICAO) break;
+                if (tipoDoEstado[q] != ERRO) {
+                    fim = j + 1;
+                    tipo = tipoDoEstado[q];
+                }
+            }
+            if (fim < 0) {
+                destino.add(ERRO, posicao, 1);
+                posicao++;
+            } else {
+                if (!ignorados[tipo]) {
+                    destino.add(tipo, posicao, fim - posicao);
+                }
+                posicao = fim;
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Imagem binária da tabela de um AFD, aberta com FileChannel.map: ao abrir só o cabeçalho
+// e as faixas do alfabeto são lidos e validados, então o custo não depende do número de
+// estados; a simulação lê direto das páginas mapeadas (compartilhadas entre processos).
+// Cada destino lido da tabela é conferido na hora: um destino fora de [-1, n) numa imagem
+// corrompida vira UncheckedIOException em vez de um índice estourado.
+//
+// Layout (inteiros de 32 bits, little-endian):
+//   cabeçalho  MAGICO, VERSAO, n, k, inicial, m
+//   m faixas   (início, fim, símbolo) das classes do alfabeto, em ordem crescente
+//   finais     ceil(n / 32) palavras de bits
+//   tabela     n * k destinos (-1 = sem transição)
+public final class MappedDFA {
+
+    public static final String EXTENSAO = ".afi";
+
+    private static final int MAGICO = 0x4146494D; // "AFIM"
+    private static final int VERSAO = 2;
+    private static final int TAMANHO_CABECALHO = 6;
+
+    private final int n;
+    private final int k;
+    private final int inicial;
+    private final CharClassTable classeCaractere; // pequeno: só o alfabeto, montado ao abrir
+    private final IntBuffer finais;
+    private final IntBuffer tabela;
+
+    private MappedDFA(ByteBuffer imagem) throws IOException {
+        IntBuffer inteiros = imagem.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        if (inteiros.limit() < TAMANHO_CABECALHO || inteiros.get(0) != MAGICO) {
+            throw new IOException("Arquivo não é uma imagem de autômato (" + EXTENSAO + ")");
+        }
+        int versao = inteiros.get(1);
+        if (versao != VERSAO) {
+            throw new IOException("Versão de imagem não suportada: " + versao);
+        }
+        n = inteiros.get(2);
+        k = inteiros.get(3);
+        inicial = inteiros.get(4);
+        int m = inteiros.get(5);
+
+        long palavrasFinais = (n + 31L) / 32;
+        long esperado = TAMANHO_CABECALHO + 3L * m + palavrasFinais + (long) n * k;
+        if (n < 0 || k < 0 || m < 0 || !destinoValido(inicial, n) || inteiros.limit() != esperado) {
+            throw new IOException("Imagem de autômato corrompida");
+        }
+
+        int[] inicios = new int[m];
+        int[] fins = new int[m];
+        int[] simbolos = new int[m];
+        for (int i = 0; i < m; i++) {
+            int base = TAMANHO_CABECALHO + 3 * i;
+            inicios[i] = inteiros.get(base);
+            fins[i] = inteiros.get(base + 1);
+            simbolos[i] = inteiros.get(base + 2);
+            if (inicios[i] < 0 || fins[i] < inicios[i] || fins[i] > Character.MAX_VALUE
+                    || simbolos[i] < 0 || simbolos[i] >= k) {
+                throw new IOException("Imagem de autômato corrompida");
+            }
+        }
+        for (int i = 1; i < m; i++) {
+            if (inicios[i] <= fins[i - 1]) {
+                throw new IOException("Imagem de autômato corrompida");
+            }
+        }
+        classeCaractere = new CharClassTable(inicios, fins, simbolos);
+
+        int inicioFinais = TAMANHO_CABECALHO + 3 * m;
+        finais = inteiros.slice(inicioFinais, (int) palavrasFinais);
+        tabela = inteiros.slice(inicioFinais + (int) palavrasFinais, n * k);
+    }
+
+    private static boolean destinoValido(int estado, int n) {
+        return estado >= CompiledAutomaton.SEM_TRANSICAO && estado < n;
+    }
+
+    public static MappedDFA open(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Imagem maior que 2 GiB não suportada");
+            }
+            // O mapeamento continua válido depois de fechar o canal
+            MappedByteBuffer imagem = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return new MappedDFA(imagem);
+        }
+    }
+
+    // Grava a imagem; AFNDs são determinizados antes
+    public static void write(CompiledAutomaton automato, Path arquivo) throws IOException {
+        CompiledAutomaton afd = LazyDFA.determinize(automato);
+        int n = afd.getStateCount();
+        int k = afd.getSymbolCount();
+
+        CharClassTable faixas = afd.charClassTable();
+        int m = faixas.getRangeCount();
+        int palavrasFinais = (n + 31) / 32;
+        long bytes = 4L * (TAMANHO_CABECALHO + 3L * m + palavrasFinais + (long) n * k);
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IOException("Autômato grande demais para a imagem (" + bytes + " bytes)");
+        }
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer imagem = canal.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            IntBuffer saida = imagem.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            saida.put(MAGICO).put(VERSAO).put(n).put(k).put(afd.getInitialState()).put(m);
+            for (int f = 0; f < m; f++) {
+                saida.put(faixas.getRangeStart(f)).put(faixas.getRangeEnd(f)).put(faixas.getRangeSymbol(f));
+            }
+            for (int w = 0; w < palavrasFinais; w++) {
+                int bits = 0;
+                for (int q = w * 32; q < Math.min(n, w * 32 + 32); q++) {
+                    if (afd.isFinal(q)) bits |= 1 << (q & 31);
+                }
+                saida.put(bits);
+            }
+            for (int q = 0; q < n; q++) {
+                for (int s = 0; s < k; s++) {
+                    saida.put(afd.step(q, s));
+                }
+            }
+            imagem.force();
+        }
+    }
+
+    public int getStateCount() { return n; }
+    public int getSymbolCount() { return k; }
+    public int getInitialState() { return inicial; }
+
+    public boolean isFinal(int estado) {
+        return (finais.get(estado >>> 5) & (1 << (estado & 31))) != 0;
+    }
+
+    public int symbolOf(char c) {
+        return classeCaractere.symbolOf(c);
+    }
+
+    public int step(int estado, int simbolo) {
+        return destino(estado * k + simbolo);
+    }
+
+    private int destino(int celula) {
+        int estado = tabela.get(celula);
+        if (!destinoValido(estado, n)) {
+            throw new UncheckedIOException(new IOException(
+                    "Imagem de autômato corrompida: destino " + estado + " na posição " + celula + " da tabela"));
+        }
+        return estado;
+    }
+
+    // Só leituras absolutas: pode ser usado por várias threads ao mesmo tempo
+    public boolean accepts(CharSequence palavra) {
+        int estado = inicial;
+        if (estado == CompiledAutomaton.SEM_TRANSICAO) return false;
+        for (int i = 0; i < palavra.length(); i++) {
+            int simbolo = classeCaractere.symbolOf(palavra.charAt(i));
+            if (simbolo == CompiledAutomaton.SEM_TRANSICAO) return false;
+            estado = destino(estado * k + simbolo);
+            if (estado == CompiledAutomaton.SEM_TRANSICAO) return false;
+        }
+        return isFinal(estado);
+    }
+}
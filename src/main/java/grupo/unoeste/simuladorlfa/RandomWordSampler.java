@@ -0,0 +1,239 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.stream.Stream;
+
+// Sorteio uniforme de palavras de tamanho fixo n: aceitas (L(A) ∩ Σ^n) ou rejeitadas
+// (complemento ∩ Σ^n, com Σ = caracteres que o autômato lê).
+//
+// cont[r][q] = número de palavras de tamanho r que levam q a um final. Partindo do
+// inicial, cada símbolo s (uma classe com |s| caracteres) é escolhido com probabilidade
+// |s|·cont[r-1][δ(q,s)] / cont[r][q] e o caractere é sorteado dentro da classe, o que dá
+// exatamente 1/|L ∩ Σ^n| para cada palavra. Basta um único sorteio x em
+// [0, |L ∩ Σ^n|) por palavra: dentro do ramo escolhido, x / cont[r-1][δ] escolhe o
+// caractere e o resto continua uniforme e decide os símbolos seguintes. As contagens ficam em long enquanto
+// couberem; acima disso usa-se BigInteger (bem mais lento). Memória: (n+1)·|Q| contagens.
+public class RandomWordSampler {
+
+    // Destino das palavras sorteadas; o vetor é reutilizado entre chamadas
+    @FunctionalInterface
+    public interface WordSink {
+        void accept(char[] palavra, int tamanho);
+    }
+
+    private final CompiledAutomaton afd;
+    private final int tamanho;
+    private final int[] simbolos;   // em ordem do primeiro caractere
+    private final CharClass[] classes;
+    private final int[] larguras;     // caracteres de cada classe
+    private final char[] primeiros;   // caractere das classes de largura 1
+    private final int estados;
+
+    private final long[] cont;          // cont[r * estados + q], modo long
+    private final BigInteger[] contGrande; // mesmo layout, quando long não basta
+    private final boolean vazio;
+
+    // Sorteia palavras de tamanho n aceitas pelo autômato
+    public static RandomWordSampler accepted(CompiledAutomaton automato, int tamanho) {
+        return new RandomWordSampler(DFAMinimizer.minimize(automato), tamanho);
+    }
+
+    // Sorteia palavras de tamanho n rejeitadas pelo autômato
+    public static RandomWordSampler rejected(CompiledAutomaton automato, int tamanho) {
+        return new RandomWordSampler(AutomatonOperations.complement(automato), tamanho);
+    }
+
+    private RandomWordSampler(CompiledAutomaton afd, int tamanho) {
+        if (tamanho < 0) {
+            throw new IllegalArgumentException("Tamanho negativo: " + tamanho);
+        }
+        this.afd = afd;
+        this.tamanho = tamanho;
+        this.estados = afd.getStateCount();
+
+        List<Integer> lista = new ArrayList<>();
+        for (int s = 0; s < afd.getSymbolCount(); s++) {
+            lista.add(s);
+        }
+        lista.sort(Comparator.comparingInt(s -> afd.getSymbolClass(s).first()));
+        simbolos = lista.stream().mapToInt(Integer::intValue).toArray();
+        classes = new CharClass[simbolos.length];
+        larguras = new int[simbolos.length];
+        primeiros = new char[simbolos.length];
+        for (int i = 0; i < simbolos.length; i++) {
+            classes[i] = afd.getSymbolClass(simbolos[i]);
+            larguras[i] = classes[i].size();
+            primeiros[i] = classes[i].first();
+        }
+
+        long[] contagens = contarLong();
+        this.cont = contagens;
+        this.contGrande = contagens == null ? contarBigInteger() : null;
+        this.vazio = getWordCount().signum() == 0;
+    }
+
+    private long[] contarLong() {
+        long[] c = new long[(tamanho + 1) * estados];
+        for (int q = 0; q < estados; q++) {
+            c[q] = afd.isFinal(q) ? 1 : 0;
+        }
+        try {
+            for (int r = 1; r <= tamanho; r++) {
+                int base = r * estados;
+                int anterior = base - estados;
+                for (int q = 0; q < estados; q++) {
+                    long soma = 0;
+                    for (int i = 0; i < simbolos.length; i++) {
+                        int destino = afd.step(q, simbolos[i]);
+                        if (destino != CompiledAutomaton.SEM_TRANSICAO) {
+                            soma = Math.addExact(soma, Math.multiplyExact(c[anterior + destino], larguras[i]));
+                        }
+                    }
+                    c[base + q] = soma;
+                }
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return c;
+    }
+
+    private BigInteger[] contarBigInteger() {
+        BigInteger[] c = new BigInteger[(tamanho + 1) * estados];
+        for (int q = 0; q < estados; q++) {
+            c[q] = afd.isFinal(q) ? BigInteger.ONE : BigInteger.ZERO;
+        }
+        for (int r = 1; r <= tamanho; r++) {
+            int base = r * estados;
+            int anterior = base - estados;
+            for (int q = 0; q < estados; q++) {
+                BigInteger soma = BigInteger.ZERO;
+                for (int i = 0; i < simbolos.length; i++) {
+                    int destino = afd.step(q, simbolos[i]);
+                    if (destino != CompiledAutomaton.SEM_TRANSICAO) {
+                        soma = soma.add(c[anterior + destino].multiply(BigInteger.valueOf(larguras[i])));
+                    }
+                }
+                c[base + q] = soma;
+            }
+        }
+        return c;
+    }
+
+    public int getLength() { return tamanho; }
+
+    // |L ∩ Σ^n| (ou do complemento, para rejected)
+    public BigInteger getWordCount() {
+        int inicial = afd.getInitialState();
+        if (inicial == CompiledAutomaton.SEM_TRANSICAO) return BigInteger.ZERO;
+        int indice = tamanho * estados + inicial;
+        return cont != null ? BigInteger.valueOf(cont[indice]) : contGrande[indice];
+    }
+
+    public boolean isEmpty() {
+        return vazio;
+    }
+
+    // Preenche destino[0..n) com uma palavra sorteada
+    public void sample(SplittableRandom random, char[] destino) {
+        if (vazio) {
+            throw new NoSuchElementException("Não há palavras de tamanho " + tamanho + " para sortear");
+        }
+        if (cont != null) {
+            sortearLong(random, destino);
+        } else {
+            sortearBigInteger(random, destino);
+        }
+    }
+
+    public String sample(SplittableRandom random) {
+        char[] palavra = new char[tamanho];
+        sample(random, palavra);
+        return new String(palavra);
+    }
+
+    // Sorteia quantidade palavras para o destino, reutilizando um único buffer
+    public void sample(long quantidade, SplittableRandom random, WordSink destino) {
+        char[] palavra = new char[tamanho];
+        for (long i = 0; i < quantidade; i++) {
+            sample(random, palavra);
+            destino.accept(palavra, tamanho);
+        }
+    }
+
+    // Sequência infinita e reproduzível de palavras sorteadas (use limit)
+    public Stream<String> stream(long semente) {
+        SplittableRandom random = new SplittableRandom(semente);
+        return Stream.generate(() -> sample(random));
+    }
+
+    private void sortearLong(SplittableRandom random, char[] destino) {
+        int q = afd.getInitialState();
+        long x = random.nextLong(cont[tamanho * estados + q]);
+        for (int r = tamanho; r > 0; r--) {
+            int anterior = (r - 1) * estados;
+            for (int i = 0; ; i++) {
+                int d = afd.step(q, simbolos[i]);
+                if (d == CompiledAutomaton.SEM_TRANSICAO) continue;
+                long ramo = cont[anterior + d];
+                if (larguras[i] == 1) {
+                    if (x < ramo) {
+                        destino[tamanho - r] = primeiros[i];
+                        q = d;
+                        break;
+                    }
+                    x -= ramo;
+                    continue;
+                }
+                long peso = ramo * larguras[i];
+                if (x < peso) {
+                    destino[tamanho - r] = classes[i].charAt((int) (x / ramo));
+                    x %= ramo;
+                    q = d;
+                    break;
+                }
+                x -= peso;
+            }
+        }
+    }
+
+    private void sortearBigInteger(SplittableRandom random, char[] destino) {
+        int q = afd.getInitialState();
+        BigInteger x = abaixoDe(contGrande[tamanho * estados + q], random);
+        for (int r = tamanho; r > 0; r--) {
+            int anterior = (r - 1) * estados;
+            for (int i = 0; ; i++) {
+                int d = afd.step(q, simbolos[i]);
+                if (d == CompiledAutomaton.SEM_TRANSICAO) continue;
+                BigInteger ramo = contGrande[anterior + d];
+                BigInteger peso = ramo.multiply(BigInteger.valueOf(larguras[i]));
+                if (x.compareTo(peso) < 0) {
+                    BigInteger[] divisao = x.divideAndRemainder(ramo);
+                    destino[tamanho - r] = classes[i].charAt(divisao[0].intValue());
+                    x = divisao[1];
+                    q = d;
+                    break;
+                }
+                x = x.subtract(peso);
+            }
+        }
+    }
+
+    // Inteiro uniforme em [0, limite), por rejeição sobre bitLength bits aleatórios
+    private static BigInteger abaixoDe(BigInteger limite, SplittableRandom random) {
+        int bits = limite.bitLength();
+        byte[] bytes = new byte[(bits + 7) / 8 + 1];
+        while (true) {
+            for (int i = 1; i < bytes.length; i++) {
+                bytes[i] = (byte) random.nextInt(256);
+            }
+            int sobra = (bytes.length - 1) * 8 - bits;
+            bytes[1] &= (byte) (0xFF >>> sobra);
+            BigInteger x = new BigInteger(bytes); // bytes[0] = 0 mantém o número positivo
+            if (x.compareTo(limite) < 0) {
+                return x;
+            }
+        }
+    }
+}
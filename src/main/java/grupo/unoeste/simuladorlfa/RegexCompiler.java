@@ -0,0 +1,288 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.util.SymbolLabels;
+
+import java.util.*;
+
+// Expressão regular -> AFND-ε pela construção de Thompson.
+//
+// Sintaxe (a mesma do Simulador):
+//   a-z A-Z 0-9   símbolos
+//   [a-z_] [^0-9] classes de caracteres, com a sintaxe de CharClass
+//   \x            o caractere x literal; \t \n \r e \\uXXXX (espaço: \\u0020, já que
+//                 os espaços da expressão são ignorados)
+//   &             palavra vazia (ε)
+//   ( )           agrupamento
+//   |             união
+//   *  +          zero ou mais / uma ou mais repetições
+// Espaços são ignorados. O autômato tem no máximo 2 estados por caractere da expressão,
+// então compilar e simular são lineares no tamanho da expressão e da palavra. O resultado
+// é um CoreAutomaton (sem JavaFX); o editor o desenha com AutomatonModel.fromCore.
+public class RegexCompiler {
+
+    private static final double ESPACO_X = 90;
+    private static final double ESPACO_Y = 80;
+    private static final double MARGEM = 60;
+
+    // Fragmento de Thompson: um estado de entrada e um de saída
+    private static class Fragmento {
+        final int inicio;
+        final int fim;
+
+        Fragmento(int inicio, int fim) {
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+    }
+
+    private final String expressao;
+    private int posicao = 0;
+    private int totalEstados = 0;
+    // Arestas em vetores paralelos; símbolo null = ε
+    private int[] origens = new int[16];
+    private int[] destinos = new int[16];
+    private String[] simbolos = new String[16];
+    private int totalArestas = 0;
+
+    private RegexCompiler(String expressao) {
+        this.expressao = expressao;
+    }
+
+    public static CoreAutomaton compile(String expressao) {
+        RegexCompiler compilador = new RegexCompiler(expressao.replace(" ", ""));
+        Fragmento fragmento = compilador.uniao();
+        if (compilador.posicao < compilador.expressao.length()) {
+            throw compilador.erro(compilador.expressao.charAt(compilador.posicao) == ')'
+                    ? "')' sem '(' correspondente" : "caractere inesperado");
+        }
+        return compilador.montarAutomato(fragmento);
+    }
+
+    public static boolean isSymbol(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    // --- Análise sintática (descendente recursiva) ---
+
+    // uniao := concatenacao ('|' concatenacao)*
+    private Fragmento uniao() {
+        Fragmento esquerda = concatenacao();
+        while (posicao < expressao.length() && expressao.charAt(posicao) == '|') {
+            posicao++;
+            Fragmento direita = concatenacao();
+            int inicio = novoEstado();
+            int fim = novoEstado();
+            aresta(inicio, esquerda.inicio, null);
+            aresta(inicio, direita.inicio, null);
+            aresta(esquerda.fim, fim, null);
+            aresta(direita.fim, fim, null);
+            esquerda = new Fragmento(inicio, fim);
+        }
+        return esquerda;
+    }
+
+    // concatenacao := repeticao*   (vazia = ε)
+    private Fragmento concatenacao() {
+        Fragmento resultado = null;
+        while (posicao < expressao.length()) {
+            char c = expressao.charAt(posicao);
+            if (c == '|' || c == ')') {
+                break;
+            }
+            Fragmento proximo = repeticao();
+            if (resultado == null) {
+                resultado = proximo;
+            } else {
+                aresta(resultado.fim, proximo.inicio, null);
+                resultado = new Fragmento(resultado.inicio, proximo.fim);
+            }
+        }
+        return resultado != null ? resultado : vazio();
+    }
+
+    // repeticao := atomo ('*' | '+')*
+    private Fragmento repeticao() {
+        Fragmento base = atomo();
+        while (posicao < expressao.length()) {
+            char c = expressao.charAt(posicao);
+            if (c != '*' && c != '+') {
+                break;
+            }
+            posicao++;
+            int inicio = novoEstado();
+            int fim = novoEstado();
+            aresta(inicio, base.inicio, null);
+            if (c == '*') {
+                aresta(inicio, fim, null);
+            }
+            aresta(base.fim, base.inicio, null);
+            aresta(base.fim, fim, null);
+            base = new Fragmento(inicio, fim);
+        }
+        return base;
+    }
+
+    // atomo := simbolo | classe | '\' escape | '&' | '(' uniao ')'
+    private Fragmento atomo() {
+        char c = expressao.charAt(posicao);
+        if (isSymbol(c)) {
+            posicao++;
+            return simbolo(String.valueOf(c));
+        }
+        if (c == '[') {
+            int fechamento = SymbolLabels.classEnd(expressao, posicao);
+            if (fechamento < 0) {
+                throw erro("'[' sem ']' correspondente");
+            }
+            CharClass classe = CharClass.parse(expressao.substring(posicao, fechamento + 1));
+            if (classe == null || classe.isEmpty()) {
+                throw erro("classe de caracteres inválida");
+            }
+            posicao = fechamento + 1;
+            return simbolo(classe.label());
+        }
+        if (c == '\\') {
+            return simbolo(CharClass.of(escape()).label());
+        }
+        if (c == '&') {
+            posicao++;
+            return vazio();
+        }
+        if (c == '(') {
+            int abertura = posicao++;
+            Fragmento interno = uniao();
+            if (posicao >= expressao.length() || expressao.charAt(posicao) != ')') {
+                posicao = abertura;
+                throw erro("'(' sem ')' correspondente");
+            }
+            posicao++;
+            return interno;
+        }
+        if (c == '*' || c == '+') {
+            throw erro("'" + c + "' sem nada para repetir");
+        }
+        throw erro("caractere inválido '" + c + "'");
+    }
+
+    // Caractere escapado em \x, \t, \n, \r ou \\uXXXX; avança a posição
+    private char escape() {
+        if (posicao + 1 >= expressao.length()) {
+            throw erro("'\\' no fim da expressão");
+        }
+        char c = expressao.charAt(posicao + 1);
+        posicao += 2;
+        switch (c) {
+            case 't': return '\t';
+            case 'n': return '\n';
+            case 'r': return '\r';
+            case 'u':
+                if (posicao + 4 <= expressao.length()) {
+                    try {
+                        char codigo = (char) Integer.parseInt(expressao.substring(posicao, posicao + 4), 16);
+                        posicao += 4;
+                        return codigo;
+                    } catch (NumberFormatException e) {
+                        // não é \\uXXXX: vale o 'u' literal
+                    }
+                }
+                return c;
+            default:
+                return c;
+        }
+    }
+
+    private Fragmento simbolo(String rotulo) {
+        int inicio = novoEstado();
+        int fim = novoEstado();
+        aresta(inicio, fim, rotulo);
+        return new Fragmento(inicio, fim);
+    }
+
+    private Fragmento vazio() {
+        int inicio = novoEstado();
+        int fim = novoEstado();
+        aresta(inicio, fim, null);
+        return new Fragmento(inicio, fim);
+    }
+
+    private IllegalArgumentException erro(String mensagem) {
+        return new IllegalArgumentException("Expressão inválida na posição " + (posicao + 1) + ": " + mensagem);
+    }
+
+    private int novoEstado() {
+        return totalEstados++;
+    }
+
+    private void aresta(int origem, int destino, String simbolo) {
+        if (totalArestas == origens.length) {
+            origens = Arrays.copyOf(origens, totalArestas * 2);
+            destinos = Arrays.copyOf(destinos, totalArestas * 2);
+            simbolos = Arrays.copyOf(simbolos, totalArestas * 2);
+        }
+        origens[totalArestas] = origem;
+        destinos[totalArestas] = destino;
+        simbolos[totalArestas] = simbolo;
+        totalArestas++;
+    }
+
+    // --- Montagem do autômato ---
+
+    // Estados numerados em largura a partir do inicial; x pela distância ao inicial,
+    // y pela ordem dentro da mesma distância
+    private CoreAutomaton montarAutomato(Fragmento fragmento) {
+        int[] inicioSaidas = new int[totalEstados + 1];
+        for (int i = 0; i < totalArestas; i++) {
+            inicioSaidas[origens[i] + 1]++;
+        }
+        for (int q = 0; q < totalEstados; q++) {
+            inicioSaidas[q + 1] += inicioSaidas[q];
+        }
+        int[] saidas = new int[totalArestas];
+        int[] preenchido = Arrays.copyOf(inicioSaidas, totalEstados);
+        for (int i = 0; i < totalArestas; i++) {
+            saidas[preenchido[origens[i]]++] = i;
+        }
+
+        int[] ordem = new int[totalEstados];
+        int[] novoIndice = new int[totalEstados];
+        int[] nivel = new int[totalEstados];
+        int[] linha = new int[totalEstados];
+        Arrays.fill(novoIndice, -1);
+        int visitados = 0;
+        novoIndice[fragmento.inicio] = visitados;
+        ordem[visitados++] = fragmento.inicio;
+        Map<Integer, Integer> ocupacaoNivel = new HashMap<>();
+        ocupacaoNivel.put(0, 1);
+        for (int i = 0; i < visitados; i++) {
+            int q = ordem[i];
+            for (int j = inicioSaidas[q]; j < inicioSaidas[q + 1]; j++) {
+                int destino = destinos[saidas[j]];
+                if (novoIndice[destino] == -1) {
+                    novoIndice[destino] = visitados;
+                    ordem[visitados++] = destino;
+                    nivel[destino] = nivel[q] + 1;
+                    linha[destino] = ocupacaoNivel.merge(nivel[destino], 1, Integer::sum) - 1;
+                }
+            }
+        }
+        // Partes inalcançáveis não existem na construção de Thompson, mas por garantia
+        for (int q = 0; q < totalEstados; q++) {
+            if (novoIndice[q] == -1) {
+                novoIndice[q] = visitados;
+                ordem[visitados++] = q;
+            }
+        }
+
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        for (int i = 0; i < totalEstados; i++) {
+            int q = ordem[i];
+            construtor.addState("q" + i, MARGEM + nivel[q] * ESPACO_X, MARGEM + linha[q] * ESPACO_Y,
+                    q == fragmento.inicio, q == fragmento.fim);
+        }
+        for (int i = 0; i < totalArestas; i++) {
+            construtor.addTransition(novoIndice[origens[i]], novoIndice[destinos[i]],
+                    simbolos[i] == null ? "ε" : simbolos[i]);
+        }
+        return construtor.build();
+    }
+}
@@ -1,57 +1,24 @@
 package grupo.unoeste.simuladorlfa;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+// Expressões regulares no console. A expressão é compilada para um AFND-ε (Thompson,
+// ver RegexCompiler) e as palavras são testadas no autômato, em tempo linear.
 public class Simulador {
     public static void main(String[] args) {
         Scanner scanner = new Scanner(System.in);
-        System.out.println("Digite uma expressão regular: ");
-        String teste = scanner.nextLine();
-        teste = teste.replace(" ", "");
-
-        List<String> aux = new ArrayList<>();
-        for (int i = 0; i < teste.length(); i++) {
-            char c = teste.charAt(i);
-            if (String.valueOf(c).matches("[a-zA-Z0-9]")) {
-                aux.add(String.valueOf(c));
-            }
-        }
-
-        String expressao = "";
-        boolean vazio = false;
-
-        if (teste.length() > 0 && teste.charAt(0) == '&') {
-            teste = teste.replace("&|", "");
-            vazio = true;
-        }
-
-        for (int i = 0; i < teste.length(); i++) {
-            char j = teste.charAt(i);
-            if (j == '(') {
-                expressao += "(";
-            } else if (aux.contains(String.valueOf(j))) {
-                expressao += j;
-            } else if (j == ')') {
-                expressao += ")";
-            } else if (j == '|') {
-                expressao += '|';
-            } else if (j == '*') {
-                expressao += "*";
-            } else if (j == '+') {
-                expressao += "+";
-            }
-        }
-
-        if (vazio) {
-            expressao += "*";
+        String teste = "";
+        CompiledAutomaton automato = null;
+        while (automato == null) {
+            System.out.println("Digite uma expressão regular: ");
+            teste = scanner.nextLine().replace(" ", "");
+            automato = compilarExpressao(teste);
         }
 
-        System.out.println("Expressão processada: " + expressao);
         System.out.println("OPÇÃO 1 - VALIDAR PALAVRA PARA EXPRESSÃO REGULAR DIGITADA");
         System.out.println("OPÇÃO 2 - GERAR 10 PALAVRAS PARA EXPRESSÃO REGULAR DIGITADA");
         System.out.println("OPÇÃO 3 - INSERIR OUTRA EXPRESSÃO REGULAR");
+        System.out.println("OPÇÃO 4 - ANALISADOR LÉXICO COM UMA LISTA DE EXPRESSÕES");
         System.out.println("OPÇÃO 0 - SAIR DO PROGRAMA");
 
         int op = scanner.nextInt();
@@ -62,9 +29,7 @@ public class Simulador {
                 case 1: {
                     System.out.println("Digite uma palavra para validação da expressão: ");
                     String palavra = scanner.nextLine();
-                    Pattern pattern = Pattern.compile(expressao);
-                    Matcher matcher = pattern.matcher(palavra);
-                    if (matcher.matches()) {
+                    if (AutomatonSimulator.accepts(automato, palavra)) {
                         System.out.println("Palavra válida para a expressão regular: " + teste);
                     } else {
                         System.out.println("Palavra não é válida para a expressão regular: " + teste);
@@ -72,25 +37,7 @@ public class Simulador {
                     break;
                 }
                 case 2: {
-                    Set<String> palavrasGeradas = new HashSet<>();
-                    List<String> dezPrimeiras = new ArrayList<>();
-                    Queue<String> fila = new LinkedList<>();
-                    int profundidadeMaxima = 8;
-                    fila.add("");
-
-                    while (dezPrimeiras.size() < 10 && !fila.isEmpty()) {
-                        String palavra = fila.poll();
-                        Pattern pattern = Pattern.compile(expressao);
-                        Matcher matcher = pattern.matcher(palavra);
-                        if (matcher.matches() && palavrasGeradas.add(palavra)) {
-                            dezPrimeiras.add(palavra);
-                        }
-                        if (palavra.length() < profundidadeMaxima) {
-                            for (String c : aux) {
-                                fila.add(palavra + c);
-                            }
-                        }
-                    }
+                    List<String> dezPrimeiras = gerarPalavras(automato, 10);
 
                     if (dezPrimeiras.isEmpty()) {
                         System.out.println("Nenhuma palavra válida pôde ser gerada para a expressão.");
@@ -104,47 +51,30 @@ public class Simulador {
                 }
                 case 3: {
                     System.out.println("Digite uma expressão regular: ");
-                    teste = scanner.nextLine();
-                    teste = teste.replace(" ", "");
-                    aux.clear();
-
-                    for (int i = 0; i < teste.length(); i++) {
-                        char c = teste.charAt(i);
-                        if (String.valueOf(c).matches("[a-zA-Z0-9]")) {
-                            aux.add(String.valueOf(c));
-                        }
-                    }
-
-                    expressao = "";
-                    vazio = false;
-
-                    if (teste.length() > 0 && teste.charAt(0) == '&') {
-                        teste = teste.replace("&|", "");
-                        vazio = true;
+                    String novaExpressao = scanner.nextLine().replace(" ", "");
+                    CompiledAutomaton novoAutomato = compilarExpressao(novaExpressao);
+                    if (novoAutomato == null) {
+                        break;
                     }
+                    teste = novaExpressao;
+                    automato = novoAutomato;
 
-                    for (int i = 0; i < teste.length(); i++) {
-                        char j = teste.charAt(i);
-                        if (j == '(') {
-                            expressao += "(";
-                        } else if (aux.contains(String.valueOf(j))) {
-                            expressao += j;
-                        } else if (j == ')') {
-                            expressao += ")";
-                        } else if (j == '|') {
-                            expressao += '|';
-                        } else if (j == '*') {
-                            expressao += "*";
-                        } else if (j == '+') {
-                            expressao += "+";
-                        }
+                    System.out.println("Nova expressão configurada: " + teste);
+                    break;
+                }
+                case 4: {
+                    Lexer lexer = lerDefinicoes(scanner);
+                    if (lexer == null) {
+                        break;
                     }
-
-                    if (vazio) {
-                        expressao += "*";
+                    System.out.println("Digite o texto a ser analisado: ");
+                    String texto = scanner.nextLine();
+                    Lexer.Tokens tokens = lexer.tokenize(texto);
+                    for (int i = 0; i < tokens.getCount(); i++) {
+                        int inicio = tokens.getOffset(i);
+                        System.out.println(lexer.getTokenName(tokens.getType(i)) + "\t\""
+                                + texto.substring(inicio, inicio + tokens.getLength(i)) + "\"\t(posição " + inicio + ")");
                     }
-
-                    System.out.println("Nova expressão configurada: " + expressao);
                     break;
                 }
             }
@@ -152,6 +82,7 @@ public class Simulador {
             System.out.println("\nOPÇÃO 1 - VALIDAR PALAVRA PARA EXPRESSÃO REGULAR DIGITADA");
             System.out.println("OPÇÃO 2 - GERAR 10 PALAVRAS PARA EXPRESSÃO REGULAR DIGITADA");
             System.out.println("OPÇÃO 3 - INSERIR OUTRA EXPRESSÃO REGULAR");
+            System.out.println("OPÇÃO 4 - ANALISADOR LÉXICO COM UMA LISTA DE EXPRESSÕES");
             System.out.println("OPÇÃO 0 - SAIR DO PROGRAMA");
             op = scanner.nextInt();
             scanner.nextLine();
@@ -160,4 +91,55 @@ public class Simulador {
         scanner.close();
         System.out.println("Programa encerrado.");
     }
-}
\ No newline at end of file
+
+    // Compila a expressão; em caso de erro mostra a mensagem e devolve null
+    private static CompiledAutomaton compilarExpressao(String expressao) {
+        try {
+            CoreAutomaton afnd = RegexCompiler.compile(expressao);
+            System.out.println("Expressão processada: " + expressao + " (AFND com "
+                    + afnd.getStateCount() + " estados)");
+            return afnd.compile();
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return null;
+        }
+    }
+
+    // Uma definição por linha, "NOME expressão", em ordem de prioridade; NOME começando com
+    // '-' é reconhecido mas não aparece no resultado (espaços, comentários). Linha vazia encerra.
+    private static Lexer lerDefinicoes(Scanner scanner) {
+        System.out.println("Digite as definições de token, uma por linha (NOME expressão), e uma linha vazia no fim: ");
+        Lexer.Builder construtor = Lexer.builder();
+        String linha;
+        while (!(linha = scanner.nextLine().trim()).isEmpty()) {
+            String[] partes = linha.split("\\s+", 2);
+            if (partes.length < 2) {
+                System.out.println("Definição sem expressão: " + linha);
+                return null;
+            }
+            try {
+                if (partes[0].startsWith("-")) {
+                    construtor.addSkipped(partes[0].substring(1), partes[1]);
+                } else {
+                    construtor.addToken(partes[0], partes[1]);
+                }
+            } catch (IllegalArgumentException e) {
+                System.out.println(partes[0] + ": " + e.getMessage());
+                return null;
+            }
+        }
+        Lexer lexer = construtor.build();
+        System.out.println("Analisador com " + lexer.getTokenTypeCount() + " tipos de token (AFD com "
+                + lexer.getStateCount() + " estados)");
+        return lexer;
+    }
+
+    public static List<String> gerarPalavras(String expressao, int quantidade) {
+        return gerarPalavras(RegexCompiler.compile(expressao).compile(), quantidade);
+    }
+
+    // Primeiras palavras da linguagem em ordem shortlex, sem limite de tamanho
+    public static List<String> gerarPalavras(CompiledAutomaton automato, int quantidade) {
+        return new WordEnumerator(automato).first(quantidade);
+    }
+}
@@ -0,0 +1,507 @@
+package grupo.unoeste.simuladorlfa;
+
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Modo linha de comando, sem interface gráfica:
+//
+//   java -cp <classpath> grupo.unoeste.simuladorlfa.SimuladorCLI <automato> [palavras|-] [--caminho]
+//   java -cp <classpath> grupo.unoeste.simuladorlfa.SimuladorCLI <automato> --imagem <saida.afi>
+//   java -cp <classpath> grupo.unoeste.simuladorlfa.SimuladorCLI <automato> --amostra <quantidade> <tamanho>
+//                        [--rejeitadas] [--semente <n>]
+//   java -cp <classpath> grupo.unoeste.simuladorlfa.SimuladorCLI <automato> --equivalente <outro>
+//   java -cp <classpath> grupo.unoeste.simuladorlfa.SimuladorCLI <automato> --contido-em <outro>
+//   java -cp <classpath> grupo.unoeste.simuladorlfa.SimuladorCLI <automato> [arquivo|-] --inteiro
+//   java -cp <classpath> grupo.unoeste.simuladorlfa.SimuladorCLI <automato> [arquivo|-] --buscar [--todas]
+//   java -cp <classpath> grupo.unoeste.simuladorlfa.SimuladorCLI <automato> [palavras|-] --conjunto <outro> ...
+//
+// O autômato é lido do arquivo salvo pela interface (.afb, .json ou o texto do botão
+// "Exportar"; o formato é escolhido pela extensão). As palavras vêm uma por
+// linha do arquivo indicado ou da entrada padrão ("-" ou ausente) e cada resultado sai
+// como "palavra<TAB>ACEITA|REJEITADA" na saída padrão. Com --caminho, o caminho percorrido
+// é impresso numa terceira coluna. A leitura é em fluxo: a memória não depende do
+// número de palavras.
+//
+// --imagem grava a tabela do AFD como imagem mapeável (MappedDFA). Um autômato .afi é
+// aberto sem reconstruir nada, mas não guarda nomes de estados, então não aceita --caminho.
+//
+// --amostra imprime palavras sorteadas uniformemente entre as aceitas (ou, com --rejeitadas,
+// entre as rejeitadas) do tamanho pedido, uma por linha, para gerar carga de teste.
+//
+// --equivalente e --contido-em comparam as linguagens dos dois autômatos (LanguageComparator).
+// Saída 0 se a relação vale; senão, saída 1 e a palavra mais curta que a contradiz, para
+// usar como teste de regressão depois de editar um autômato.
+//
+// --inteiro trata o arquivo (ou a entrada padrão) inteiro como uma única palavra, em UTF-8,
+// lida em pedaços pelo StreamingMatcher: a memória é constante mesmo para arquivos enormes.
+// Saída 0 e ACEITA se a palavra é aceita; senão, saída 1 e REJEITADA.
+//
+// --buscar procura no arquivo as ocorrências da linguagem (TextSearcher), como um grep -o:
+// cada uma sai como "início<TAB>fim<TAB>trecho", com posições em bytes. Com --todas saem
+// também as sobrepostas. O arquivo é mapeado em memória (até 2 GB); a entrada padrão é
+// lida para a memória, até 256 MB. Saída 0 se achou alguma, 1 se não, 2 em erro.
+//
+// --conjunto (repetível) testa cada palavra contra o autômato principal e os outros de uma
+// vez só (AutomatonSet) e imprime "palavra<TAB>arquivos que aceitam", separados por vírgula,
+// ou "-" se nenhum aceita.
+//
+// Só um modo por chamada: modos juntos, opção de outro modo, opção desconhecida, valor
+// faltando ou argumento a mais terminam com erro e saída 2, sem executar nada.
+public class SimuladorCLI {
+
+    // A busca anda pelo texto nos dois sentidos, então a entrada padrão é lida inteira
+    private static final int MAXIMO_ENTRADA_BUSCA = 256 << 20;
+
+    private enum Modo { SIMULAR, IMAGEM, AMOSTRA, EQUIVALENTE, CONTIDO_EM, INTEIRO, BUSCAR, CONJUNTO }
+
+    // Argumentos já validados: um único modo, opções só do modo escolhido e todo valor presente
+    private static final class Opcoes {
+        Modo modo = Modo.SIMULAR;
+        String opcaoDoModo = null;
+        String arquivoAutomato = null;
+        String arquivoPalavras = null;
+        String arquivoImagem = null;
+        boolean mostrarCaminho = false;
+        long amostras = 0;
+        int tamanhoAmostra = 0;
+        boolean rejeitadas = false;
+        long semente = System.nanoTime();
+        String arquivoComparado = null;
+        boolean todas = false;
+        final List<String> conjunto = new ArrayList<>();
+
+        static Opcoes ler(String[] args) {
+            Opcoes opcoes = new Opcoes();
+            List<String> usadas = new ArrayList<>();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--caminho" -> opcoes.mostrarCaminho = true;
+                    case "--todas" -> opcoes.todas = true;
+                    case "--rejeitadas" -> opcoes.rejeitadas = true;
+                    case "--semente" -> opcoes.semente = numero(arg, valor(args, ++i, arg, "<n>"));
+                    case "--imagem" -> {
+                        opcoes.definirModo(Modo.IMAGEM, arg);
+                        opcoes.arquivoImagem = valor(args, ++i, arg, "<saida.afi>");
+                    }
+                    case "--amostra" -> {
+                        opcoes.definirModo(Modo.AMOSTRA, arg);
+                        opcoes.amostras = numero(arg, valor(args, ++i, arg, "<quantidade> <tamanho>"));
+                        opcoes.tamanhoAmostra = (int) numero(arg, valor(args, ++i, arg, "<quantidade> <tamanho>"));
+                        if (opcoes.amostras < 0 || opcoes.tamanhoAmostra < 0) {
+                            throw new IllegalArgumentException(arg + " espera quantidade e tamanho não negativos");
+                        }
+                    }
+                    case "--equivalente", "--contido-em" -> {
+                        opcoes.definirModo(arg.equals("--equivalente") ? Modo.EQUIVALENTE : Modo.CONTIDO_EM, arg);
+                        opcoes.arquivoComparado = valor(args, ++i, arg, "<outro>");
+                    }
+                    case "--inteiro" -> opcoes.definirModo(Modo.INTEIRO, arg);
+                    case "--buscar" -> opcoes.definirModo(Modo.BUSCAR, arg);
+                    case "--conjunto" -> {
+                        if (opcoes.modo != Modo.CONJUNTO) opcoes.definirModo(Modo.CONJUNTO, arg);
+                        opcoes.conjunto.add(valor(args, ++i, arg, "<outro>"));
+                    }
+                    default -> {
+                        if (arg.startsWith("--")) {
+                            throw new IllegalArgumentException("opção desconhecida " + arg);
+                        } else if (opcoes.arquivoAutomato == null) {
+                            opcoes.arquivoAutomato = arg;
+                        } else if (opcoes.arquivoPalavras == null) {
+                            opcoes.arquivoPalavras = arg;
+                        } else {
+                            throw new IllegalArgumentException("argumento a mais: " + arg);
+                        }
+                        continue;
+                    }
+                }
+                usadas.add(arg);
+            }
+
+            for (String opcao : usadas) {
+                opcoes.verificarOpcao(opcao);
+            }
+            if (opcoes.arquivoPalavras != null && opcoes.modo != Modo.SIMULAR && opcoes.modo != Modo.INTEIRO
+                    && opcoes.modo != Modo.BUSCAR && opcoes.modo != Modo.CONJUNTO) {
+                throw new IllegalArgumentException(opcoes.opcaoDoModo + " não lê palavras: " + opcoes.arquivoPalavras);
+            }
+            if (opcoes.arquivoPalavras == null) {
+                opcoes.arquivoPalavras = "-";
+            }
+            return opcoes;
+        }
+
+        private void definirModo(Modo novo, String opcao) {
+            if (modo != Modo.SIMULAR) {
+                throw new IllegalArgumentException(opcao + " não pode ser usado junto com " + opcaoDoModo);
+            }
+            modo = novo;
+            opcaoDoModo = opcao;
+        }
+
+        // Opções que só valem em um modo
+        private void verificarOpcao(String opcao) {
+            Modo exigido = switch (opcao) {
+                case "--caminho" -> Modo.SIMULAR;
+                case "--todas" -> Modo.BUSCAR;
+                case "--rejeitadas", "--semente" -> Modo.AMOSTRA;
+                default -> modo;
+            };
+            if (exigido != modo) {
+                throw new IllegalArgumentException(opcao + " não pode ser usado "
+                        + (opcaoDoModo == null ? "sem " + opcaoDaqui(exigido) : "com " + opcaoDoModo));
+            }
+        }
+
+        private static String opcaoDaqui(Modo modo) {
+            return switch (modo) {
+                case BUSCAR -> "--buscar";
+                case AMOSTRA -> "--amostra";
+                default -> "o modo de simulação";
+            };
+        }
+
+        private static String valor(String[] args, int i, String opcao, String esperado) {
+            if (i >= args.length || args[i].startsWith("--")) {
+                throw new IllegalArgumentException(opcao + " espera " + esperado);
+            }
+            return args[i];
+        }
+
+        private static long numero(String opcao, String texto) {
+            try {
+                return Long.parseLong(texto);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(opcao + " espera um número, não '" + texto + "'");
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    static int run(String[] args) {
+        Opcoes opcoes;
+        try {
+            opcoes = Opcoes.ler(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Erro: " + e.getMessage());
+            return 2;
+        }
+        if (opcoes.arquivoAutomato == null) {
+            imprimirUso();
+            return 2;
+        }
+
+        if (opcoes.arquivoAutomato.toLowerCase().endsWith(MappedDFA.EXTENSAO)) {
+            if (opcoes.modo != Modo.SIMULAR || opcoes.mostrarCaminho) {
+                System.err.println("Erro: imagens " + MappedDFA.EXTENSAO + " só servem para aceitar/rejeitar palavras");
+                return 2;
+            }
+            try {
+                return simularImagem(MappedDFA.open(Path.of(opcoes.arquivoAutomato)), opcoes.arquivoPalavras);
+            } catch (IOException e) {
+                System.err.println("Erro ao ler o autômato: " + e.getMessage());
+                return 1;
+            }
+        }
+
+        CompiledAutomaton automato;
+        try {
+            automato = AutomatonFiles.loadCore(Path.of(opcoes.arquivoAutomato)).compile();
+        } catch (IOException e) {
+            System.err.println("Erro ao ler o autômato: " + e.getMessage());
+            return 1;
+        }
+        if (automato.getInitialState() == CompiledAutomaton.SEM_TRANSICAO) {
+            System.err.println("Erro: Nenhum estado inicial definido!");
+            return 1;
+        }
+
+        return switch (opcoes.modo) {
+            case SIMULAR -> simular(automato, opcoes.arquivoPalavras, opcoes.mostrarCaminho);
+            case IMAGEM -> gravarImagem(automato, opcoes.arquivoImagem);
+            case AMOSTRA -> sortearPalavras(automato, opcoes.amostras, opcoes.tamanhoAmostra,
+                    opcoes.rejeitadas, opcoes.semente);
+            case EQUIVALENTE, CONTIDO_EM -> comparar(automato, opcoes.arquivoComparado,
+                    opcoes.modo == Modo.CONTIDO_EM);
+            case INTEIRO -> validarInteiro(automato, opcoes.arquivoPalavras);
+            case BUSCAR -> buscarOcorrencias(automato, opcoes.arquivoPalavras, opcoes.todas);
+            case CONJUNTO -> {
+                List<String> arquivos = new ArrayList<>();
+                arquivos.add(opcoes.arquivoAutomato);
+                arquivos.addAll(opcoes.conjunto);
+                yield testarConjunto(automato, arquivos, opcoes.arquivoPalavras);
+            }
+        };
+    }
+
+    private static void imprimirUso() {
+        System.err.println("Uso: SimuladorCLI <automato> [palavras|-] [--caminho]");
+        System.err.println("     SimuladorCLI <automato> --imagem <saida.afi>");
+        System.err.println("     SimuladorCLI <automato> --amostra <quantidade> <tamanho> [--rejeitadas] [--semente <n>]");
+        System.err.println("     SimuladorCLI <automato> --equivalente|--contido-em <outro>");
+        System.err.println("     SimuladorCLI <automato> [arquivo|-] --inteiro");
+        System.err.println("     SimuladorCLI <automato> [arquivo|-] --buscar [--todas]");
+        System.err.println("     SimuladorCLI <automato> [palavras|-] --conjunto <outro> [--conjunto <outro> ...]");
+    }
+
+    private static int simular(CompiledAutomaton automato, String arquivoPalavras, boolean mostrarCaminho) {
+        try (BufferedReader palavras = abrirPalavras(arquivoPalavras);
+             BufferedWriter saida = new BufferedWriter(
+                     new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16)) {
+
+            long total = 0;
+            long aceitas = 0;
+            if (mostrarCaminho) {
+                String palavra;
+                while ((palavra = palavras.readLine()) != null) {
+                    AutomatonSimulator.SimulationResult resultado = AutomatonSimulator.simulate(automato, palavra);
+                    escreverResultado(saida, palavra, resultado.isAccepted());
+                    saida.write('\t');
+                    saida.write(formatarCaminho(resultado));
+                    saida.newLine();
+                    total++;
+                    if (resultado.isAccepted()) aceitas++;
+                }
+            } else {
+                BatchSimulator.BatchSummary resumo = new BatchSimulator(automato).run(palavras.lines(), r -> {
+                    try {
+                        escreverResultado(saida, r.getWord(), r.isAccepted());
+                        saida.newLine();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, true);
+                total = resumo.getTotal();
+                aceitas = resumo.getAccepted();
+            }
+
+            saida.flush();
+            System.err.printf("%d de %d palavras aceitas.%n", aceitas, total);
+            return 0;
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Erro de E/S: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static int gravarImagem(CompiledAutomaton automato, String arquivoImagem) {
+        try {
+            MappedDFA.write(automato, Path.of(arquivoImagem));
+            System.err.println("Imagem gravada em " + arquivoImagem);
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar a imagem: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static int testarConjunto(CompiledAutomaton principal, List<String> arquivos, String arquivoPalavras) {
+        List<CompiledAutomaton> automatos = new ArrayList<>();
+        automatos.add(principal);
+        for (String arquivo : arquivos.subList(1, arquivos.size())) {
+            try {
+                automatos.add(AutomatonFiles.loadCore(Path.of(arquivo)).compile());
+            } catch (IOException e) {
+                System.err.println("Erro ao ler o autômato " + arquivo + ": " + e.getMessage());
+                return 1;
+            }
+        }
+        AutomatonSet automatosJuntos = new AutomatonSet(automatos);
+
+        try (BufferedReader palavras = abrirPalavras(arquivoPalavras);
+             BufferedWriter saida = new BufferedWriter(
+                     new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16)) {
+            long total = 0;
+            long algum = 0;
+            String palavra;
+            while ((palavra = palavras.readLine()) != null) {
+                int[] aceitos = automatosJuntos.accepting(palavra);
+                saida.write(palavra);
+                saida.write('\t');
+                for (int i = 0; i < aceitos.length; i++) {
+                    if (i > 0) saida.write(',');
+                    saida.write(arquivos.get(aceitos[i]));
+                }
+                if (aceitos.length == 0) saida.write('-');
+                saida.newLine();
+                total++;
+                if (aceitos.length > 0) algum++;
+            }
+            saida.flush();
+            System.err.printf("%d de %d palavras aceitas por algum dos %d autômatos.%n", algum, total, automatos.size());
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Erro de E/S: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static int sortearPalavras(CompiledAutomaton automato, long quantidade, int tamanho,
+                                       boolean rejeitadas, long semente) {
+        RandomWordSampler amostrador = rejeitadas
+                ? RandomWordSampler.rejected(automato, tamanho)
+                : RandomWordSampler.accepted(automato, tamanho);
+        if (amostrador.isEmpty()) {
+            System.err.printf("Nenhuma palavra %s de tamanho %d.%n", rejeitadas ? "rejeitada" : "aceita", tamanho);
+            return 1;
+        }
+
+        try (BufferedWriter saida = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16)) {
+            amostrador.sample(quantidade, new SplittableRandom(semente), (palavra, n) -> {
+                try {
+                    saida.write(palavra, 0, n);
+                    saida.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            saida.flush();
+            System.err.printf("%d palavras sorteadas entre %s possíveis.%n", quantidade, amostrador.getWordCount());
+            return 0;
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Erro de E/S: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static int comparar(CompiledAutomaton automato, String arquivoComparado, boolean soInclusao) {
+        CompiledAutomaton outro;
+        try {
+            outro = AutomatonFiles.loadCore(Path.of(arquivoComparado)).compile();
+        } catch (IOException e) {
+            System.err.println("Erro ao ler o autômato: " + e.getMessage());
+            return 1;
+        }
+
+        LanguageComparator.ComparisonResult resultado = soInclusao
+                ? LanguageComparator.isSubset(automato, outro)
+                : LanguageComparator.equivalent(automato, outro);
+        System.err.printf("%d pares de estados explorados.%n", resultado.getExploredPairs());
+        if (resultado.holds()) {
+            System.out.println(soInclusao ? "CONTIDO" : "EQUIVALENTES");
+            return 0;
+        }
+        String palavra = resultado.getCounterexample().isEmpty() ? "ε" : resultado.getCounterexample();
+        System.out.println((soInclusao ? "NAO_CONTIDO" : "DIFERENTES") + "\t" + palavra + "\t"
+                + (resultado.isAcceptedByFirst() ? "aceita pelo primeiro" : "aceita pelo segundo"));
+        return 1;
+    }
+
+    private static int validarInteiro(CompiledAutomaton automato, String arquivo) {
+        StreamingMatcher reconhecedor = new StreamingMatcher(automato);
+        try (Reader entrada = arquivo.equals("-")
+                ? Channels.newReader(Channels.newChannel(System.in), StandardCharsets.UTF_8)
+                : Channels.newReader(FileChannel.open(Path.of(arquivo)), StandardCharsets.UTF_8)) {
+            long lidos = reconhecedor.feed(entrada);
+            boolean aceita = reconhecedor.isAcceptingNow();
+            System.out.println(aceita ? "ACEITA" : "REJEITADA");
+            System.err.printf("%d caracteres lidos%s.%n", lidos,
+                    reconhecedor.isDead() ? " (parou ao ficar sem transição)" : "");
+            return aceita ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("Erro de E/S: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    private static int buscarOcorrencias(CompiledAutomaton automato, String arquivo, boolean todas) {
+        TextSearcher buscador = new TextSearcher(automato);
+        TextSearcher.Mode modo = todas ? TextSearcher.Mode.ALL : TextSearcher.Mode.LEFTMOST_LONGEST;
+        try (BufferedOutputStream saida = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16)) {
+            ByteBuffer texto;
+            if (arquivo.equals("-")) {
+                byte[] lidos = System.in.readNBytes(MAXIMO_ENTRADA_BUSCA + 1);
+                if (lidos.length > MAXIMO_ENTRADA_BUSCA) {
+                    System.err.println("Erro: entrada padrão maior que " + (MAXIMO_ENTRADA_BUSCA >> 20)
+                            + " MB; grave o texto num arquivo e passe o caminho");
+                    return 2;
+                }
+                texto = ByteBuffer.wrap(lidos);
+            } else {
+                texto = TextSearcher.mapFile(Path.of(arquivo));
+            }
+            long[] total = {0};
+            byte[] trecho = new byte[256];
+            buscador.search(texto, modo, (inicio, fim) -> {
+                try {
+                    saida.write((inicio + "\t" + fim + "\t").getBytes(StandardCharsets.US_ASCII));
+                    for (int i = inicio; i < fim; i += trecho.length) {
+                        int tamanho = Math.min(trecho.length, fim - i);
+                        texto.get(i, trecho, 0, tamanho);
+                        saida.write(trecho, 0, tamanho);
+                    }
+                    saida.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                total[0]++;
+            });
+            saida.flush();
+            System.err.printf("%d ocorrências.%n", total[0]);
+            return total[0] > 0 ? 0 : 1;
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Erro de E/S: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    private static int simularImagem(MappedDFA automato, String arquivoPalavras) {
+        try (BufferedReader palavras = abrirPalavras(arquivoPalavras);
+             BufferedWriter saida = new BufferedWriter(
+                     new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16)) {
+            BatchSimulator.BatchSummary resumo = new BatchSimulator(automato).run(palavras.lines(), r -> {
+                try {
+                    escreverResultado(saida, r.getWord(), r.isAccepted());
+                    saida.newLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, true);
+            saida.flush();
+            System.err.printf("%d de %d palavras aceitas.%n", resumo.getAccepted(), resumo.getTotal());
+            return 0;
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Erro de E/S: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static BufferedReader abrirPalavras(String arquivo) throws IOException {
+        if (arquivo.equals("-")) {
+            return new BufferedReader(Channels.newReader(Channels.newChannel(System.in), StandardCharsets.UTF_8), 1 << 16);
+        }
+        return Files.newBufferedReader(Path.of(arquivo), StandardCharsets.UTF_8);
+    }
+
+    private static void escreverResultado(Writer saida, String palavra, boolean aceita) throws IOException {
+        saida.write(palavra);
+        saida.write('\t');
+        saida.write(aceita ? "ACEITA" : "REJEITADA");
+    }
+
+    private static String formatarCaminho(AutomatonSimulator.SimulationResult resultado) {
+        List<String> caminho = resultado.getPathNames();
+        if (caminho.isEmpty()) {
+            return "";
+        }
+        List<String> simbolos = resultado.getSymbolsUsed();
+        StringBuilder texto = new StringBuilder(caminho.get(0));
+        for (int i = 1; i < caminho.size(); i++) {
+            texto.append(" --(").append(simbolos.get(i - 1)).append(")--> ").append(caminho.get(i));
+        }
+        return texto.toString();
+    }
+}
@@ -0,0 +1,191 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+// Reconhecimento em fluxo: a palavra chega em pedaços (feed) e a qualquer momento
+// isAcceptingNow() diz se o que foi lido até ali é aceito. Entre um pedaço e outro só
+// fica guardado o estado atual: um índice no AFD, ou um conjunto de estados em bits se
+// o AFND precisou ser simulado direto, O(|Q|) no pior caso. Assim dá para validar
+// arquivos ou conexões de qualquer tamanho com memória constante.
+//
+// AFD: passos pela tabela do CompiledAutomaton. AFND: determinização preguiçosa própria
+// (o cache é limitado, ver LazyDFA) e, se o cache se debater, BitSetNFA.
+// Não é thread-safe: use um por fluxo.
+public final class StreamingMatcher {
+
+    private static final int MORTO = CompiledAutomaton.SEM_TRANSICAO;
+    private static final int TAMANHO_BUFFER = 1 << 16;
+
+    private final CompiledAutomaton automato;
+    private final LazyDFA afd;   // null se o autômato já é determinístico
+    private BitSetNFA nfa;       // criado só se o AFD preguiçoso desistir
+
+    private int estado;          // estado do AFD (tabela ou preguiçoso); MORTO = nada mais é aceito
+    private long[] conjunto;     // estado atual quando a simulação está no AFND
+    private long[] proximo;
+    private long lidos;
+
+    private ByteBuffer bufferBytes;
+    private CharBuffer bufferCaracteres;
+
+    public StreamingMatcher(CompiledAutomaton automato) {
+        this(automato, LazyDFA.CAPACIDADE_PADRAO);
+    }
+
+    // capacidade: limite de estados do AFD preguiçoso (só usado se o autômato é um AFND)
+    public StreamingMatcher(CompiledAutomaton automato, int capacidade) {
+        this.automato = automato;
+        this.afd = automato.isDeterministic() ? null : new LazyDFA(automato, capacidade);
+        reset();
+    }
+
+    public CompiledAutomaton getAutomaton() { return automato; }
+
+    // Volta ao início da palavra (o cache do AFD preguiçoso é mantido)
+    public void reset() {
+        lidos = 0;
+        conjunto = null;
+        estado = afd == null ? automato.getInitialState() : afd.start();
+        if (estado == LazyDFA.DESISTIU) {
+            entrarNoNFA();
+        }
+    }
+
+    // Caracteres lidos desde o último reset
+    public long getPosition() { return lidos; }
+
+    // O que foi lido até agora forma uma palavra aceita?
+    public boolean isAcceptingNow() {
+        if (conjunto != null) return nfa.intersectsFinal(conjunto);
+        if (estado == MORTO) return false;
+        return afd == null ? automato.isFinal(estado) : afd.isAccepting(estado);
+    }
+
+    // Nenhuma continuação pode ser aceita: o resto da entrada pode ser ignorado
+    public boolean isDead() {
+        return conjunto == null && estado == MORTO;
+    }
+
+    public void feed(CharSequence texto) {
+        int i = 0;
+        int n = texto.length();
+        while (i < n && passo(texto.charAt(i))) i++;
+        lidos += n;
+    }
+
+    // Consome o que resta no buffer (a posição vai até o limite)
+    public void feed(CharBuffer texto) {
+        int n = texto.remaining();
+        if (texto.hasArray()) {
+            char[] vetor = texto.array();
+            int i = texto.arrayOffset() + texto.position();
+            int fim = i + n;
+            while (i < fim && passo(vetor[i])) i++;
+        } else {
+            int i = texto.position();
+            while (i < texto.limit() && passo(texto.get(i))) i++;
+        }
+        texto.position(texto.limit());
+        lidos += n;
+    }
+
+    // Bytes lidos como caracteres 0-255 (ISO-8859-1); consome o que resta no buffer
+    public void feed(ByteBuffer bytes) {
+        int n = bytes.remaining();
+        if (bytes.hasArray()) {
+            byte[] vetor = bytes.array();
+            int i = bytes.arrayOffset() + bytes.position();
+            int fim = i + n;
+            while (i < fim && passo((char) (vetor[i] & 0xFF))) i++;
+        } else {
+            int i = bytes.position();
+            while (i < bytes.limit() && passo((char) (bytes.get(i) & 0xFF))) i++;
+        }
+        bytes.position(bytes.limit());
+        lidos += n;
+    }
+
+    // Lê o canal até o fim (bytes como ISO-8859-1), parando antes se nada mais puder ser
+    // aceito. Devolve quantos bytes foram lidos.
+    public long feed(ReadableByteChannel canal) throws IOException {
+        if (bufferBytes == null) {
+            bufferBytes = ByteBuffer.allocate(TAMANHO_BUFFER);
+        }
+        long total = 0;
+        while (!isDead()) {
+            bufferBytes.clear();
+            int lidosAgora = canal.read(bufferBytes);
+            if (lidosAgora < 0) break;
+            bufferBytes.flip();
+            total += lidosAgora;
+            feed(bufferBytes);
+        }
+        return total;
+    }
+
+    // Mesmo para texto já decodificado (ex.: Channels.newReader(canal, UTF_8))
+    public long feed(Reader leitor) throws IOException {
+        if (bufferCaracteres == null) {
+            bufferCaracteres = CharBuffer.allocate(TAMANHO_BUFFER);
+        }
+        long total = 0;
+        while (!isDead()) {
+            bufferCaracteres.clear();
+            int lidosAgora = leitor.read(bufferCaracteres);
+            if (lidosAgora < 0) break;
+            bufferCaracteres.flip();
+            total += lidosAgora;
+            feed(bufferCaracteres);
+        }
+        return total;
+    }
+
+    // Um caractere por vez, para quem percorre o texto por conta própria (TextSearcher);
+    // false quando nada mais pode ser aceito
+    boolean step(char c) {
+        lidos++;
+        return passo(c);
+    }
+
+    private boolean passo(char c) {
+        int simbolo = automato.symbolOf(c);
+        if (conjunto != null) {
+            if (simbolo == MORTO || !nfa.step(conjunto, simbolo, proximo)) {
+                conjunto = null;
+                estado = MORTO;
+                return false;
+            }
+            long[] troca = conjunto;
+            conjunto = proximo;
+            proximo = troca;
+            return true;
+        }
+        if (estado == MORTO) return false;
+        if (simbolo == MORTO) {
+            estado = MORTO;
+            return false;
+        }
+        if (afd == null) {
+            estado = automato.step(estado, simbolo);
+        } else {
+            estado = afd.next(estado, simbolo);
+            if (estado == LazyDFA.DESISTIU) {
+                entrarNoNFA();
+            }
+        }
+        return estado != MORTO || conjunto != null;
+    }
+
+    private void entrarNoNFA() {
+        if (nfa == null) {
+            nfa = new BitSetNFA(automato);
+            proximo = new long[automato.bitSetWords()];
+        }
+        conjunto = afd.fallbackSet();
+        estado = MORTO;
+    }
+}
@@ -0,0 +1,416 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// Busca de ocorrências num texto: em vez de perguntar se o texto inteiro é aceito, acha os
+// trechos texto[início, fim) que são palavras não vazias da linguagem (como um grep).
+//
+// 1. Uma passada de trás para frente com o AFD de Σ*·reverso(L) marca num vetor de bits
+//    as posições em que começa alguma ocorrência (o autômato aceita ali).
+// 2. De cada início marcado, o autômato original anda para frente até morrer e dá os fins.
+// Modos: LEFTMOST_LONGEST é o do grep -o (a ocorrência que começa mais à esquerda, a mais
+// longa a partir dali, e a busca continua do fim dela, sem sobreposição); ALL devolve todo
+// par (início, fim), inclusive sobrepostos.
+//
+// Pré-filtro: se toda palavra aceita contém o caractere c e nenhuma passa de M caracteres,
+// toda ocorrência cabe em [p-M+1, p+M) para alguma posição p de c. Só essas janelas (unidas
+// quando se tocam) são examinadas, e achar c é um laço simples sobre o texto. Com linguagem
+// infinita o filtro só descarta textos sem c. Entre os caracteres obrigatórios, usa o que
+// aparece menos no começo do texto.
+//
+// Bytes são lidos como ISO-8859-1, como em AutomatonSimulator.accepts(byte[]). Não é
+// thread-safe: use um por thread.
+public final class TextSearcher {
+
+    public enum Mode { LEFTMOST_LONGEST, ALL }
+
+    // Destino das ocorrências, na ordem do texto (em ALL, por início e depois por fim)
+    @FunctionalInterface
+    public interface MatchSink {
+        void match(int inicio, int fim);
+    }
+
+    // Ocorrências guardadas em vetores primitivos
+    public static final class Matches implements MatchSink {
+        private int[] inicios = new int[16];
+        private int[] fins = new int[16];
+        private int total = 0;
+
+        @Override
+        public void match(int inicio, int fim) {
+            if (total == inicios.length) {
+                inicios = Arrays.copyOf(inicios, total * 2);
+                fins = Arrays.copyOf(fins, total * 2);
+            }
+            inicios[total] = inicio;
+            fins[total] = fim;
+            total++;
+        }
+
+        public int getCount() { return total; }
+        public int getStart(int i) { return inicios[i]; }
+        public int getEnd(int i) { return fins[i]; }
+    }
+
+    private static final int AMOSTRA_FILTRO = 4096;
+    private static final int LIMITE_AFD = LazyDFA.CAPACIDADE_PADRAO;
+
+    private final CompiledAutomaton automato;
+    // L, ancorado no início, e Σ*·reverso(L), lendo o texto ao contrário. Cada um é
+    // determinizado de uma vez se couber em LIMITE_AFD estados (laço direto na tabela);
+    // senão fica o AFD preguiçoso do StreamingMatcher.
+    private final CompiledAutomaton frenteAFD;
+    private final CompiledAutomaton trasAFD;
+    private final StreamingMatcher frente;
+    private final StreamingMatcher tras;
+    private final char[] obrigatorios;       // caracteres presentes em toda palavra aceita
+    private final int maiorTamanho;          // -1 se a linguagem é infinita
+    private final boolean vazia;             // nenhuma palavra não vazia
+
+    private long[] inicios = new long[0];
+
+    public TextSearcher(CompiledAutomaton automato) {
+        this.automato = automato;
+        LanguageCounter contador = new LanguageCounter(automato);
+        this.maiorTamanho = contador.isInfinite() ? -1 : contador.getLongestWordLength();
+        this.vazia = contador.isEmpty() || maiorTamanho == 0;
+        CompiledAutomaton reverso = reverso(automato);
+        this.frenteAFD = LazyDFA.determinize(automato, LIMITE_AFD);
+        this.trasAFD = LazyDFA.determinize(reverso, LIMITE_AFD);
+        this.frente = frenteAFD == null ? new StreamingMatcher(automato) : null;
+        this.tras = trasAFD == null ? new StreamingMatcher(reverso) : null;
+        this.obrigatorios = vazia ? new char[0] : caracteresObrigatorios(automato);
+    }
+
+    public CompiledAutomaton getAutomaton() { return automato; }
+
+    public Matches find(CharSequence texto, Mode modo) {
+        Matches ocorrencias = new Matches();
+        search(texto, modo, ocorrencias);
+        return ocorrencias;
+    }
+
+    public void search(byte[] texto, Mode modo, MatchSink destino) {
+        search(new Latin1(ByteBuffer.wrap(texto)), modo, destino);
+    }
+
+    // Do position ao limit do buffer; as posições relatadas são relativas ao position
+    public void search(ByteBuffer texto, Mode modo, MatchSink destino) {
+        search(new Latin1(texto.slice()), modo, destino);
+    }
+
+    // O arquivo é mapeado em memória (até 2 GB), sem ser copiado
+    public void searchFile(Path arquivo, Mode modo, MatchSink destino) throws IOException {
+        search(mapFile(arquivo), modo, destino);
+    }
+
+    // Arquivo inteiro mapeado só para leitura; IOException acima de 2 GB, o limite de um buffer
+    static ByteBuffer mapFile(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() > Integer.MAX_VALUE) {
+                throw new IOException("Arquivo grande demais (máximo 2 GB): " + arquivo);
+            }
+            return canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+    }
+
+    public void search(CharSequence texto, Mode modo, MatchSink destino) {
+        int n = texto.length();
+        if (vazia || n == 0) return;
+
+        int c = escolherObrigatorio(texto);
+        if (c < 0) {
+            examinar(texto, 0, n, modo, destino);
+            return;
+        }
+        int p = indexOf(texto, (char) c, 0, n);
+        if (p < 0) return;
+        if (maiorTamanho < 0) {
+            examinar(texto, 0, n, modo, destino);
+            return;
+        }
+
+        // Janelas [p-M+1, p+M) em torno de cada ocorrência de c, unidas quando se tocam
+        int inicioJanela = Math.max(0, p - maiorTamanho + 1);
+        int fimJanela = (int) Math.min(n, (long) p + maiorTamanho);
+        while ((p = indexOf(texto, (char) c, p + 1, n)) >= 0) {
+            int inicio = Math.max(0, p - maiorTamanho + 1);
+            if (inicio > fimJanela) {
+                examinar(texto, inicioJanela, fimJanela, modo, destino);
+                inicioJanela = inicio;
+            }
+            fimJanela = (int) Math.min(n, (long) p + maiorTamanho);
+        }
+        examinar(texto, inicioJanela, fimJanela, modo, destino);
+    }
+
+    // Todas as ocorrências contidas em texto[a, b)
+    private void examinar(CharSequence texto, int a, int b, Mode modo, MatchSink destino) {
+        int tamanho = b - a;
+        int blocos = (tamanho + 63) >>> 6;
+        if (inicios.length < blocos) {
+            inicios = new long[blocos];
+        } else {
+            Arrays.fill(inicios, 0, blocos, 0L);
+        }
+
+        // 1. Inícios, de trás para frente
+        if (!marcarInicios(texto, a, b)) return;
+
+        // 2. Fins, para frente a partir de cada início
+        int s = proximoInicio(0, blocos);
+        while (s >= 0) {
+            int inicio = a + s;
+            int ultimo = andar(texto, inicio, b, modo, destino);
+            if (modo == Mode.LEFTMOST_LONGEST && ultimo > inicio) {
+                destino.match(inicio, ultimo);
+                s = proximoInicio(ultimo - a, blocos);
+            } else {
+                s = proximoInicio(s + 1, blocos);
+            }
+        }
+    }
+
+    // Marca os inícios em texto[a, b); false se não houver nenhum. Σ* faz o autômato
+    // nunca morrer: todo caractere tem símbolo e todo estado tem transição.
+    private boolean marcarInicios(CharSequence texto, int a, int b) {
+        boolean algum = false;
+        if (trasAFD != null) {
+            int q = trasAFD.getInitialState();
+            for (int i = b - 1; i >= a; i--) {
+                q = trasAFD.step(q, trasAFD.symbolOf(texto.charAt(i)));
+                if (trasAFD.isFinal(q)) {
+                    inicios[(i - a) >>> 6] |= 1L << (i - a);
+                    algum = true;
+                }
+            }
+            return algum;
+        }
+        tras.reset();
+        for (int i = b - 1; i >= a; i--) {
+            tras.step(texto.charAt(i));
+            if (tras.isAcceptingNow()) {
+                inicios[(i - a) >>> 6] |= 1L << (i - a);
+                algum = true;
+            }
+        }
+        return algum;
+    }
+
+    // Lê a partir do início até o autômato morrer (ou b) e devolve o fim da ocorrência mais
+    // longa; em ALL já entrega cada fim encontrado
+    private int andar(CharSequence texto, int inicio, int b, Mode modo, MatchSink destino) {
+        int ultimo = -1;
+        if (frenteAFD != null) {
+            int q = frenteAFD.getInitialState();
+            for (int j = inicio; j < b; j++) {
+                int simbolo = frenteAFD.symbolOf(texto.charAt(j));
+                if (simbolo == CompiledAutomaton.SEM_TRANSICAO) break;
+                q = frenteAFD.step(q, simbolo);
+                if (q == CompiledAutomaton.SEM_TRANSICAO) break;
+                if (frenteAFD.isFinal(q)) {
+                    if (modo == Mode.ALL) destino.match(inicio, j + 1);
+                    ultimo = j + 1;
+                }
+            }
+            return ultimo;
+        }
+        frente.reset();
+        for (int j = inicio; j < b && frente.step(texto.charAt(j)); j++) {
+            if (frente.isAcceptingNow()) {
+                if (modo == Mode.ALL) destino.match(inicio, j + 1);
+                ultimo = j + 1;
+            }
+        }
+        return ultimo;
+    }
+
+    // Primeiro bit marcado a partir de i, ou -1
+    private int proximoInicio(int i, int blocos) {
+        int bloco = i >>> 6;
+        if (bloco >= blocos) return -1;
+        long bits = inicios[bloco] & (-1L << i);
+        while (bits == 0) {
+            if (++bloco == blocos) return -1;
+            bits = inicios[bloco];
+        }
+        return (bloco << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    // Obrigatório que menos aparece na amostra do começo do texto, ou -1
+    private int escolherObrigatorio(CharSequence texto) {
+        if (obrigatorios.length == 0) return -1;
+        if (obrigatorios.length == 1) return obrigatorios[0];
+        int amostra = Math.min(texto.length(), AMOSTRA_FILTRO);
+        int melhor = -1;
+        int menor = Integer.MAX_VALUE;
+        for (char c : obrigatorios) {
+            int vezes = 0;
+            for (int p = indexOf(texto, c, 0, amostra); p >= 0; p = indexOf(texto, c, p + 1, amostra)) {
+                vezes++;
+            }
+            if (vezes < menor) {
+                menor = vezes;
+                melhor = c;
+            }
+        }
+        return melhor;
+    }
+
+    // String.indexOf não tem limite: só vale quando a busca vai até o fim do texto (na
+    // amostra, um caractere ausente faria a busca percorrer o texto inteiro)
+    private static int indexOf(CharSequence texto, char c, int de, int ate) {
+        if (texto instanceof String && ate == texto.length()) {
+            return ((String) texto).indexOf(c, de);
+        }
+        if (texto instanceof Latin1) {
+            return ((Latin1) texto).indexOf(c, de, ate);
+        }
+        for (int i = de; i < ate; i++) {
+            if (texto.charAt(i) == c) return i;
+        }
+        return -1;
+    }
+
+    // --- Construção ---
+
+    // Σ*·reverso(L - {ε}): um estado novo com laço em todo caractere que, lendo o último
+    // caractere de uma palavra aceita, entra nas arestas invertidas; o final é o antigo inicial.
+    // Como o estado novo não é final nem chega ao inicial sem ler, a palavra vazia fica de fora.
+    private static CompiledAutomaton reverso(CompiledAutomaton automato) {
+        int n = automato.getStateCount();
+        int inicial = automato.getInitialState();
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        for (int q = 0; q < n; q++) {
+            construtor.addState(automato.getStateName(q), 0, 0, false, q == inicial);
+        }
+        int comeco = construtor.addState("Σ*", 0, 0, true, false);
+        construtor.addTransition(comeco, comeco, "[^]");
+
+        boolean[] chegaAoFinal = new boolean[n];
+        for (int q = 0; q < n; q++) {
+            long[] fecho = automato.epsilonClosure(q);
+            for (int r = 0; r < n && !chegaAoFinal[q]; r++) {
+                chegaAoFinal[q] = (fecho[r >>> 6] & (1L << r)) != 0 && automato.isFinal(r);
+            }
+        }
+        for (int q = 0; q < n; q++) {
+            for (int s = 0; s < automato.getSymbolCount(); s++) {
+                String rotulo = automato.getSymbolClass(s).label();
+                for (int destino : automato.targets(q, s)) {
+                    construtor.addTransition(destino, q, rotulo);
+                    if (chegaAoFinal[destino]) {
+                        construtor.addTransition(comeco, q, rotulo);
+                    }
+                }
+            }
+            for (int destino : automato.epsilonTargets(q)) {
+                construtor.addTransition(destino, q, "ε");
+            }
+        }
+        return construtor.build().compile();
+    }
+
+    // Caracteres c (classes de um caractere só) sem os quais nenhuma palavra não vazia é
+    // aceita: busca em largura por pares (estado, já leu algo) ignorando as arestas de c
+    private static char[] caracteresObrigatorios(CompiledAutomaton automato) {
+        int n = automato.getStateCount();
+        int inicial = automato.getInitialState();
+        StringBuilder obrigatorios = new StringBuilder();
+        int[] fila = new int[2 * n];
+        for (int evitado = 0; evitado < automato.getSymbolCount(); evitado++) {
+            if (automato.getSymbolClass(evitado).size() != 1) continue;
+            boolean[] visto = new boolean[2 * n];
+            int tamanho = 0;
+            fila[tamanho++] = 2 * inicial;
+            visto[2 * inicial] = true;
+            boolean aceita = false;
+            for (int i = 0; i < tamanho && !aceita; i++) {
+                int q = fila[i] >>> 1;
+                int leu = fila[i] & 1;
+                if (leu == 1 && automato.isFinal(q)) {
+                    aceita = true;
+                    break;
+                }
+                for (int destino : automato.epsilonTargets(q)) {
+                    int par = 2 * destino + leu;
+                    if (!visto[par]) {
+                        visto[par] = true;
+                        fila[tamanho++] = par;
+                    }
+                }
+                for (int s = 0; s < automato.getSymbolCount(); s++) {
+                    if (s == evitado) continue;
+                    for (int destino : automato.targets(q, s)) {
+                        int par = 2 * destino + 1;
+                        if (!visto[par]) {
+                            visto[par] = true;
+                            fila[tamanho++] = par;
+                        }
+                    }
+                }
+            }
+            if (!aceita) {
+                obrigatorios.append(automato.getSymbolClass(evitado).first());
+            }
+        }
+        return obrigatorios.toString().toCharArray();
+    }
+
+    // Bytes como texto ISO-8859-1, sem cópia (também usado pelo Lexer)
+    static final class Latin1 implements CharSequence {
+        private final ByteBuffer bytes;
+        private final byte[] vetor;   // null se o buffer não tem vetor (ex.: arquivo mapeado)
+        private final int base;
+
+        Latin1(ByteBuffer bytes) {
+            this.bytes = bytes;
+            this.vetor = bytes.hasArray() ? bytes.array() : null;
+            this.base = bytes.hasArray() ? bytes.arrayOffset() + bytes.position() : bytes.position();
+        }
+
+        @Override
+        public int length() {
+            return bytes.remaining();
+        }
+
+        @Override
+        public char charAt(int i) {
+            return (char) ((vetor != null ? vetor[base + i] : bytes.get(base + i)) & 0xFF);
+        }
+
+        int indexOf(char c, int de, int ate) {
+            if (c > 0xFF) return -1;
+            byte b = (byte) c;
+            if (vetor != null) {
+                for (int i = de; i < ate; i++) {
+                    if (vetor[base + i] == b) return i;
+                }
+            } else {
+                for (int i = de; i < ate; i++) {
+                    if (bytes.get(base + i) == b) return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public CharSequence subSequence(int inicio, int fim) {
+            return new Latin1(bytes.slice(bytes.position() + inicio, fim - inicio));
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder texto = new StringBuilder(length());
+            for (int i = 0; i < length(); i++) {
+                texto.append(charAt(i));
+            }
+            return texto.toString();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// Enumeração das palavras aceitas em ordem shortlex (por tamanho, depois alfabética),
+// percorrendo o AFD mínimo em vez de testar todas as palavras de Σ^L.
+//
+// Para cada tamanho l guarda-se o conjunto de estados que chegam a um final com
+// exatamente l símbolos. A busca em profundidade só entra em ramos desse conjunto,
+// então cada palavra produzida custa O(l·|Σ|) e nenhuma é repetida (o AFD é determinístico).
+// Os caracteres são percorridos pelas faixas das classes do alfabeto: todos os caracteres
+// de uma faixa levam ao mesmo estado, então uma faixa sem saída é pulada inteira.
+public class WordEnumerator {
+
+    private final CompiledAutomaton afd;
+    private final CharClassTable faixas; // faixas de caracteres em ordem, com o símbolo de cada uma
+
+    public WordEnumerator(CompiledAutomaton automato) {
+        this.afd = DFAMinimizer.minimize(automato);
+        this.faixas = afd.charClassTable();
+    }
+
+    // Todas as palavras aceitas; infinito se a linguagem for infinita (use limit)
+    public Stream<String> words() {
+        return wordsUpTo(Integer.MAX_VALUE);
+    }
+
+    public Stream<String> wordsUpTo(int tamanhoMaximo) {
+        return StreamSupport.stream(new Enumeracao(tamanhoMaximo), false);
+    }
+
+    public List<String> first(int quantidade) {
+        return words().limit(quantidade).collect(Collectors.toList());
+    }
+
+    private class Enumeracao extends Spliterators.AbstractSpliterator<String> {
+        private final int tamanhoMaximo;
+        private final int palavrasBits = (afd.getStateCount() + 63) >>> 6;
+        // chegaFinal.get(l): estados que aceitam alguma palavra de tamanho exatamente l
+        private final List<long[]> chegaFinal = new ArrayList<>();
+
+        private int tamanho = -1;
+        private boolean terminou;
+        // Pilha da busca: estado em cada profundidade e próximo caractere a tentar
+        private int[] estados = new int[1];
+        private int[] proximoCaractere = new int[1];
+        private char[] palavra = new char[0];
+        private int profundidade = -1; // -1 = precisa iniciar o próximo tamanho
+
+        Enumeracao(int tamanhoMaximo) {
+            super(Long.MAX_VALUE, ORDERED | DISTINCT | NONNULL | IMMUTABLE);
+            this.tamanhoMaximo = tamanhoMaximo;
+            if (afd.getInitialState() == CompiledAutomaton.SEM_TRANSICAO) {
+                terminou = true;
+                return;
+            }
+            long[] finais = new long[palavrasBits];
+            for (int q = 0; q < afd.getStateCount(); q++) {
+                if (afd.isFinal(q)) finais[q >>> 6] |= 1L << q;
+            }
+            chegaFinal.add(finais);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> acao) {
+            while (!terminou) {
+                if (profundidade < 0 && !proximoTamanho()) {
+                    terminou = true;
+                    return false;
+                }
+                String encontrada = continuarBusca();
+                if (encontrada != null) {
+                    acao.accept(encontrada);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Avança para o próximo tamanho em que o estado inicial aceita alguma palavra
+        private boolean proximoTamanho() {
+            int inicial = afd.getInitialState();
+            while (tamanho < tamanhoMaximo) {
+                tamanho++;
+                long[] nivel = nivel(tamanho);
+                if (nivel == null) {
+                    return false; // nenhum estado aceita palavras deste tamanho ou maiores
+                }
+                if (contem(nivel, inicial)) {
+                    if (estados.length < tamanho + 1) {
+                        int capacidade = Math.max(tamanho + 1, estados.length * 2);
+                        estados = Arrays.copyOf(estados, capacidade);
+                        proximoCaractere = Arrays.copyOf(proximoCaractere, capacidade);
+                        palavra = Arrays.copyOf(palavra, capacidade);
+                    }
+                    profundidade = 0;
+                    estados[0] = inicial;
+                    proximoCaractere[0] = 0;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Busca em profundidade em ordem alfabética, só por ramos que completam o tamanho
+        private String continuarBusca() {
+            while (profundidade >= 0) {
+                if (profundidade == tamanho) {
+                    String resultado = new String(palavra, 0, tamanho);
+                    profundidade--;
+                    return resultado;
+                }
+                int q = estados[profundidade];
+                long[] alvo = chegaFinal.get(tamanho - profundidade - 1);
+                int c = proximoCaractere[profundidade];
+                int f = primeiraFaixa(c);
+                int destino = CompiledAutomaton.SEM_TRANSICAO;
+                while (f < faixas.getRangeCount()) {
+                    destino = afd.step(q, faixas.getRangeSymbol(f));
+                    if (destino != CompiledAutomaton.SEM_TRANSICAO && contem(alvo, destino)) {
+                        c = Math.max(c, faixas.getRangeStart(f));
+                        break;
+                    }
+                    f++;
+                }
+                if (f == faixas.getRangeCount()) {
+                    profundidade--;
+                    continue;
+                }
+                proximoCaractere[profundidade] = c + 1;
+                palavra[profundidade] = (char) c;
+                profundidade++;
+                estados[profundidade] = destino;
+                proximoCaractere[profundidade] = 0;
+            }
+            return null;
+        }
+
+        // Conjunto do tamanho l, calculado a partir do l-1; null quando fica vazio
+        private long[] nivel(int l) {
+            while (chegaFinal.size() <= l) {
+                long[] anterior = chegaFinal.get(chegaFinal.size() - 1);
+                if (anterior == null) {
+                    return null;
+                }
+                long[] atual = new long[palavrasBits];
+                boolean vazio = true;
+                for (int q = 0; q < afd.getStateCount(); q++) {
+                    for (int s = 0; s < afd.getSymbolCount(); s++) {
+                        int destino = afd.step(q, s);
+                        if (destino != CompiledAutomaton.SEM_TRANSICAO && contem(anterior, destino)) {
+                            atual[q >>> 6] |= 1L << q;
+                            vazio = false;
+                            break;
+                        }
+                    }
+                }
+                chegaFinal.add(vazio ? null : atual);
+            }
+            return chegaFinal.get(l);
+        }
+
+        // Primeira faixa que termina em c ou depois
+        private int primeiraFaixa(int c) {
+            int baixo = 0, alto = faixas.getRangeCount();
+            while (baixo < alto) {
+                int meio = (baixo + alto) >>> 1;
+                if (faixas.getRangeEnd(meio) < c) baixo = meio + 1;
+                else alto = meio;
+            }
+            return baixo;
+        }
+
+        private boolean contem(long[] conjunto, int estado) {
+            return (conjunto[estado >>> 6] & (1L << estado)) != 0;
+        }
+    }
+}
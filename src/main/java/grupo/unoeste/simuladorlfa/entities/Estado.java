@@ -70,4 +70,11 @@ public class Estado {
     public static void resetContador() {
         contador = 0;
     }
+
+    // Evita que novos estados repitam o nome de um estado carregado (ex.: "q7")
+    public static void atualizarContador(String nome) {
+        if (nome != null && nome.matches("q\\d{1,9}")) {
+            contador = Math.max(contador, Integer.parseInt(nome.substring(1)) + 1);
+        }
+    }
 }
\ No newline at end of file
@@ -1,7 +1,8 @@
 package grupo.unoeste.simuladorlfa.entities;
 
+import grupo.unoeste.simuladorlfa.util.SymbolLabels;
+
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class Transicao {
     private final Estado origem;
@@ -16,16 +17,9 @@ public class Transicao {
         this.simbolos = new ArrayList<>(parseSimbolos(this.simboloOriginal));
     }
 
+    // Formato "a,b,c" - separa por vírgula e remove espaços (mesma leitura do modelo simples)
     private List<String> parseSimbolos(String input) {
-        if (input.isEmpty() || input.equals("ε")) {
-            return Arrays.asList("ε");
-        }
-
-        // Suporte para formato "a,b,c" - separa por vírgula e remove espaços
-        return Arrays.stream(input.split(","))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toList());
+        return SymbolLabels.parse(input);
     }
 
     // Getters
@@ -1,30 +1,50 @@
 package grupo.unoeste.simuladorlfa.entities;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class Variavel {
     private String nome;
-    private Map<String, Variavel> transicoes;
+    // Produções por símbolo lido; um mesmo símbolo pode ter vários destinos (null = sem variável)
+    private Map<String, List<Variavel>> transicoes;
 
     public Variavel(String nome) {
         this.nome = nome;
-        this.transicoes = new HashMap<>();
+        this.transicoes = new LinkedHashMap<>();
     }
 
     public String getNome() {
         return nome;
     }
 
+    // Acrescenta a produção nome -> leitura destino (não substitui as anteriores)
     public void adicionarTransicao(String leitura, Variavel destino) {
-        transicoes.put(leitura, destino);
+        List<Variavel> destinos = transicoes.computeIfAbsent(leitura, k -> new ArrayList<>());
+        for (Variavel existente : destinos) {
+            if (existente == null ? destino == null
+                    : destino != null && existente.getNome().equals(destino.getNome())) {
+                return;
+            }
+        }
+        destinos.add(destino);
     }
 
-    public Variavel getDestino(String leitura) {
-        return transicoes.get(leitura);
+    public List<Variavel> getDestinos(String leitura) {
+        return Collections.unmodifiableList(transicoes.getOrDefault(leitura, Collections.emptyList()));
     }
 
-    public Map<String, Variavel> getTransicoes() {
-        return transicoes;
+    public Map<String, List<Variavel>> getTransicoes() {
+        return Collections.unmodifiableMap(transicoes);
+    }
+
+    public int getQuantidadeProducoes() {
+        int total = 0;
+        for (List<Variavel> destinos : transicoes.values()) {
+            total += destinos.size();
+        }
+        return total;
     }
 }
@@ -0,0 +1,51 @@
+package grupo.unoeste.simuladorlfa.util;
+
+import java.util.*;
+
+// Leitura dos rótulos de transição ("a,b", "[a,b],c", "ε"), comum ao modelo de visão
+// (Transicao) e aos motores (CoreAutomaton, RegexCompiler). Não depende de nenhum dos dois.
+public final class SymbolLabels {
+
+    private SymbolLabels() {
+    }
+
+    // A vírgula separa símbolos, exceto dentro de uma classe [...] ("[a,b],c" -> [[a,b], c]);
+    // vazio ou "ε" -> [ε]
+    public static List<String> parse(String rotulo) {
+        String texto = rotulo == null ? "" : rotulo.trim();
+        if (texto.isEmpty() || texto.equals("ε")) {
+            return List.of("ε");
+        }
+        List<String> simbolos = new ArrayList<>();
+        int inicio = 0;
+        int i = 0;
+        while (i <= texto.length()) {
+            if (i == texto.length() || texto.charAt(i) == ',') {
+                String simbolo = texto.substring(inicio, i).trim();
+                if (!simbolo.isEmpty()) {
+                    simbolos.add(simbolo);
+                }
+                inicio = ++i;
+            } else if (texto.charAt(i) == '[') {
+                int fim = classEnd(texto, i);
+                i = fim < 0 ? i + 1 : fim + 1;
+            } else {
+                i++;
+            }
+        }
+        return simbolos;
+    }
+
+    // Posição do ']' que fecha a classe aberta em inicio (pulando escapes); -1 se não fecha
+    public static int classEnd(String texto, int inicio) {
+        for (int i = inicio + 1; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == ']' && i > inicio + 1) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,3 +1,6 @@
+// O módulo inclui o editor, então depende do JavaFX. Os motores (CoreAutomaton,
+// CompiledAutomaton, compiladores de gramática e expressão, SimuladorCLI, Simulador,
+// Gramatica) não criam nenhum objeto JavaFX e rodam sem ele pelo classpath.
 module grupo.unoeste.simuladorlfa {
     requires javafx.controls;
     requires javafx.fxml;
@@ -6,4 +9,4 @@ module grupo.unoeste.simuladorlfa {
     opens grupo.unoeste.simuladorlfa to javafx.fxml;
     exports grupo.unoeste.simuladorlfa;
     exports grupo.unoeste.simuladorlfa.entities;
-}
\ No newline at end of file
+}
@@ -0,0 +1,173 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Edições aleatórias pela análise incremental, conferida a cada passo contra as mesmas
+// propriedades recalculadas do zero sobre as listas
+class AutomatonAnalysisTest {
+
+    private static final String[] ROTULOS = {"a", "b", "ε", "a,b", "c", "a-c"};
+
+    private final AutomatonAnalysis analise = new AutomatonAnalysis();
+    private final List<Estado> estados = new ArrayList<>();
+    private final List<Transicao> transicoes = new ArrayList<>();
+
+    // Caracteres que o símbolo lê ("a-c" é a única faixa usada aqui)
+    private static List<Character> caracteres(String simbolo) {
+        return simbolo.equals("a-c") ? List.of('a', 'b', 'c') : List.of(simbolo.charAt(0));
+    }
+
+    // Estados alcançados a partir das raízes, seguindo as transições para frente ou para trás
+    private Set<Estado> alcancados(Set<Estado> raizes, boolean inverso) {
+        Set<Estado> vistos = Collections.newSetFromMap(new IdentityHashMap<>());
+        vistos.addAll(raizes);
+        boolean mudou = true;
+        while (mudou) {
+            mudou = false;
+            for (Transicao t : transicoes) {
+                Estado de = inverso ? t.getDestino() : t.getOrigem();
+                Estado para = inverso ? t.getOrigem() : t.getDestino();
+                if (vistos.contains(de)) mudou |= vistos.add(para);
+            }
+        }
+        return vistos;
+    }
+
+    private void conferir() {
+        Set<String> alfabeto = new TreeSet<>();
+        Set<Character> lidos = new HashSet<>();
+        Map<Estado, Map<Character, Set<Estado>>> celulas = new IdentityHashMap<>();
+        boolean temEpsilon = false;
+        for (Transicao t : transicoes) {
+            for (String simbolo : t.getSimbolos()) {
+                if (simbolo.equals("ε")) {
+                    temEpsilon = true;
+                    continue;
+                }
+                alfabeto.add(simbolo);
+                for (char c : caracteres(simbolo)) {
+                    lidos.add(c);
+                    celulas.computeIfAbsent(t.getOrigem(), k -> new HashMap<>())
+                            .computeIfAbsent(c, k -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                            .add(t.getDestino());
+                }
+            }
+        }
+        boolean deterministico = !temEpsilon && celulas.values().stream()
+                .allMatch(m -> m.values().stream().allMatch(d -> d.size() == 1));
+        boolean completo = deterministico && estados.stream()
+                .allMatch(e -> celulas.getOrDefault(e, Map.of()).keySet().containsAll(lidos));
+
+        Set<Estado> iniciais = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Estado> finais = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Estado e : estados) {
+            if (e.isInicial()) iniciais.add(e);
+            if (e.isFinal()) finais.add(e);
+        }
+        Set<Estado> alcancaveis = alcancados(iniciais, false);
+        Set<Estado> vivos = alcancados(finais, true);
+        List<Estado> inalcancaveis = new ArrayList<>();
+        List<Estado> mortos = new ArrayList<>();
+        for (Estado e : estados) {
+            if (!alcancaveis.contains(e)) inalcancaveis.add(e);
+            if (!vivos.contains(e)) mortos.add(e);
+        }
+
+        List<String> problemas = new ArrayList<>();
+        if (estados.isEmpty()) {
+            problemas.add("Nenhum estado definido");
+        } else {
+            if (iniciais.isEmpty()) problemas.add("Nenhum estado inicial definido");
+            if (iniciais.size() > 1) problemas.add("Múltiplos estados iniciais (característico de AFND)");
+            if (finais.isEmpty()) problemas.add("Nenhum estado final definido");
+            if (!inalcancaveis.isEmpty()) {
+                StringJoiner nomes = new StringJoiner(", ");
+                inalcancaveis.forEach(e -> nomes.add(e.getNome()));
+                problemas.add("Estados inalcançáveis encontrados: " + nomes);
+            }
+            if (deterministico && !mortos.isEmpty()) {
+                problemas.add("Estados mortos encontrados (não alcançam estado final)");
+            }
+        }
+
+        assertEquals(alfabeto, analise.getAlphabet());
+        assertEquals(deterministico, analise.isDeterministic());
+        assertEquals(completo, analise.isComplete());
+        assertEquals(inalcancaveis, analise.getUnreachableStates());
+        assertEquals(mortos, analise.getDeadStates());
+        assertEquals(problemas, analise.validate());
+        assertEquals(problemas, AutomatonSimulator.validateAutomaton(estados, transicoes));
+    }
+
+    @Test
+    void edicoesAleatoriasConferemComORecalculo() {
+        Random sorteio = new Random(81);
+        for (int passo = 0; passo < 3000; passo++) {
+            int operacao = sorteio.nextInt(10);
+            if (operacao < 2 || estados.isEmpty()) {
+                Estado estado = new Estado("q" + passo, 0, 0);
+                estado.setFinal(sorteio.nextInt(4) == 0);
+                estado.setInicial(estados.isEmpty());
+                estados.add(estado);
+                analise.addState(estado);
+            } else if (operacao == 2) {
+                Estado estado = estados.remove(sorteio.nextInt(estados.size()));
+                transicoes.removeIf(t -> t.getOrigem() == estado || t.getDestino() == estado);
+                analise.removeState(estado);
+            } else if (operacao < 6) {
+                Transicao t = new Transicao(estados.get(sorteio.nextInt(estados.size())),
+                        estados.get(sorteio.nextInt(estados.size())), ROTULOS[sorteio.nextInt(ROTULOS.length)]);
+                transicoes.add(t);
+                analise.addTransition(t);
+            } else if (operacao == 6 && !transicoes.isEmpty()) {
+                Transicao t = transicoes.remove(sorteio.nextInt(transicoes.size()));
+                analise.removeTransition(t);
+            } else if (operacao == 7 && !transicoes.isEmpty()) {
+                Transicao t = transicoes.get(sorteio.nextInt(transicoes.size()));
+                t.setSimbolo(ROTULOS[sorteio.nextInt(ROTULOS.length)]);
+                analise.transitionChanged(t);
+            } else if (operacao == 8) {
+                Estado estado = estados.get(sorteio.nextInt(estados.size()));
+                estado.setInicial(!estado.isInicial());
+                analise.stateChanged(estado);
+            } else {
+                Estado estado = estados.get(sorteio.nextInt(estados.size()));
+                estado.setFinal(!estado.isFinal());
+                analise.stateChanged(estado);
+            }
+            // Consulta só às vezes, para que várias edições se acumulem sobre um conjunto
+            // desatualizado antes do recálculo
+            if (sorteio.nextInt(3) == 0) {
+                conferir();
+            }
+        }
+        conferir();
+    }
+
+    @Test
+    void carregarDeNovoDescartaOEstadoAnterior() {
+        Estado q0 = new Estado("q0", 0, 0);
+        q0.setInicial(true);
+        Estado q1 = new Estado("q1", 0, 0);
+        q1.setFinal(true);
+        estados.addAll(List.of(q0, q1));
+        transicoes.add(new Transicao(q0, q1, "a"));
+        analise.load(estados, transicoes);
+        conferir();
+        assertTrue(analise.isDeterministic());
+        assertTrue(analise.validate().isEmpty());
+
+        Estado solto = new Estado("solto", 0, 0);
+        estados.add(solto);
+        transicoes.clear();
+        analise.load(estados, transicoes);
+        conferir();
+        assertEquals(List.of(q1, solto), analise.getUnreachableStates());
+    }
+}
@@ -0,0 +1,65 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutomatonCacheTest {
+
+    @Test
+    void fechosEpsilonConferemComOPontoFixo() {
+        Random sorteio = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            // Até 130 estados, para passar de uma palavra de bits
+            int n = 1 + sorteio.nextInt(i % 4 == 0 ? 130 : 10);
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, n, 3.0 / n, "a", "ε");
+            CompiledAutomaton compilado = automato.compile();
+            for (int q = 0; q < n; q++) {
+                Set<Integer> esperado = new HashSet<>(Set.of(q));
+                ForcaBruta.fechar(automato, esperado);
+
+                long[] fecho = compilado.epsilonClosure(q);
+                assertEquals(compilado.bitSetWords(), fecho.length);
+                Set<Integer> obtido = new HashSet<>();
+                for (int p = 0; p < compilado.getStateCount(); p++) {
+                    if ((fecho[p >>> 6] & (1L << p)) != 0) obtido.add(p);
+                }
+                assertEquals(esperado, obtido, "autômato " + i + ", estado q" + q);
+            }
+        }
+    }
+
+    @Test
+    void recompilaSoDepoisDeEdicoes() {
+        AutomatonGraph grafo = new AutomatonGraph();
+        AutomatonCache cache = new AutomatonCache(grafo);
+        Estado q0 = new Estado("q0", 0, 0);
+        q0.setInicial(true);
+        Estado q1 = new Estado("q1", 0, 0);
+        q1.setFinal(true);
+        grafo.states().add(q0);
+        grafo.states().add(q1);
+        grafo.transitions().add(new Transicao(q0, q1, "a"));
+
+        CompiledAutomaton primeiro = cache.get();
+        assertSame(primeiro, cache.get());
+        assertTrue(AutomatonSimulator.accepts(primeiro, "a"));
+        assertFalse(AutomatonSimulator.accepts(primeiro, "b"));
+
+        long revisao = cache.getRevision();
+        grafo.transitions().add(new Transicao(q0, q1, "b"));
+        assertNotEquals(revisao, cache.getRevision());
+        CompiledAutomaton segundo = cache.get();
+        assertNotSame(primeiro, segundo);
+        assertSame(segundo, cache.get());
+        assertTrue(AutomatonSimulator.accepts(segundo, "b"));
+
+        q1.setFinal(false);
+        grafo.stateChanged(q1);
+        assertFalse(AutomatonSimulator.accepts(cache.get(), "a"));
+    }
+}
@@ -0,0 +1,156 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutomatonFilesTest {
+
+    @TempDir
+    Path pasta;
+
+    private final List<Estado> estados = new ArrayList<>();
+    private final List<Transicao> transicoes = new ArrayList<>();
+
+    // q0 --a,b--> q0, q0 --b--> "fim 1" --0-9--> q0, "fim 1" --ε--> q2
+    private void montar() {
+        Estado q0 = new Estado("q0", 10, 20);
+        Estado fim = new Estado("fim 1", 150.5, 20);
+        Estado q2 = new Estado("q2", 80, 200);
+        q0.setInicial(true);
+        fim.setFinal(true);
+        estados.addAll(List.of(q0, fim, q2));
+        transicoes.add(new Transicao(q0, q0, "a,b"));
+        transicoes.add(new Transicao(q0, fim, "b"));
+        transicoes.add(new Transicao(fim, q0, "0-9"));
+        transicoes.add(new Transicao(fim, q2, "ε"));
+    }
+
+    private void conferirIgual(CoreAutomaton lido) {
+        CoreAutomaton original = AutomatonModel.toCore(estados, transicoes);
+        assertEquals(original.getStateCount(), lido.getStateCount());
+        for (int q = 0; q < original.getStateCount(); q++) {
+            assertEquals(original.getName(q), lido.getName(q));
+            assertEquals(original.getX(q), lido.getX(q));
+            assertEquals(original.getY(q), lido.getY(q));
+            assertEquals(original.isInitial(q), lido.isInitial(q));
+            assertEquals(original.isFinal(q), lido.isFinal(q));
+        }
+        assertEquals(original.getTransitionCount(), lido.getTransitionCount());
+        for (int t = 0; t < original.getTransitionCount(); t++) {
+            assertEquals(original.getSource(t), lido.getSource(t));
+            assertEquals(original.getTarget(t), lido.getTarget(t));
+            assertEquals(original.getSymbols(t), lido.getSymbols(t));
+        }
+        assertTrue(LanguageComparator.equivalent(original.compile(), lido.compile()).holds());
+    }
+
+    private void idaEVolta(String nomeArquivo) throws IOException {
+        montar();
+        Path arquivo = pasta.resolve(nomeArquivo);
+        AutomatonFiles.save(arquivo, estados, transicoes);
+        conferirIgual(AutomatonFiles.loadCore(arquivo));
+    }
+
+    @Test
+    void idaEVoltaBinario() throws IOException {
+        idaEVolta("automato" + AutomatonFiles.EXTENSAO_BINARIA);
+    }
+
+    @Test
+    void idaEVoltaJson() throws IOException {
+        idaEVolta("automato" + AutomatonFiles.EXTENSAO_JSON);
+    }
+
+    @Test
+    void idaEVoltaTexto() throws IOException {
+        idaEVolta("automato.txt");
+    }
+
+    @Test
+    void nomesRepetidosSaoRecusadosSemApagarOArquivo() throws IOException {
+        montar();
+        for (String extensao : List.of(AutomatonFiles.EXTENSAO_BINARIA, AutomatonFiles.EXTENSAO_JSON, ".txt")) {
+            Path arquivo = pasta.resolve("automato" + extensao);
+            AutomatonFiles.save(arquivo, estados, transicoes);
+            byte[] antes = Files.readAllBytes(arquivo);
+
+            List<Estado> repetidos = new ArrayList<>(estados);
+            repetidos.add(new Estado("q0", 0, 0));
+            IOException erro = assertThrows(IOException.class,
+                    () -> AutomatonFiles.save(arquivo, repetidos, transicoes));
+            assertTrue(erro.getMessage().contains("q0"), erro.getMessage());
+            assertArrayEquals(antes, Files.readAllBytes(arquivo), extensao);
+        }
+    }
+
+    @Test
+    void coordenadaNaoFinitaNaoVaiParaJson() throws IOException {
+        montar();
+        Path arquivo = pasta.resolve("automato" + AutomatonFiles.EXTENSAO_JSON);
+        AutomatonFiles.save(arquivo, estados, transicoes);
+        byte[] antes = Files.readAllBytes(arquivo);
+
+        estados.get(1).setX(Double.NaN);
+        assertThrows(IOException.class, () -> AutomatonFiles.save(arquivo, estados, transicoes));
+        assertArrayEquals(antes, Files.readAllBytes(arquivo));
+        estados.get(1).setX(Double.POSITIVE_INFINITY);
+        assertThrows(IOException.class, () -> AutomatonFiles.writeJson(new StringWriter(), estados, transicoes));
+    }
+
+    // Cabeçalho do binário seguido do que for escrito por corpo
+    private static byte[] binario(ConteudoBinario corpo) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream saida = new DataOutputStream(bytes);
+        saida.writeInt(0x4146424E);
+        saida.writeShort(1);
+        corpo.escrever(saida);
+        return bytes.toByteArray();
+    }
+
+    private interface ConteudoBinario {
+        void escrever(DataOutputStream saida) throws IOException;
+    }
+
+    @Test
+    void quantidadeCorrompidaNoBinarioViraIOException() throws IOException {
+        byte[][] corrompidos = {
+                binario(saida -> saida.writeInt(Integer.MAX_VALUE)),
+                binario(saida -> { saida.writeInt(0); saida.writeInt(Integer.MAX_VALUE); saida.writeInt(0); }),
+                binario(saida -> { saida.writeInt(0); saida.writeInt(0); saida.writeInt(Integer.MAX_VALUE); }),
+                binario(saida -> saida.writeInt(-1)),
+        };
+        for (byte[] corrompido : corrompidos) {
+            IOException erro = assertThrows(IOException.class,
+                    () -> AutomatonFiles.readBinary(new ByteArrayInputStream(corrompido)));
+            assertTrue(erro.getMessage().contains("corrompido"), erro.getMessage());
+        }
+    }
+
+    @Test
+    void binarioComNomesRepetidosEhRecusado() throws IOException {
+        byte[] repetido = binario(saida -> {
+            saida.writeInt(2);
+            for (int i = 0; i < 2; i++) {
+                saida.writeUTF("q0");
+                saida.writeDouble(0);
+                saida.writeDouble(0);
+                saida.writeByte(0);
+            }
+            saida.writeInt(0);
+            saida.writeInt(0);
+        });
+        IOException erro = assertThrows(IOException.class,
+                () -> AutomatonFiles.readBinary(new ByteArrayInputStream(repetido)));
+        assertTrue(erro.getMessage().contains("q0"), erro.getMessage());
+    }
+}
@@ -0,0 +1,155 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import grupo.unoeste.simuladorlfa.entities.Transicao;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Edições aleatórias no grafo conferidas, a cada passo, contra listas simples e contagens
+// recalculadas do zero
+class AutomatonGraphTest {
+
+    private static final String[] ROTULOS = {"a", "b", "ε", "a,b", "c", "a-c"};
+
+    private final AutomatonGraph grafo = new AutomatonGraph();
+    private final List<Estado> estados = new ArrayList<>();
+    private final List<Transicao> transicoes = new ArrayList<>();
+
+    private static boolean ehEpsilon(String simbolo) {
+        return simbolo.isEmpty() || simbolo.equals("ε");
+    }
+
+    private void conferir() {
+        assertEquals(estados.size(), grafo.getStateCount());
+        assertEquals(estados.size(), grafo.states().size());
+        for (int i = 0; i < estados.size(); i++) {
+            assertSame(estados.get(i), grafo.states().get(i));
+        }
+        assertEquals(transicoes.size(), grafo.getTransitionCount());
+        for (int i = 0; i < transicoes.size(); i++) {
+            assertSame(transicoes.get(i), grafo.transitions().get(i));
+        }
+
+        Map<Estado, Map<String, Set<Estado>>> celulas = new IdentityHashMap<>();
+        Map<Estado, Set<Estado>> vizinhos = new IdentityHashMap<>();
+        Set<String> alfabeto = new TreeSet<>();
+        int epsilon = 0;
+        for (Transicao t : transicoes) {
+            vizinhos.computeIfAbsent(t.getOrigem(), k -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(t.getDestino());
+            boolean temEpsilon = false;
+            for (String simbolo : t.getSimbolos()) {
+                if (ehEpsilon(simbolo)) {
+                    temEpsilon = true;
+                    continue;
+                }
+                alfabeto.add(simbolo);
+                celulas.computeIfAbsent(t.getOrigem(), k -> new HashMap<>())
+                        .computeIfAbsent(simbolo, k -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                        .add(t.getDestino());
+            }
+            if (temEpsilon) epsilon++;
+        }
+        int conflitos = 0, preenchidas = 0;
+        for (Map<String, Set<Estado>> porSimbolo : celulas.values()) {
+            for (Set<Estado> destinos : porSimbolo.values()) {
+                preenchidas++;
+                if (destinos.size() > 1) conflitos++;
+            }
+        }
+        assertEquals(conflitos, grafo.getConflictCount());
+        assertEquals(preenchidas, grafo.getFilledCellCount());
+        assertEquals(epsilon, grafo.getEpsilonTransitionCount());
+        assertEquals(alfabeto, grafo.getAlphabet());
+        assertEquals(estados.stream().filter(Estado::isInicial).count(), grafo.getInitialStateCount());
+        assertEquals(estados.stream().filter(Estado::isFinal).count(), grafo.getFinalStateCount());
+
+        for (Estado estado : estados) {
+            int id = grafo.idOf(estado);
+            Set<Integer> esperado = new HashSet<>();
+            for (Estado vizinho : vizinhos.getOrDefault(estado, Set.of())) {
+                esperado.add(grafo.idOf(vizinho));
+            }
+            assertEquals(esperado, grafo.successors(id));
+            assertEquals(estado.isInicial(), grafo.isInitial(id));
+            assertEquals(estado.isFinal(), grafo.isFinal(id));
+        }
+    }
+
+    @Test
+    void edicoesAleatoriasMantemListasEIndices() {
+        Random sorteio = new Random(42);
+        for (int passo = 0; passo < 3000; passo++) {
+            int operacao = sorteio.nextInt(10);
+            if (operacao < 3 || estados.isEmpty()) {
+                Estado estado = new Estado("q" + passo, 0, 0);
+                estado.setFinal(sorteio.nextInt(3) == 0);
+                estados.add(estado);
+                grafo.states().add(estado);
+            } else if (operacao == 3) {
+                Estado estado = estados.remove(sorteio.nextInt(estados.size()));
+                transicoes.removeIf(t -> t.getOrigem() == estado || t.getDestino() == estado);
+                grafo.states().remove(estado);
+            } else if (operacao < 7) {
+                Transicao t = new Transicao(estados.get(sorteio.nextInt(estados.size())),
+                        estados.get(sorteio.nextInt(estados.size())), ROTULOS[sorteio.nextInt(ROTULOS.length)]);
+                transicoes.add(t);
+                grafo.transitions().add(t);
+            } else if (operacao == 7 && !transicoes.isEmpty()) {
+                Transicao t = transicoes.remove(sorteio.nextInt(transicoes.size()));
+                grafo.transitions().remove(t);
+            } else if (operacao == 8 && !transicoes.isEmpty()) {
+                Transicao t = transicoes.get(sorteio.nextInt(transicoes.size()));
+                t.setSimbolo(ROTULOS[sorteio.nextInt(ROTULOS.length)]);
+                grafo.transitionChanged(t);
+            } else {
+                Estado estado = estados.get(sorteio.nextInt(estados.size()));
+                estado.setInicial(!estado.isInicial());
+                grafo.stateChanged(estado);
+            }
+            conferir();
+        }
+    }
+
+    @Test
+    void removerEmLoteMantemAOrdem() {
+        for (int i = 0; i < 1000; i++) {
+            Estado estado = new Estado("q" + i, 0, 0);
+            estados.add(estado);
+            grafo.states().add(estado);
+        }
+        for (int i = 0; i + 1 < 1000; i++) {
+            Transicao t = new Transicao(estados.get(i), estados.get(i + 1), "a");
+            transicoes.add(t);
+            grafo.transitions().add(t);
+        }
+        // Remove os estados pares sem consultar a lista entre uma remoção e outra
+        for (int i = 0; i < 1000; i += 2) {
+            grafo.removeState(estados.get(i));
+        }
+        estados.removeIf(e -> Integer.parseInt(e.getNome().substring(1)) % 2 == 0);
+        transicoes.clear();
+        conferir();
+
+        Estado novo = new Estado("novo", 0, 0);
+        estados.add(novo);
+        grafo.states().add(novo);
+        grafo.states().remove(estados.get(0));
+        estados.remove(0);
+        conferir();
+    }
+
+    @Test
+    void estadosComOMesmoNomeSaoDistintos() {
+        Estado a = new Estado("q", 0, 0);
+        Estado b = new Estado("q", 0, 0);
+        grafo.states().add(a);
+        grafo.states().add(b);
+        grafo.states().remove(b);
+        assertEquals(1, grafo.getStateCount());
+        assertSame(a, grafo.states().get(0));
+    }
+}
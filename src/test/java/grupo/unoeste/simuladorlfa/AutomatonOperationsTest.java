@@ -0,0 +1,81 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Operações conferidas palavra a palavra contra os operandos, em todas as
+// palavras curtas sobre {a, b}
+class AutomatonOperationsTest {
+
+    private static final String[] EXPRESSOES = {
+            "(a|b)*abb",
+            "a*b*",
+            "(ab|ba)*",
+            "(a|b)*a(a|b)",
+            "b(a|b)*|&",
+            "aa*bb*",
+    };
+
+    private static CompiledAutomaton regex(String expressao) {
+        return RegexCompiler.compile(expressao).compile();
+    }
+
+    private static boolean aceita(CompiledAutomaton automato, String palavra) {
+        return AutomatonSimulator.accepts(automato, palavra);
+    }
+
+    private static List<String> palavras(int tamanhoMaximo) {
+        List<String> todas = new ArrayList<>();
+        todas.add("");
+        for (int i = 0; todas.get(i).length() < tamanhoMaximo; i++) {
+            todas.add(todas.get(i) + "a");
+            todas.add(todas.get(i) + "b");
+        }
+        return todas;
+    }
+
+    private static void conferir(CompiledAutomaton resultado, CompiledAutomaton a, CompiledAutomaton b,
+                                 BiPredicate<Boolean, Boolean> esperado, String descricao) {
+        for (String w : palavras(7)) {
+            assertEquals(esperado.test(aceita(a, w), aceita(b, w)), aceita(resultado, w),
+                    descricao + " em \"" + w + "\"");
+        }
+    }
+
+    @Test
+    void operacoesBinariasConferemComForcaBruta() {
+        for (String ea : EXPRESSOES) {
+            for (String eb : EXPRESSOES) {
+                CompiledAutomaton a = regex(ea);
+                CompiledAutomaton b = regex(eb);
+                String par = ea + ", " + eb;
+                conferir(AutomatonOperations.union(a, b), a, b, (x, y) -> x || y, "∪ " + par);
+                conferir(AutomatonOperations.intersection(a, b), a, b, (x, y) -> x && y, "∩ " + par);
+                conferir(AutomatonOperations.difference(a, b), a, b, (x, y) -> x && !y, "− " + par);
+                conferir(AutomatonOperations.symmetricDifference(a, b), a, b, (x, y) -> x != y, "△ " + par);
+            }
+        }
+    }
+
+    @Test
+    void resultadoEhDeterministico() {
+        CompiledAutomaton r = AutomatonOperations.union(regex("(a|b)*abb"), regex("a*b*"));
+        assertTrue(r.isDeterministic());
+    }
+
+    @Test
+    void complementoConfereComForcaBruta() {
+        for (String e : EXPRESSOES) {
+            CompiledAutomaton a = regex(e);
+            CompiledAutomaton c = AutomatonOperations.complement(a);
+            for (String w : palavras(7)) {
+                assertNotEquals(aceita(a, w), aceita(c, w), e + " em \"" + w + "\"");
+            }
+        }
+    }
+}
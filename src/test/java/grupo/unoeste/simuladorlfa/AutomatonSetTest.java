@@ -0,0 +1,64 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Uma leitura para todos conferida contra cada autômato simulado separadamente
+class AutomatonSetTest {
+
+    private static void conferir(Random sorteio, int capacidade, String descricao) {
+        List<CoreAutomaton> automatos = new ArrayList<>();
+        List<CompiledAutomaton> compilados = new ArrayList<>();
+        for (int k = 1 + sorteio.nextInt(6); k > 0; k--) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(8), 0.25);
+            automatos.add(automato);
+            compilados.add(automato.compile());
+        }
+        AutomatonSet conjunto = new AutomatonSet(compilados, capacidade);
+        assertEquals(automatos.size(), conjunto.size());
+
+        // Duas passadas: a segunda reaproveita (ou reconstrói) o cache da primeira
+        for (int passada = 0; passada < 2; passada++) {
+            for (String w : ForcaBruta.palavras("abcd", 4)) {
+                List<Integer> esperado = new ArrayList<>();
+                for (int i = 0; i < automatos.size(); i++) {
+                    if (ForcaBruta.aceita(automatos.get(i), w)) esperado.add(i);
+                }
+                int[] aceitos = conjunto.accepting(w);
+                assertEquals(esperado, Arrays.stream(aceitos).boxed().toList(), descricao + " em \"" + w + "\"");
+                assertEquals(!esperado.isEmpty(), conjunto.anyAccepts(w));
+                assertEquals(esperado.isEmpty() ? -1 : esperado.get(0), conjunto.firstAccepting(w));
+            }
+        }
+    }
+
+    @Test
+    void aceitosConferemComCadaAutomato() {
+        Random sorteio = new Random(121);
+        for (int i = 0; i < 150; i++) {
+            conferir(sorteio, LazyDFA.CAPACIDADE_PADRAO, "conjunto " + i);
+        }
+    }
+
+    @Test
+    void cachePequenoEsvaziaEVoltaParaOAFND() {
+        Random sorteio = new Random(122);
+        for (int i = 0; i < 150; i++) {
+            conferir(sorteio, 2, "conjunto " + i);
+        }
+        // Com muitos autômatos e capacidade 2, as limpezas em sequência são inevitáveis
+        List<CompiledAutomaton> compilados = new ArrayList<>();
+        for (int k = 0; k < 8; k++) {
+            compilados.add(ForcaBruta.automato(sorteio, 8, 0.3).compile());
+        }
+        AutomatonSet conjunto = new AutomatonSet(compilados, 2);
+        for (String w : ForcaBruta.palavras("abc", 5)) {
+            conjunto.accepting(w);
+        }
+        assertTrue(conjunto.getCacheFlushes() >= 3);
+        assertTrue(conjunto.isNFAFallback());
+    }
+}
@@ -0,0 +1,97 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Blocos pequenos e várias threads, para que os blocos terminem fora de ordem
+class BatchSimulatorTest {
+
+    private final ForkJoinPool executor = new ForkJoinPool(4);
+    private final List<String> palavras = ForcaBruta.palavras("abc", 6);
+
+    @AfterEach
+    void encerrar() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void ordenadoEntregaTudoEmOrdem() {
+        Random sorteio = new Random(31);
+        for (int i = 0; i < 20; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(8), 0.25);
+            BatchSimulator lote = new BatchSimulator(automato.compile(), executor, 1 + sorteio.nextInt(50));
+            List<BatchSimulator.BatchResult> resultados = new ArrayList<>();
+            BatchSimulator.BatchSummary resumo = lote.run(palavras, resultados::add, true);
+
+            assertEquals(palavras.size(), resultados.size());
+            long aceitas = 0;
+            for (int j = 0; j < palavras.size(); j++) {
+                BatchSimulator.BatchResult r = resultados.get(j);
+                assertEquals(j, r.getIndex());
+                assertEquals(palavras.get(j), r.getWord());
+                assertEquals(ForcaBruta.aceita(automato, r.getWord()), r.isAccepted(), "\"" + r.getWord() + "\"");
+                if (r.isAccepted()) aceitas++;
+            }
+            assertEquals(palavras.size(), resumo.getTotal());
+            assertEquals(aceitas, resumo.getAccepted());
+        }
+    }
+
+    @Test
+    void desordenadoEntregaCadaPalavraUmaVez() {
+        Random sorteio = new Random(32);
+        for (int i = 0; i < 20; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(8), 0.25);
+            BatchSimulator lote = new BatchSimulator(automato.compile(), executor, 1 + sorteio.nextInt(50));
+            BitSet vistos = new BitSet();
+            long[] aceitas = new long[1];
+            BatchSimulator.BatchSummary resumo = lote.run(palavras.stream(), r -> {
+                assertFalse(vistos.get((int) r.getIndex()));
+                vistos.set((int) r.getIndex());
+                assertEquals(palavras.get((int) r.getIndex()), r.getWord());
+                assertEquals(ForcaBruta.aceita(automato, r.getWord()), r.isAccepted(), "\"" + r.getWord() + "\"");
+                if (r.isAccepted()) aceitas[0]++;
+            }, false);
+
+            assertEquals(palavras.size(), vistos.cardinality());
+            assertEquals(palavras.size(), resumo.getTotal());
+            assertEquals(aceitas[0], resumo.getAccepted());
+        }
+    }
+
+    @Test
+    void erroNoCallbackInterrompeOLote() throws InterruptedException {
+        CoreAutomaton automato = ForcaBruta.automato(new Random(33), 4, 0.3);
+        BatchSimulator lote = new BatchSimulator(automato.compile(), executor, 10);
+        IllegalStateException erro = new IllegalStateException("falhou");
+        int[] chamadas = new int[1];
+        for (boolean ordenado : new boolean[]{true, false}) {
+            chamadas[0] = 0;
+            assertSame(erro, assertThrows(IllegalStateException.class, () -> lote.run(palavras, r -> {
+                if (++chamadas[0] == 25) throw erro;
+            }, ordenado)));
+            assertEquals(25, chamadas[0]);
+
+            ExecutionException assincrono = assertThrows(ExecutionException.class,
+                    () -> lote.runAsync(palavras, r -> { throw erro; }, ordenado).get());
+            assertSame(erro, assincrono.getCause());
+        }
+    }
+
+    @Test
+    void assincronoDevolveOResumo() throws Exception {
+        CoreAutomaton automato = ForcaBruta.automato(new Random(34), 5, 0.3);
+        long esperadas = palavras.stream().filter(w -> ForcaBruta.aceita(automato, w)).count();
+        BatchSimulator.BatchSummary resumo = new BatchSimulator(automato.compile(), executor, 64)
+                .runAsync(palavras, null, false).get();
+        assertEquals(palavras.size(), resumo.getTotal());
+        assertEquals(esperadas, resumo.getAccepted());
+        assertEquals(palavras.size() - esperadas, resumo.getRejected());
+    }
+}
@@ -0,0 +1,76 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitSetNFATest {
+
+    // A transição existe no autômato original (ε quando simbolo é "ε")?
+    private static boolean temTransicao(CoreAutomaton automato, String origem, String simbolo, String destino) {
+        for (int t = 0; t < automato.getTransitionCount(); t++) {
+            if (automato.getName(automato.getSource(t)).equals(origem)
+                    && automato.getName(automato.getTarget(t)).equals(destino)
+                    && automato.getSymbols(t).contains(simbolo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void aceitacaoConfereComASimulacaoDireta() {
+        Random sorteio = new Random(3);
+        for (int i = 0; i < 300; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(8), 0.25);
+            BitSetNFA nfa = new BitSetNFA(automato.compile());
+            for (String w : ForcaBruta.palavras("abc", 5)) {
+                assertEquals(ForcaBruta.aceita(automato, w), nfa.accepts(w), "autômato " + i + " em \"" + w + "\"");
+            }
+        }
+    }
+
+    @Test
+    void maisDe64EstadosUsamVariasPalavrasDeBits() {
+        Random sorteio = new Random(4);
+        for (int i = 0; i < 10; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 70 + sorteio.nextInt(80), 0.02);
+            BitSetNFA nfa = new BitSetNFA(automato.compile());
+            for (String w : ForcaBruta.palavras("abc", 4)) {
+                assertEquals(ForcaBruta.aceita(automato, w), nfa.accepts(w), "\"" + w + "\"");
+            }
+        }
+    }
+
+    @Test
+    void caminhoDeAceitacaoSegueAsTransicoes() {
+        Random sorteio = new Random(5);
+        for (int i = 0; i < 200; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(6), 0.3);
+            CompiledAutomaton compilado = automato.compile();
+            BitSetNFA nfa = new BitSetNFA(compilado);
+            for (String w : ForcaBruta.palavras("abc", 4)) {
+                BitSetNFA.Caminho caminho = nfa.acceptingPath(w);
+                assertEquals(ForcaBruta.aceita(automato, w), caminho != null, "\"" + w + "\"");
+                if (caminho == null) continue;
+
+                assertEquals(compilado.getInitialState(), caminho.getEstado(0));
+                assertTrue(compilado.isFinal(caminho.getEstado(caminho.length())));
+                int lidos = 0;
+                for (int passo = 0; passo < caminho.length(); passo++) {
+                    int posicao = caminho.getPosicao(passo);
+                    String simbolo = "ε";
+                    if (posicao >= 0) {
+                        assertEquals(lidos++, posicao);
+                        simbolo = String.valueOf(w.charAt(posicao));
+                    }
+                    assertTrue(temTransicao(automato, compilado.getStateName(caminho.getEstado(passo)), simbolo,
+                            compilado.getStateName(caminho.getEstado(passo + 1))));
+                }
+                assertEquals(w.length(), lidos);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Classes aleatórias conferidas contra um BitSet com os 65536 caracteres
+class CharClassTest {
+
+    // Extremos das faixas: caracteres com escape no rótulo, controles, ε e os limites
+    private static final char[] PONTOS = {0, 1, '\t', '\n', ' ', ',', '-', '0', '9', 'A', '\\', ']', '^',
+            'a', 'b', 'c', 'z', '~', 0x7F, 0xA0, 'ε', 0xFF00, 0xFFFE, 0xFFFF};
+
+    private static final int TOTAL = Character.MAX_VALUE + 1;
+
+    private static CharClass sortear(Random sorteio, BitSet conjunto) {
+        CharClass classe = CharClass.empty();
+        int faixas = sorteio.nextInt(4);
+        for (int i = 0; i < faixas; i++) {
+            char a = PONTOS[sorteio.nextInt(PONTOS.length)];
+            char b = PONTOS[sorteio.nextInt(PONTOS.length)];
+            char inicio = (char) Math.min(a, b);
+            char fim = (char) Math.max(a, b);
+            if (sorteio.nextBoolean()) fim = inicio;
+            classe = classe.union(CharClass.range(inicio, fim));
+            conjunto.set(inicio, fim + 1);
+        }
+        if (sorteio.nextInt(4) == 0) {
+            classe = classe.complement();
+            conjunto.flip(0, TOTAL);
+        }
+        return classe;
+    }
+
+    private static void conferir(BitSet conjunto, CharClass classe) {
+        assertEquals(conjunto.cardinality(), classe.size(), classe.label());
+        assertEquals(conjunto.isEmpty(), classe.isEmpty());
+        for (int c = 0; c < TOTAL; c++) {
+            if (conjunto.get(c) != classe.contains((char) c)) {
+                fail(classe.label() + " em " + c);
+            }
+        }
+        int i = 0;
+        for (int c = conjunto.nextSetBit(0); c >= 0; c = conjunto.nextSetBit(c + 1), i++) {
+            if (i < 50 || i % 997 == 0) assertEquals((char) c, classe.charAt(i));
+        }
+        if (!conjunto.isEmpty()) assertEquals((char) conjunto.nextSetBit(0), classe.first());
+    }
+
+    @Test
+    void operacoesConferemComOConjunto() {
+        Random sorteio = new Random(91);
+        for (int t = 0; t < 300; t++) {
+            BitSet a = new BitSet(TOTAL);
+            BitSet b = new BitSet(TOTAL);
+            CharClass x = sortear(sorteio, a);
+            CharClass y = sortear(sorteio, b);
+            conferir(a, x);
+
+            BitSet complemento = (BitSet) a.clone();
+            complemento.flip(0, TOTAL);
+            conferir(complemento, x.complement());
+
+            BitSet uniao = (BitSet) a.clone();
+            uniao.or(b);
+            conferir(uniao, x.union(y));
+            assertEquals(x.union(y), y.union(x));
+        }
+    }
+
+    @Test
+    void rotuloEhLidoDeVoltaSemPerda() {
+        Random sorteio = new Random(92);
+        for (int t = 0; t < 500; t++) {
+            CharClass classe = sortear(sorteio, new BitSet(TOTAL));
+            if (classe.isEmpty()) continue; // "[]" não é um rótulo válido
+            String rotulo = classe.label();
+            CharClass lida = rotulo.length() == 1 ? CharClass.of(rotulo.charAt(0)) : CharClass.parse(rotulo);
+            assertEquals(classe, lida, rotulo);
+            assertEquals(rotulo.trim(), rotulo); // a transição apara os espaços do rótulo
+        }
+    }
+
+    @Test
+    void particaoEhAMaisGrossaPossivel() {
+        Random sorteio = new Random(93);
+        for (int t = 0; t < 100; t++) {
+            List<CharClass> classes = new ArrayList<>();
+            List<BitSet> conjuntos = new ArrayList<>();
+            for (int i = 1 + sorteio.nextInt(4); i > 0; i--) {
+                BitSet conjunto = new BitSet(TOTAL);
+                classes.add(sortear(sorteio, conjunto));
+                conjuntos.add(conjunto);
+            }
+            List<CharClass> atomos = CharClass.partition(classes);
+
+            // Assinatura de cada caractere: em quais classes ele está
+            Map<BitSet, BitSet> porAssinatura = new HashMap<>();
+            for (int c = 0; c < TOTAL; c++) {
+                BitSet assinatura = new BitSet();
+                for (int i = 0; i < conjuntos.size(); i++) {
+                    if (conjuntos.get(i).get(c)) assinatura.set(i);
+                }
+                if (!assinatura.isEmpty()) {
+                    porAssinatura.computeIfAbsent(assinatura, k -> new BitSet(TOTAL)).set(c);
+                }
+            }
+            assertEquals(porAssinatura.size(), atomos.size());
+            Set<BitSet> esperados = new HashSet<>(porAssinatura.values());
+            for (int i = 0; i < atomos.size(); i++) {
+                CharClass atomo = atomos.get(i);
+                BitSet conjunto = new BitSet(TOTAL);
+                for (int k = 0; k < atomo.getRangeCount(); k++) {
+                    conjunto.set(atomo.getRangeStart(k), atomo.getRangeEnd(k) + 1);
+                }
+                assertTrue(esperados.contains(conjunto), atomo.label());
+                if (i > 0) assertTrue(atomos.get(i - 1).first() < atomo.first());
+            }
+        }
+    }
+}
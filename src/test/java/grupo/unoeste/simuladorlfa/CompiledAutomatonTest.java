@@ -0,0 +1,100 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Estado;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledAutomatonTest {
+
+    // A transição q --c--> r existe no autômato original?
+    private static boolean temTransicao(CoreAutomaton automato, String origem, String simbolo, String destino) {
+        for (int t = 0; t < automato.getTransitionCount(); t++) {
+            if (automato.getName(automato.getSource(t)).equals(origem)
+                    && automato.getName(automato.getTarget(t)).equals(destino)
+                    && automato.getSymbols(t).contains(simbolo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Mesmo AFD sem parte das transições
+    private static CoreAutomaton parcial(CoreAutomaton automato, Random sorteio) {
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        for (int q = 0; q < automato.getStateCount(); q++) {
+            construtor.addState(automato.getName(q), 0, 0, automato.isInitial(q), automato.isFinal(q));
+        }
+        for (int t = 0; t < automato.getTransitionCount(); t++) {
+            if (sorteio.nextInt(3) != 0) {
+                construtor.addTransition(automato.getSource(t), automato.getTarget(t), automato.getLabel(t));
+            }
+        }
+        return construtor.build();
+    }
+
+    @Test
+    void tabelaDoAFDConfereComASimulacaoDireta() {
+        Random sorteio = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            // AFDs completos e parciais (só rótulos de um caractere, sem repetir (estado, símbolo))
+            CoreAutomaton automato = ForcaBruta.afd(sorteio, 1 + sorteio.nextInt(6), "ab");
+            if (i % 2 == 1) {
+                automato = parcial(automato, sorteio);
+            }
+            CompiledAutomaton compilado = automato.compile();
+            assertTrue(compilado.isDeterministic());
+            for (String w : ForcaBruta.palavras("abc", 6)) {
+                boolean esperado = ForcaBruta.aceita(automato, w);
+                assertEquals(esperado, compilado.accepts(w), "\"" + w + "\"");
+                assertEquals(esperado, compilado.accepts(w.getBytes(StandardCharsets.ISO_8859_1)));
+                assertEquals(esperado, AutomatonSimulator.accepts(compilado, w.toCharArray()));
+            }
+        }
+    }
+
+    @Test
+    void caminhoDaSimulacaoSegueAsTransicoes() {
+        Random sorteio = new Random(2);
+        for (int i = 0; i < 50; i++) {
+            CoreAutomaton automato = ForcaBruta.afd(sorteio, 1 + sorteio.nextInt(5), "ab");
+            CompiledAutomaton compilado = automato.compile();
+            for (String w : ForcaBruta.palavras("ab", 5)) {
+                AutomatonSimulator.SimulationResult resultado = AutomatonSimulator.simulate(compilado, w);
+                assertEquals(ForcaBruta.aceita(automato, w), resultado.isAccepted());
+                List<String> caminho = resultado.getPathNames();
+                List<String> simbolos = resultado.getSymbolsUsed();
+                assertEquals(w.length() + 1, caminho.size());
+                assertEquals(automato.getName(0), caminho.get(0));
+                for (int j = 0; j < w.length(); j++) {
+                    assertEquals(String.valueOf(w.charAt(j)), simbolos.get(j));
+                    assertTrue(temTransicao(automato, caminho.get(j), simbolos.get(j), caminho.get(j + 1)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void resultadoMontadoComListaDeEstados() {
+        Estado p = new Estado("p", 0, 0);
+        Estado q = new Estado("q", 0, 0);
+        AutomatonSimulator.SimulationResult resultado =
+                new AutomatonSimulator.SimulationResult(true, List.of(p, q), List.of("a"), "a", "ok");
+        assertEquals(List.of(p, q), resultado.getPath());
+        assertSame(q, resultado.getPath().get(1));
+        assertEquals(List.of("p", "q"), resultado.getPathNames());
+    }
+
+    @Test
+    void semEstadoInicialNadaEhAceito() {
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        construtor.addState("p", 0, 0, false, true);
+        CompiledAutomaton compilado = construtor.build().compile();
+        assertFalse(compilado.accepts(""));
+        assertFalse(AutomatonSimulator.simulate(compilado, "").isAccepted());
+    }
+}
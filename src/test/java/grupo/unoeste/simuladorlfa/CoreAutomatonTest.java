@@ -0,0 +1,62 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoreAutomatonTest {
+
+    @Test
+    void simbolosSaoLidosUmaVezECompartilhados() {
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        int p = construtor.addState("p", 0, 0, true, false);
+        int q = construtor.addState("q", 0, 0, false, true);
+        construtor.addTransition(p, q, "a, [b,c] ,d");
+        construtor.addTransition(q, p, "a, [b,c] ,d");
+        construtor.addTransition(q, q, "");
+        CoreAutomaton automato = construtor.build();
+
+        assertEquals(List.of("a", "[b,c]", "d"), automato.getSymbols(0));
+        assertSame(automato.getSymbols(0), automato.getSymbols(0));
+        assertSame(automato.getSymbols(0), automato.getSymbols(1));
+        assertEquals(List.of("ε"), automato.getSymbols(2));
+        assertThrows(UnsupportedOperationException.class, () -> automato.getSymbols(0).add("x"));
+    }
+
+    @Test
+    void idaEVoltaPeloModeloDoEditor() {
+        Random sorteio = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            CoreAutomaton original = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(6), 0.3);
+            CoreAutomaton copia = AutomatonModel.fromCore(original).toCore();
+            assertEquals(original.getStateCount(), copia.getStateCount());
+            for (int q = 0; q < original.getStateCount(); q++) {
+                assertEquals(original.getName(q), copia.getName(q));
+                assertEquals(original.isInitial(q), copia.isInitial(q));
+                assertEquals(original.isFinal(q), copia.isFinal(q));
+            }
+            assertEquals(original.getTransitionCount(), copia.getTransitionCount());
+            for (int t = 0; t < original.getTransitionCount(); t++) {
+                assertEquals(original.getSource(t), copia.getSource(t));
+                assertEquals(original.getTarget(t), copia.getTarget(t));
+                assertEquals(original.getSymbols(t), copia.getSymbols(t));
+            }
+        }
+    }
+
+    @Test
+    void compiladoConfereComASimulacaoDireta() {
+        Random sorteio = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(6), 0.3);
+            CompiledAutomaton compilado = automato.compile();
+            for (String w : ForcaBruta.palavras("abc", 5)) {
+                assertEquals(ForcaBruta.aceita(automato, w), AutomatonSimulator.accepts(compilado, w),
+                        "autômato " + i + " em \"" + w + "\"");
+            }
+        }
+    }
+}
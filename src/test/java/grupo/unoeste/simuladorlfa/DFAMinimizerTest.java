@@ -0,0 +1,100 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Minimização conferida palavra a palavra e, em AFDs completos aleatórios, contra o número
+// de classes de Myhill–Nerode calculado por força bruta
+class DFAMinimizerTest {
+
+    private static final String[] EXPRESSOES = {
+            "(a|b)*abb",
+            "a*b*",
+            "(ab|ba)*",
+            "(a|b)*a(a|b)",
+            "b(a|b)*|&",
+            "aa*bb*",
+    };
+
+    private static CompiledAutomaton regex(String expressao) {
+        return RegexCompiler.compile(expressao).compile();
+    }
+
+    // Estados alcançáveis do AFD completo que ainda chegam a um final, agrupados pelas
+    // palavras curtas que aceitam a partir deles (n - 1 de tamanho bastam para separar n estados)
+    private static int classesDeMyhillNerode(CoreAutomaton afd, String alfabeto) {
+        int n = afd.getStateCount();
+        int[][] delta = new int[n][alfabeto.length()];
+        for (int t = 0; t < afd.getTransitionCount(); t++) {
+            delta[afd.getSource(t)][alfabeto.indexOf(afd.getLabel(t))] = afd.getTarget(t);
+        }
+        Set<Integer> alcancaveis = new HashSet<>(Set.of(0));
+        Deque<Integer> fila = new ArrayDeque<>(alcancaveis);
+        while (!fila.isEmpty()) {
+            for (int destino : delta[fila.poll()]) {
+                if (alcancaveis.add(destino)) fila.add(destino);
+            }
+        }
+        List<String> sufixos = ForcaBruta.palavras(alfabeto, n);
+        Set<List<Boolean>> classes = new HashSet<>();
+        for (int q : alcancaveis) {
+            List<Boolean> assinatura = new ArrayList<>();
+            for (String w : sufixos) {
+                int atual = q;
+                for (char c : w.toCharArray()) atual = delta[atual][alfabeto.indexOf(c)];
+                assinatura.add(afd.isFinal(atual));
+            }
+            if (assinatura.contains(true)) classes.add(assinatura);
+        }
+        return classes.size();
+    }
+
+    @Test
+    void minimizacaoPreservaALinguagem() {
+        for (String e : EXPRESSOES) {
+            CompiledAutomaton a = regex(e);
+            CompiledAutomaton minimo = DFAMinimizer.minimize(a);
+            assertTrue(minimo.isDeterministic(), e);
+            for (String w : ForcaBruta.palavras("ab", 7)) {
+                assertEquals(AutomatonSimulator.accepts(a, w), minimo.accepts(w), e + " em \"" + w + "\"");
+            }
+            // Minimizar de novo não muda nada
+            assertEquals(minimo.getStateCount(), DFAMinimizer.minimize(minimo).getStateCount(), e);
+        }
+    }
+
+    @Test
+    void minimizacaoChegaAoNumeroMinimoDeEstados() {
+        assertEquals(4, DFAMinimizer.minimize(regex("(a|b)*abb")).getStateCount());
+        assertEquals(2, DFAMinimizer.minimize(regex("a*b*")).getStateCount());
+        assertEquals(1, DFAMinimizer.minimize(regex("(a|b)*")).getStateCount());
+    }
+
+    @Test
+    void afndsAleatoriosMantemALinguagem() {
+        Random sorteio = new Random(21);
+        for (int i = 0; i < 300; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(7), 0.25);
+            CompiledAutomaton minimo = DFAMinimizer.minimize(automato.compile());
+            assertTrue(minimo.isDeterministic());
+            for (String w : ForcaBruta.palavras("abc", 5)) {
+                assertEquals(ForcaBruta.aceita(automato, w), minimo.accepts(w), "autômato " + i + " em \"" + w + "\"");
+            }
+        }
+    }
+
+    @Test
+    void afdsAleatoriosChegamAoNumeroDeClasses() {
+        Random sorteio = new Random(22);
+        for (int i = 0; i < 500; i++) {
+            CoreAutomaton afd = ForcaBruta.afd(sorteio, 1 + sorteio.nextInt(9), "ab");
+            CompiledAutomaton minimo = DFAMinimizer.minimize(afd.compile());
+            // Sem transições para o poço: a linguagem vazia fica com o estado inicial sozinho
+            int esperado = Math.max(1, classesDeMyhillNerode(afd, "ab"));
+            assertEquals(esperado, minimo.getStateCount(), "autômato " + i);
+        }
+    }
+}
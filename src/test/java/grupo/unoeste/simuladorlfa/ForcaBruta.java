@@ -0,0 +1,102 @@
+package grupo.unoeste.simuladorlfa;
+
+import java.util.*;
+
+// Referências ingênuas para os testes: todas as palavras até um tamanho, autômatos
+// aleatórios pequenos e simulação direta do AFND pelas transições do CoreAutomaton
+// (conjunto de estados, fecho ε por ponto fixo). Os rótulos são caracteres soltos,
+// listas "a,b" e ε, comparados como texto: nada passa pelo CharClass nem pelo compilador.
+final class ForcaBruta {
+
+    static final String[] ROTULOS = {"a", "b", "c", "a,b", "ε"};
+
+    private ForcaBruta() {
+    }
+
+    // Todas as palavras sobre o alfabeto até o tamanho dado, em ordem de tamanho
+    static List<String> palavras(String alfabeto, int tamanhoMaximo) {
+        List<String> todas = new ArrayList<>();
+        todas.add("");
+        for (int i = 0; todas.get(i).length() < tamanhoMaximo; i++) {
+            for (char c : alfabeto.toCharArray()) {
+                todas.add(todas.get(i) + c);
+            }
+        }
+        return todas;
+    }
+
+    // n estados, cada par ligado com a probabilidade dada por um rótulo sorteado entre os
+    // fornecidos; estado 0 inicial (às vezes também outro, que é ignorado), finais ao acaso
+    static CoreAutomaton automato(Random sorteio, int n, double densidade, String... rotulos) {
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        for (int q = 0; q < n; q++) {
+            boolean inicial = q == 0 || sorteio.nextInt(8) == 0;
+            construtor.addState("q" + q, 0, 0, inicial, sorteio.nextInt(3) == 0);
+        }
+        for (int p = 0; p < n; p++) {
+            for (int q = 0; q < n; q++) {
+                if (sorteio.nextDouble() < densidade) {
+                    construtor.addTransition(p, q, rotulos[sorteio.nextInt(rotulos.length)]);
+                }
+            }
+        }
+        return construtor.build();
+    }
+
+    static CoreAutomaton automato(Random sorteio, int n, double densidade) {
+        return automato(sorteio, n, densidade, ROTULOS);
+    }
+
+    // AFD completo sobre o alfabeto (uma transição por estado e caractere)
+    static CoreAutomaton afd(Random sorteio, int n, String alfabeto) {
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        for (int q = 0; q < n; q++) {
+            construtor.addState("q" + q, 0, 0, q == 0, sorteio.nextInt(3) == 0);
+        }
+        for (int q = 0; q < n; q++) {
+            for (char c : alfabeto.toCharArray()) {
+                construtor.addTransition(q, sorteio.nextInt(n), String.valueOf(c));
+            }
+        }
+        return construtor.build();
+    }
+
+    static boolean aceita(CoreAutomaton automato, String palavra) {
+        // Como no simulador, só o primeiro estado inicial conta
+        Set<Integer> atuais = new HashSet<>();
+        for (int q = 0; q < automato.getStateCount(); q++) {
+            if (automato.isInitial(q)) {
+                atuais.add(q);
+                break;
+            }
+        }
+        fechar(automato, atuais);
+        for (char c : palavra.toCharArray()) {
+            Set<Integer> proximos = new HashSet<>();
+            for (int t = 0; t < automato.getTransitionCount(); t++) {
+                if (atuais.contains(automato.getSource(t))
+                        && automato.getSymbols(t).contains(String.valueOf(c))) {
+                    proximos.add(automato.getTarget(t));
+                }
+            }
+            fechar(automato, proximos);
+            atuais = proximos;
+        }
+        for (int q : atuais) {
+            if (automato.isFinal(q)) return true;
+        }
+        return false;
+    }
+
+    static void fechar(CoreAutomaton automato, Set<Integer> estados) {
+        boolean mudou = true;
+        while (mudou) {
+            mudou = false;
+            for (int t = 0; t < automato.getTransitionCount(); t++) {
+                if (estados.contains(automato.getSource(t)) && automato.getSymbols(t).contains("ε")) {
+                    mudou |= estados.add(automato.getTarget(t));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package grupo.unoeste.simuladorlfa;
+
+import grupo.unoeste.simuladorlfa.entities.Variavel;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrammarCompilerTest {
+
+    private static List<String> palavras(String alfabeto, int tamanhoMaximo) {
+        List<String> todas = new ArrayList<>();
+        todas.add("");
+        for (int i = 0; todas.get(i).length() < tamanhoMaximo; i++) {
+            for (char c : alfabeto.toCharArray()) {
+                todas.add(todas.get(i) + c);
+            }
+        }
+        return todas;
+    }
+
+    // Derivação direta pelas produções: A gera w[i..] ? (caminho guarda os pares já
+    // abertos, para produções A -> B em ciclo não entrarem em laço)
+    private static boolean gera(Variavel variavel, String w, int i, Set<String> caminho) {
+        if (!caminho.add(variavel.getNome() + "@" + i)) {
+            return false;
+        }
+        try {
+            for (Map.Entry<String, List<Variavel>> producao : variavel.getTransicoes().entrySet()) {
+                String leitura = producao.getKey();
+                if (!w.startsWith(leitura, i)) continue;
+                int j = i + leitura.length();
+                for (Variavel destino : producao.getValue()) {
+                    if (destino == null ? j == w.length() : gera(destino, w, j, caminho)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            caminho.remove(variavel.getNome() + "@" + i);
+        }
+    }
+
+    private static void conferir(List<Variavel> gramatica, String alfabeto, int tamanhoMaximo) {
+        CompiledAutomaton automato = GrammarCompiler.compile(gramatica).compile();
+        for (String w : palavras(alfabeto, tamanhoMaximo)) {
+            assertEquals(gera(gramatica.get(0), w, 0, new HashSet<>()), AutomatonSimulator.accepts(automato, w),
+                    "\"" + w + "\"");
+        }
+    }
+
+    @Test
+    void automatoConfereComADerivacao() {
+        // S -> aS | bA | abS | ε;  A -> aA | bS | b | B;  B -> aB | A
+        Variavel s = new Variavel("S");
+        Variavel a = new Variavel("A");
+        Variavel b = new Variavel("B");
+        s.adicionarTransicao("a", s);
+        s.adicionarTransicao("b", a);
+        s.adicionarTransicao("ab", s);
+        s.adicionarTransicao("", null);
+        a.adicionarTransicao("a", a);
+        a.adicionarTransicao("b", s);
+        a.adicionarTransicao("b", null);
+        a.adicionarTransicao("", b);
+        b.adicionarTransicao("aa", b);
+        b.adicionarTransicao("", a);
+        conferir(List.of(s, a, b), "ab", 8);
+    }
+
+    @Test
+    void producaoRepetidaNaoDuplicaTransicao() {
+        Variavel s = new Variavel("S");
+        s.adicionarTransicao("a", s);
+        s.adicionarTransicao("a", null);
+        Variavel repetida = new Variavel("S");
+        repetida.adicionarTransicao("b", null); // só a primeira declaração de S conta
+        List<Variavel> gramatica = List.of(s, repetida);
+        CoreAutomaton automato = GrammarCompiler.compile(gramatica);
+        assertEquals(2, automato.getTransitionCount());
+        assertTrue(AutomatonSimulator.accepts(automato.compile(), "aaa"));
+        assertFalse(AutomatonSimulator.accepts(automato.compile(), "b"));
+    }
+
+    @Test
+    void terminaisComSintaxeDeRotuloSaoLidosComoCaracteres() {
+        Variavel s = new Variavel("S");
+        s.adicionarTransicao("[", s);
+        s.adicionarTransicao(",", s);
+        s.adicionarTransicao("ε]", null);
+        conferir(List.of(s), "[,]εa-", 5);
+    }
+}
@@ -0,0 +1,113 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanguageComparatorTest {
+
+    private static CompiledAutomaton regex(String expressao) {
+        return RegexCompiler.compile(expressao).compile();
+    }
+
+    // Todas as palavras sobre {a, b} até o tamanho dado, em ordem de tamanho
+    private static List<String> palavras(int tamanhoMaximo) {
+        List<String> todas = new ArrayList<>();
+        todas.add("");
+        for (int i = 0; todas.get(i).length() < tamanhoMaximo; i++) {
+            todas.add(todas.get(i) + "a");
+            todas.add(todas.get(i) + "b");
+        }
+        return todas;
+    }
+
+    @Test
+    void equivalentesPorExpressoesDiferentes() {
+        LanguageComparator.ComparisonResult r = LanguageComparator.equivalent(regex("(a|b)*"), regex("(a*b*)*"));
+        assertTrue(r.holds());
+        assertNull(r.getCounterexample());
+    }
+
+    @Test
+    void equivalenciaEntreAFNDeAFD() {
+        CompiledAutomaton afnd = regex("(a|b)*abb");
+        assertFalse(afnd.isDeterministic());
+        assertTrue(LanguageComparator.equivalent(afnd, DFAMinimizer.minimize(afnd)).holds());
+    }
+
+    @Test
+    void contraexemploDeEquivalenciaEhOMaisCurto() {
+        CompiledAutomaton a = regex("(a|b)*abb");
+        CompiledAutomaton b = regex("(a|b)*bb");
+        LanguageComparator.ComparisonResult r = LanguageComparator.equivalent(a, b);
+        assertFalse(r.holds());
+        String w = r.getCounterexample();
+        assertEquals("bb", w);
+        assertFalse(r.isAcceptedByFirst());
+        assertNotEquals(AutomatonSimulator.accepts(a, w), AutomatonSimulator.accepts(b, w));
+
+        // Nenhuma palavra mais curta distingue os dois
+        for (String curta : palavras(w.length() - 1)) {
+            assertEquals(AutomatonSimulator.accepts(a, curta), AutomatonSimulator.accepts(b, curta), curta);
+        }
+    }
+
+    @Test
+    void contraexemploVazioQuandoSoUmAceitaEpsilon() {
+        LanguageComparator.ComparisonResult r = LanguageComparator.equivalent(regex("a*"), regex("a+"));
+        assertFalse(r.holds());
+        assertEquals("", r.getCounterexample());
+        assertTrue(r.isAcceptedByFirst());
+    }
+
+    @Test
+    void inclusaoValeSoNumSentido() {
+        CompiledAutomaton menor = regex("a(a|b)*b");
+        CompiledAutomaton maior = regex("(a|b)*b");
+        assertTrue(LanguageComparator.isSubset(menor, maior).holds());
+
+        LanguageComparator.ComparisonResult r = LanguageComparator.isSubset(maior, menor);
+        assertFalse(r.holds());
+        assertEquals("b", r.getCounterexample());
+        assertTrue(r.isAcceptedByFirst());
+    }
+
+    @Test
+    void contraexemploDeInclusaoConfereComForcaBruta() {
+        String[][] pares = {
+                {"(a|b)*a(a|b)", "(a|b)*aa"},
+                {"(ab|b)*", "(a|b)*b|&"},
+                {"a*b*a*", "a*b*"},
+        };
+        for (String[] par : pares) {
+            CompiledAutomaton a = regex(par[0]);
+            CompiledAutomaton b = regex(par[1]);
+            String esperado = null;
+            for (String w : palavras(6)) {
+                if (AutomatonSimulator.accepts(a, w) && !AutomatonSimulator.accepts(b, w)) {
+                    esperado = w;
+                    break;
+                }
+            }
+            LanguageComparator.ComparisonResult r = LanguageComparator.isSubset(a, b);
+            assertEquals(esperado == null, r.holds(), par[0] + " ⊆ " + par[1]);
+            if (esperado != null) {
+                String w = r.getCounterexample();
+                assertEquals(esperado.length(), w.length(), par[0] + " ⊆ " + par[1]);
+                assertTrue(AutomatonSimulator.accepts(a, w));
+                assertFalse(AutomatonSimulator.accepts(b, w));
+            }
+        }
+    }
+
+    @Test
+    void alfabetosDiferentes() {
+        LanguageComparator.ComparisonResult r = LanguageComparator.equivalent(regex("a*"), regex("a*|c"));
+        assertFalse(r.holds());
+        assertEquals("c", r.getCounterexample());
+        assertFalse(r.isAcceptedByFirst());
+    }
+}
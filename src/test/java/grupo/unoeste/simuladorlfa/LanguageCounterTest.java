@@ -0,0 +1,80 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LanguageCounterTest {
+
+    @Test
+    void contagensConferemComAsPalavrasAceitas() {
+        Random sorteio = new Random(61);
+        for (int i = 0; i < 300; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(8), 0.25);
+            long[] porTamanho = new long[6];
+            for (String w : ForcaBruta.palavras("abc", 5)) {
+                if (ForcaBruta.aceita(automato, w)) porTamanho[w.length()]++;
+            }
+            LanguageCounter contador = new LanguageCounter(automato.compile());
+            long total = 0;
+            for (int l = 0; l <= 5; l++) {
+                total += porTamanho[l];
+                assertEquals(BigInteger.valueOf(porTamanho[l]), contador.count(l), "autômato " + i + ", tamanho " + l);
+                assertEquals(porTamanho[l] % 7, contador.countMod(l, 7), "autômato " + i + ", tamanho " + l);
+                assertEquals(porTamanho[l], contador.countMod(l, LanguageCounter.MAIOR_MODULO));
+            }
+            assertEquals(BigInteger.valueOf(total), contador.countUpTo(5));
+        }
+    }
+
+    // Pelo bombeamento, com m estados no AFD completo a linguagem é infinita se e só se
+    // aceita alguma palavra de tamanho entre m e 2m - 1, e finita só tem palavras até m - 1
+    @Test
+    void finitudeEMaiorPalavraConferemComOBombeamento() {
+        Random sorteio = new Random(62);
+        int testados = 0;
+        while (testados < 150) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(5), 0.2);
+            int m = DFAMinimizer.minimize(automato.compile()).getStateCount() + 1; // + o poço
+            if (m > 5) continue;
+            testados++;
+
+            boolean infinita = false;
+            int maior = -1;
+            long total = 0;
+            for (String w : ForcaBruta.palavras("abc", 2 * m - 1)) {
+                if (!ForcaBruta.aceita(automato, w)) continue;
+                if (w.length() >= m) infinita = true;
+                maior = Math.max(maior, w.length());
+                total++;
+            }
+            LanguageCounter contador = new LanguageCounter(automato.compile());
+            assertEquals(infinita, contador.isInfinite());
+            assertEquals(maior < 0, contador.isEmpty());
+            if (!infinita) {
+                assertEquals(maior, contador.getLongestWordLength());
+                assertEquals(BigInteger.valueOf(total), contador.size());
+                assertEquals(BigInteger.ZERO, contador.count(maior + 1));
+            } else {
+                assertThrows(IllegalStateException.class, contador::size);
+            }
+        }
+    }
+
+    @Test
+    void classesContamCadaCaractere() {
+        LanguageCounter contador = new LanguageCounter(RegexCompiler.compile("[a-z]([0-9]|\\_)*").compile());
+        assertTrue(contador.isInfinite());
+        assertEquals(BigInteger.valueOf(26), contador.count(1));
+        assertEquals(BigInteger.valueOf(26L * 11 * 11), contador.count(3));
+        // 26·11^99 mod p pela exponenciação da matriz, contra BigInteger
+        long p = 1_000_000_007L;
+        long esperado = BigInteger.valueOf(26).multiply(BigInteger.valueOf(11).pow(99))
+                .mod(BigInteger.valueOf(p)).longValueExact();
+        assertEquals(esperado, contador.countMod(100, p));
+        assertEquals(contador.count(100).mod(BigInteger.valueOf(p)).longValueExact(), esperado);
+    }
+}
@@ -0,0 +1,96 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyDFATest {
+
+    // (a|b)* a (a|b)^k: o AFD tem 2^(k+1) estados, bom para encher o cache
+    private static CoreAutomaton explosivo(int k) {
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        for (int q = 0; q <= k + 1; q++) {
+            construtor.addState("q" + q, 0, 0, q == 0, q == k + 1);
+        }
+        construtor.addTransition(0, 0, "a,b");
+        construtor.addTransition(0, 1, "a");
+        for (int q = 1; q <= k; q++) {
+            construtor.addTransition(q, q + 1, "a,b");
+        }
+        return construtor.build();
+    }
+
+    @Test
+    void aceitacaoConfereComASimulacaoDireta() {
+        Random sorteio = new Random(11);
+        List<String> palavras = ForcaBruta.palavras("abc", 5);
+        for (int i = 0; i < 300; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(8), 0.25);
+            LazyDFA afd = new LazyDFA(automato.compile());
+            for (String w : palavras) {
+                assertEquals(ForcaBruta.aceita(automato, w), afd.accepts(w), "autômato " + i + " em \"" + w + "\"");
+            }
+        }
+    }
+
+    @Test
+    void cacheCheioEsvaziaEContinuaCorreto() {
+        Random sorteio = new Random(12);
+        CoreAutomaton automato = explosivo(5);
+        LazyDFA afd = new LazyDFA(automato.compile(), 16);
+        // Um prefixo variado e depois uma sequência longa que fica num estado só: muitos
+        // caracteres por estado criado, então as limpezas não contam como "ruins"
+        for (int i = 0; i < 200; i++) {
+            StringBuilder w = new StringBuilder();
+            for (int j = 0; j < 8; j++) {
+                w.append(sorteio.nextBoolean() ? 'a' : 'b');
+            }
+            w.append("b".repeat(300 + sorteio.nextInt(100)));
+            w.setLength(w.length() - sorteio.nextInt(8));
+            assertEquals(ForcaBruta.aceita(automato, w.toString()), afd.accepts(w), "\"" + w + "\"");
+        }
+        assertTrue(afd.getCacheFlushes() > 0);
+        assertTrue(afd.getCachedStates() <= 16);
+        assertFalse(afd.isNFAFallback());
+    }
+
+    @Test
+    void limpezasSeguidasVoltamParaOAFND() {
+        CoreAutomaton automato = explosivo(6);
+        LazyDFA afd = new LazyDFA(automato.compile(), 2);
+        boolean trocouNoMeio = false;
+        for (String w : ForcaBruta.palavras("ab", 9)) {
+            boolean antes = afd.isNFAFallback();
+            assertEquals(ForcaBruta.aceita(automato, w), afd.accepts(w), "\"" + w + "\"");
+            trocouNoMeio |= !antes && afd.isNFAFallback();
+        }
+        assertTrue(trocouNoMeio);
+        assertTrue(afd.getCacheFlushes() >= 3);
+        assertTrue(afd.isNFAFallback());
+    }
+
+    @Test
+    void determinizacaoCompletaPreservaALinguagem() {
+        Random sorteio = new Random(13);
+        for (int i = 0; i < 200; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(7), 0.25);
+            CompiledAutomaton afd = LazyDFA.determinize(automato.compile());
+            assertTrue(afd.isDeterministic());
+            for (String w : ForcaBruta.palavras("abc", 5)) {
+                assertEquals(ForcaBruta.aceita(automato, w), afd.accepts(w), "autômato " + i + " em \"" + w + "\"");
+            }
+        }
+    }
+
+    @Test
+    void determinizacaoDesisteAcimaDoLimite() {
+        CompiledAutomaton compilado = explosivo(6).compile();
+        assertNull(LazyDFA.determinize(compilado, 10));
+        CompiledAutomaton afd = LazyDFA.determinize(compilado, 1000);
+        assertNotNull(afd);
+        assertEquals(128, afd.getStateCount());
+    }
+}
@@ -0,0 +1,126 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LexerTest {
+
+    // Palavra-chave antes do identificador: empate vai para a primeira definição
+    private static Lexer linguagem() {
+        return Lexer.builder()
+                .addToken("SE", "if")
+                .addToken("ID", "[a-z][a-z0-9]*")
+                .addToken("NUM", "[0-9]+")
+                .addToken("MENOR", "\\<")
+                .addToken("MENOR_IGUAL", "\\<\\=")
+                .addSkipped("ESPACO", "(\\u0020|\\t|\\n)+")
+                .build();
+    }
+
+    // "TIPO:lexema" de cada token
+    private static List<String> tokens(Lexer lexer, String texto) {
+        Lexer.Tokens tokens = lexer.tokenize(texto);
+        List<String> lista = new ArrayList<>();
+        for (int i = 0; i < tokens.getCount(); i++) {
+            int inicio = tokens.getOffset(i);
+            lista.add(lexer.getTokenName(tokens.getType(i)) + ":"
+                    + texto.substring(inicio, inicio + tokens.getLength(i)));
+        }
+        return lista;
+    }
+
+    @Test
+    void palavraChaveTemPrioridadeNoEmpate() {
+        assertEquals(List.of("SE:if", "ID:x"), tokens(linguagem(), "if x"));
+    }
+
+    @Test
+    void casamentoMaisLongoVenceAPrioridade() {
+        // "iffy" é um identificador inteiro, não SE seguido de "fy"
+        assertEquals(List.of("ID:iffy", "ID:if1"), tokens(linguagem(), "iffy if1"));
+        assertEquals(List.of("ID:a", "MENOR_IGUAL:<=", "NUM:10", "MENOR:<", "ID:b"),
+                tokens(linguagem(), "a <= 10<b"));
+    }
+
+    @Test
+    void ordemDasDefinicoesDecideOEmpate() {
+        Lexer invertido = Lexer.builder()
+                .addToken("ID", "[a-z][a-z0-9]*")
+                .addToken("SE", "if")
+                .build();
+        assertEquals(List.of("ID:if"), tokens(invertido, "if"));
+    }
+
+    @Test
+    void caractereDesconhecidoViraErroELeituraContinua() {
+        assertEquals(List.of("ID:x", "ERRO:#", "NUM:12", "ERRO:#"), tokens(linguagem(), "x#12 #"));
+    }
+
+    @Test
+    void bytesDaoAsMesmasPosicoes() {
+        Lexer lexer = linguagem();
+        String texto = "if\tabc <= 42\n";
+        Lexer.Tokens deTexto = lexer.tokenize(texto);
+        Lexer.Tokens deBytes = new Lexer.Tokens();
+        lexer.tokenize(texto.getBytes(StandardCharsets.ISO_8859_1), deBytes);
+        assertEquals(deTexto.getCount(), deBytes.getCount());
+        for (int i = 0; i < deTexto.getCount(); i++) {
+            assertEquals(deTexto.getType(i), deBytes.getType(i));
+            assertEquals(deTexto.getOffset(i), deBytes.getOffset(i));
+            assertEquals(deTexto.getLength(i), deBytes.getLength(i));
+        }
+    }
+
+    // Casamento mais longo por força bruta: de cada posição, o maior trecho que alguma
+    // definição aceita, com o tipo da primeira delas; nenhum trecho vira ERRO de tamanho 1
+    @Test
+    void automatosAleatoriosConferemComOCasamentoMaisLongo() {
+        Random sorteio = new Random(131);
+        for (int t = 0; t < 200; t++) {
+            List<CoreAutomaton> definicoes = new ArrayList<>();
+            boolean[] ignorado = new boolean[1 + sorteio.nextInt(5)];
+            Lexer.Builder construtor = Lexer.builder();
+            for (int d = 0; d < ignorado.length; d++) {
+                CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(6), 0.3);
+                definicoes.add(automato);
+                ignorado[d] = sorteio.nextInt(4) == 0;
+                if (ignorado[d]) construtor.addSkipped("T" + d, automato.compile());
+                else construtor.addToken("T" + d, automato.compile());
+            }
+            Lexer lexer = construtor.build();
+
+            StringBuilder gerado = new StringBuilder();
+            for (int i = sorteio.nextInt(25); i > 0; i--) {
+                gerado.append("abcd".charAt(sorteio.nextInt(4)));
+            }
+            String texto = gerado.toString();
+
+            List<String> esperado = new ArrayList<>();
+            int i = 0;
+            while (i < texto.length()) {
+                int fim = i + 1;
+                int tipo = Lexer.ERRO;
+                for (int j = i + 1; j <= texto.length(); j++) {
+                    for (int d = 0; d < definicoes.size(); d++) {
+                        if (ForcaBruta.aceita(definicoes.get(d), texto.substring(i, j))) {
+                            fim = j;
+                            tipo = d;
+                            break;
+                        }
+                    }
+                }
+                if (tipo == Lexer.ERRO || !ignorado[tipo]) {
+                    esperado.add(lexer.getTokenName(tipo) + ":" + texto.substring(i, fim));
+                }
+                i = fim;
+            }
+            assertEquals(esperado, tokens(lexer, texto), "definições " + t + " em \"" + texto + "\"");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedDFATest {
+
+    @TempDir
+    Path pasta;
+
+    private static List<String> palavras(String alfabeto, int tamanhoMaximo) {
+        List<String> todas = new ArrayList<>();
+        todas.add("");
+        for (int i = 0; todas.get(i).length() < tamanhoMaximo; i++) {
+            for (char c : alfabeto.toCharArray()) {
+                todas.add(todas.get(i) + c);
+            }
+        }
+        return todas;
+    }
+
+    private Path gravar(String expressao) throws IOException {
+        Path arquivo = pasta.resolve("automato" + MappedDFA.EXTENSAO);
+        MappedDFA.write(RegexCompiler.compile(expressao).compile(), arquivo);
+        return arquivo;
+    }
+
+    // Reescreve inteiros da imagem: a posição é contada em inteiros de 32 bits
+    private static void corromper(Path arquivo, int posicao, int valor) throws IOException {
+        byte[] bytes = Files.readAllBytes(arquivo);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(4 * posicao, valor);
+        Files.write(arquivo, bytes);
+    }
+
+    private static int inicioDaTabela(Path arquivo) throws IOException {
+        ByteBuffer imagem = ByteBuffer.wrap(Files.readAllBytes(arquivo)).order(ByteOrder.LITTLE_ENDIAN);
+        int n = imagem.getInt(8);
+        int m = imagem.getInt(20);
+        return 6 + 3 * m + (n + 31) / 32;
+    }
+
+    @Test
+    void imagemAceitaAsMesmasPalavrasQueOAutomato() throws IOException {
+        for (String expressao : List.of("(a|b)*abb", "(ab|ba)*", "[0-9]+|a(a|0)*", "&")) {
+            CompiledAutomaton automato = RegexCompiler.compile(expressao).compile();
+            MappedDFA imagem = MappedDFA.open(gravar(expressao));
+            for (String w : palavras("ab0x", 5)) {
+                assertEquals(AutomatonSimulator.accepts(automato, w), imagem.accepts(w), expressao + " em \"" + w + "\"");
+            }
+        }
+    }
+
+    @Test
+    void cabecalhoCorrompidoEhRecusadoAoAbrir() throws IOException {
+        Path arquivo = gravar("ab*");
+        corromper(arquivo, 4, 1000); // estado inicial
+        assertThrows(IOException.class, () -> MappedDFA.open(arquivo));
+
+        Path outro = gravar("ab*");
+        corromper(outro, 3, 1 << 20); // k: o tamanho não bate mais
+        assertThrows(IOException.class, () -> MappedDFA.open(outro));
+    }
+
+    @Test
+    void destinoCorrompidoEhDetectadoAoSerLido() throws IOException {
+        Path arquivo = gravar("ab*");
+        int inicio = inicioDaTabela(arquivo);
+        int celulas = (int) (Files.size(arquivo) / 4) - inicio;
+        for (int i = 0; i < celulas; i++) {
+            corromper(arquivo, inicio + i, 1000);
+        }
+        // A tabela não é percorrida ao abrir
+        MappedDFA imagem = MappedDFA.open(arquivo);
+        assertFalse(imagem.accepts("x"));
+        assertThrows(UncheckedIOException.class, () -> imagem.accepts("a"));
+        assertThrows(UncheckedIOException.class, () -> imagem.step(imagem.getInitialState(), 0));
+    }
+}
@@ -0,0 +1,93 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// O sorteio é conferido contra a lista completa de palavras de tamanho n: só sai palavra
+// da lista, todas saem e nenhuma com frequência longe da média
+class RandomWordSamplerTest {
+
+    // Caracteres que o autômato lê (Σ do complemento)
+    private static String alfabeto(CoreAutomaton automato) {
+        StringBuilder alfabeto = new StringBuilder();
+        for (char c : "abc".toCharArray()) {
+            for (int t = 0; t < automato.getTransitionCount(); t++) {
+                if (automato.getSymbols(t).contains(String.valueOf(c))) {
+                    alfabeto.append(c);
+                    break;
+                }
+            }
+        }
+        return alfabeto.toString();
+    }
+
+    private static void conferir(RandomWordSampler sorteador, Set<String> esperadas, long semente) {
+        assertEquals(BigInteger.valueOf(esperadas.size()), sorteador.getWordCount());
+        assertEquals(esperadas.isEmpty(), sorteador.isEmpty());
+        if (esperadas.isEmpty()) {
+            assertThrows(NoSuchElementException.class, () -> sorteador.sample(new SplittableRandom(semente)));
+            return;
+        }
+        int media = 200;
+        Map<String, Integer> vezes = new HashMap<>();
+        sorteador.stream(semente).limit((long) media * esperadas.size())
+                .forEach(w -> vezes.merge(w, 1, Integer::sum));
+        assertEquals(esperadas, vezes.keySet());
+        for (Map.Entry<String, Integer> e : vezes.entrySet()) {
+            assertTrue(Math.abs(e.getValue() - media) < 80, e.getKey() + ": " + e.getValue());
+        }
+    }
+
+    @Test
+    void aceitasERejeitadasSaoUniformes() {
+        Random sorteio = new Random(71);
+        for (int i = 0; i < 60; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(6), 0.3);
+            CompiledAutomaton compilado = automato.compile();
+            int n = sorteio.nextInt(4);
+            String sigma = alfabeto(automato);
+            if (sigma.isEmpty()) continue;
+            List<String> todas = ForcaBruta.palavras(sigma, n).stream()
+                    .filter(w -> w.length() == n)
+                    .collect(Collectors.toList());
+
+            Set<String> aceitas = new HashSet<>();
+            Set<String> rejeitadas = new HashSet<>();
+            for (String w : todas) {
+                (ForcaBruta.aceita(automato, w) ? aceitas : rejeitadas).add(w);
+            }
+            conferir(RandomWordSampler.accepted(compilado, n), aceitas, i);
+            conferir(RandomWordSampler.rejected(compilado, n), rejeitadas, i);
+        }
+    }
+
+    @Test
+    void classesSorteiamDentroDaFaixa() {
+        CompiledAutomaton automato = RegexCompiler.compile("[a-z][0-9]").compile();
+        RandomWordSampler sorteador = RandomWordSampler.accepted(automato, 2);
+        conferir(sorteador, ForcaBruta.palavras("abcdefghijklmnopqrstuvwxyz0123456789", 2).stream()
+                .filter(w -> w.matches("[a-z][0-9]")).collect(Collectors.toSet()), 72);
+    }
+
+    @Test
+    void contagensAcimaDeLongUsamBigInteger() {
+        CompiledAutomaton automato = RegexCompiler.compile("[a-z]*").compile();
+        RandomWordSampler sorteador = RandomWordSampler.accepted(automato, 20);
+        assertEquals(BigInteger.valueOf(26).pow(20), sorteador.getWordCount());
+        sorteador.stream(73).limit(1000).forEach(w -> assertTrue(w.matches("[a-z]{20}"), w));
+
+        int[] vezes = new int[26];
+        sorteador.sample(2600, new SplittableRandom(74), (palavra, tamanho) -> {
+            assertEquals(20, tamanho);
+            vezes[palavra[0] - 'a']++;
+        });
+        for (int v : vezes) {
+            assertTrue(Math.abs(v - 100) < 50, Arrays.toString(vezes));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Expressões aleatórias escritas nas duas sintaxes e conferidas contra java.util.regex
+class RegexCompilerTest {
+
+    private static final String[] FOLHAS = {"a", "b", "c", "&", "[a-b]", "[^a]"};
+
+    // [0]: sintaxe do simulador, [1]: sintaxe de java.util.regex
+    private static String[] sortear(Random sorteio, int profundidade) {
+        int opcao = profundidade == 0 ? 0 : sorteio.nextInt(5);
+        switch (opcao) {
+            case 0: {
+                String folha = FOLHAS[sorteio.nextInt(FOLHAS.length)];
+                // [^a] em Java aceitaria qualquer caractere; as palavras só usam a, b e c
+                return new String[]{folha, folha.equals("&") ? "(?:)" : folha.equals("[^a]") ? "[bc]" : folha};
+            }
+            case 1: {
+                String[] a = sortear(sorteio, profundidade - 1);
+                String[] b = sortear(sorteio, profundidade - 1);
+                return new String[]{"(" + a[0] + b[0] + ")", "(?:" + a[1] + b[1] + ")"};
+            }
+            case 2: {
+                String[] a = sortear(sorteio, profundidade - 1);
+                String[] b = sortear(sorteio, profundidade - 1);
+                return new String[]{"(" + a[0] + "|" + b[0] + ")", "(?:" + a[1] + "|" + b[1] + ")"};
+            }
+            case 3: {
+                String[] a = sortear(sorteio, profundidade - 1);
+                return new String[]{"(" + a[0] + ")*", "(?:" + a[1] + ")*"};
+            }
+            default: {
+                String[] a = sortear(sorteio, profundidade - 1);
+                return new String[]{"(" + a[0] + ")+", "(?:" + a[1] + ")+"};
+            }
+        }
+    }
+
+    @Test
+    void expressoesAleatoriasConferemComJavaUtilRegex() {
+        Random sorteio = new Random(41);
+        for (int i = 0; i < 500; i++) {
+            String[] expressao = sortear(sorteio, 1 + sorteio.nextInt(4));
+            CoreAutomaton automato = RegexCompiler.compile(expressao[0]);
+            CompiledAutomaton compilado = automato.compile();
+            Pattern padrao = Pattern.compile(expressao[1]);
+            for (String w : ForcaBruta.palavras("abc", 5)) {
+                assertEquals(padrao.matcher(w).matches(), AutomatonSimulator.accepts(compilado, w),
+                        expressao[0] + " em \"" + w + "\"");
+            }
+        }
+    }
+
+    @Test
+    void tamanhoDoAutomatoEhLinearNaExpressao() {
+        Random sorteio = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            String expressao = sortear(sorteio, 1 + sorteio.nextInt(6))[0];
+            assertTrue(RegexCompiler.compile(expressao).getStateCount() <= 2 * expressao.length(), expressao);
+        }
+    }
+
+    @Test
+    void escapesLiterais() {
+        CompiledAutomaton compilado = RegexCompiler.compile("\\(\\*\\u0020\\|").compile();
+        assertTrue(AutomatonSimulator.accepts(compilado, "(* |"));
+        assertFalse(AutomatonSimulator.accepts(compilado, "(*|"));
+    }
+}
@@ -0,0 +1,104 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A palavra em pedaços aleatórios, por cada tipo de entrada, tem de dar a cada pedaço o
+// mesmo resultado que o prefixo lido de uma vez
+class StreamingMatcherTest {
+
+    private static void alimentar(StreamingMatcher leitor, String pedaco, int tipo) {
+        switch (tipo) {
+            case 0:
+                leitor.feed(pedaco);
+                break;
+            case 1:
+                leitor.feed(CharBuffer.wrap(pedaco.toCharArray()));
+                break;
+            case 2:
+                leitor.feed(CharBuffer.wrap(pedaco)); // sem vetor por trás
+                break;
+            case 3:
+                leitor.feed(ByteBuffer.wrap(pedaco.getBytes(StandardCharsets.ISO_8859_1)));
+                break;
+            default:
+                ByteBuffer direto = ByteBuffer.allocateDirect(pedaco.length());
+                direto.put(pedaco.getBytes(StandardCharsets.ISO_8859_1)).flip();
+                leitor.feed(direto);
+        }
+    }
+
+    @Test
+    void pedacosConferemComOPrefixo() {
+        Random sorteio = new Random(101);
+        List<String> sufixos = ForcaBruta.palavras("abc", 3);
+        for (int i = 0; i < 200; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(10), 0.25);
+            // Capacidade mínima em metade dos casos, para passar pelas limpezas e pelo AFND
+            StreamingMatcher leitor = i % 2 == 0
+                    ? new StreamingMatcher(automato.compile(), 2)
+                    : new StreamingMatcher(automato.compile());
+            for (int palavra = 0; palavra < 20; palavra++) {
+                leitor.reset();
+                StringBuilder lido = new StringBuilder();
+                assertEquals(ForcaBruta.aceita(automato, ""), leitor.isAcceptingNow());
+                for (int pedacos = sorteio.nextInt(6); pedacos > 0; pedacos--) {
+                    StringBuilder pedaco = new StringBuilder();
+                    for (int j = sorteio.nextInt(4); j > 0; j--) {
+                        pedaco.append("abc".charAt(sorteio.nextInt(3)));
+                    }
+                    alimentar(leitor, pedaco.toString(), sorteio.nextInt(5));
+                    lido.append(pedaco);
+                    String prefixo = lido.toString();
+                    assertEquals(prefixo.length(), leitor.getPosition());
+                    assertEquals(ForcaBruta.aceita(automato, prefixo), leitor.isAcceptingNow(),
+                            "autômato " + i + " em \"" + prefixo + "\"");
+                    if (leitor.isDead()) {
+                        for (String sufixo : sufixos) {
+                            assertFalse(ForcaBruta.aceita(automato, prefixo + sufixo), prefixo + sufixo);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void leitoresECanaisLongos() throws IOException {
+        // (a|b)*a(a|b)^6 num texto de 200 mil caracteres, com cache pequeno
+        CompiledAutomaton automato = RegexCompiler.compile("(a|b)*a(a|b)(a|b)(a|b)(a|b)(a|b)(a|b)").compile();
+        Random sorteio = new Random(102);
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            texto.append(sorteio.nextBoolean() ? 'a' : 'b');
+        }
+        boolean esperado = texto.charAt(texto.length() - 7) == 'a';
+
+        StreamingMatcher leitor = new StreamingMatcher(automato, 8);
+        assertEquals(texto.length(), leitor.feed(new StringReader(texto.toString())));
+        assertEquals(esperado, leitor.isAcceptingNow());
+
+        leitor.reset();
+        byte[] bytes = texto.toString().getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(bytes.length, leitor.feed(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        assertEquals(esperado, leitor.isAcceptingNow());
+
+        // Um caractere fora do alfabeto mata a leitura e o canal para antes do fim
+        leitor.reset();
+        byte[] morto = ("c" + texto).getBytes(StandardCharsets.ISO_8859_1);
+        assertTrue(leitor.feed(Channels.newChannel(new ByteArrayInputStream(morto))) < morto.length);
+        assertTrue(leitor.isDead());
+        assertFalse(leitor.isAcceptingNow());
+    }
+}
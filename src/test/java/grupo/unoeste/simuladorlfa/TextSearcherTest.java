@@ -0,0 +1,94 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Ocorrências conferidas contra o teste de todo trecho texto[i, j) do texto
+class TextSearcherTest {
+
+    private static String texto(Random sorteio, String alfabeto, int tamanho) {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < tamanho; i++) {
+            texto.append(alfabeto.charAt(sorteio.nextInt(alfabeto.length())));
+        }
+        return texto.toString();
+    }
+
+    // Pares {início, fim} em ordem de início e depois de fim; trechos com mais de
+    // tamanhoMaximo caracteres não são testados
+    private static List<int[]> todas(CoreAutomaton automato, String texto, int tamanhoMaximo) {
+        List<int[]> resultado = new ArrayList<>();
+        for (int i = 0; i < texto.length(); i++) {
+            for (int j = i + 1; j <= Math.min(texto.length(), i + tamanhoMaximo); j++) {
+                if (ForcaBruta.aceita(automato, texto.substring(i, j))) resultado.add(new int[]{i, j});
+            }
+        }
+        return resultado;
+    }
+
+    // Como o grep -o: a mais longa a partir do início mais à esquerda, sem sobreposição
+    private static List<int[]> maisLongas(List<int[]> todas) {
+        List<int[]> resultado = new ArrayList<>();
+        int livre = 0;
+        for (int k = 0; k < todas.size(); k++) {
+            int[] par = todas.get(k);
+            if (par[0] < livre) continue;
+            int fim = par[1];
+            while (k + 1 < todas.size() && todas.get(k + 1)[0] == par[0]) fim = todas.get(++k)[1];
+            resultado.add(new int[]{par[0], fim});
+            livre = fim;
+        }
+        return resultado;
+    }
+
+    private static List<int[]> pares(TextSearcher.Matches ocorrencias) {
+        List<int[]> resultado = new ArrayList<>();
+        for (int i = 0; i < ocorrencias.getCount(); i++) {
+            resultado.add(new int[]{ocorrencias.getStart(i), ocorrencias.getEnd(i)});
+        }
+        return resultado;
+    }
+
+    private static void conferir(TextSearcher buscador, String texto, List<int[]> todas, String descricao) {
+        assertArrayEquals(todas.toArray(), pares(buscador.find(texto, TextSearcher.Mode.ALL)).toArray(), descricao);
+        assertArrayEquals(maisLongas(todas).toArray(),
+                pares(buscador.find(texto, TextSearcher.Mode.LEFTMOST_LONGEST)).toArray(), descricao);
+
+        TextSearcher.Matches bytes = new TextSearcher.Matches();
+        buscador.search(texto.getBytes(StandardCharsets.ISO_8859_1), TextSearcher.Mode.ALL, bytes);
+        assertArrayEquals(todas.toArray(), pares(bytes).toArray(), descricao);
+    }
+
+    @Test
+    void automatosAleatoriosConferemComTodosOsTrechos() {
+        Random sorteio = new Random(111);
+        for (int i = 0; i < 300; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(8), 0.25);
+            TextSearcher buscador = new TextSearcher(automato.compile());
+            // 'd' não está no alfabeto e corta as ocorrências
+            String texto = texto(sorteio, "abcd", sorteio.nextInt(30));
+            conferir(buscador, texto, todas(automato, texto, texto.length()), "autômato " + i + " em \"" + texto + "\"");
+        }
+    }
+
+    @Test
+    void linguagemFinitaUsaJanelasEmTextoLongo() {
+        Random sorteio = new Random(112);
+        String[] expressoes = {"ab(c|&)", "c(a|b)(a|b)", "b|ca", "a(b|c)a(a|c)"};
+        for (String expressao : expressoes) {
+            CoreAutomaton automato = RegexCompiler.compile(expressao);
+            TextSearcher buscador = new TextSearcher(automato.compile());
+            for (int t = 0; t < 5; t++) {
+                // Textos com o caractere obrigatório raro, para que as janelas fiquem separadas
+                String texto = texto(sorteio, t % 2 == 0 ? "abcd" : "aaaaaaaaaaaaaaaaaaaaaaaaaaaaabcdd", 20_000);
+                conferir(buscador, texto, todas(automato, texto, 4), expressao);
+            }
+        }
+    }
+}
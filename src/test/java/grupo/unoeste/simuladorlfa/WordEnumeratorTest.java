@@ -0,0 +1,53 @@
+package grupo.unoeste.simuladorlfa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A enumeração tem de dar exatamente as palavras aceitas de Σ^≤n, em ordem shortlex
+// (a ordem em que ForcaBruta.palavras já as gera)
+class WordEnumeratorTest {
+
+    @Test
+    void palavrasAteUmTamanhoConferemComOFiltro() {
+        Random sorteio = new Random(51);
+        for (int i = 0; i < 300; i++) {
+            CoreAutomaton automato = ForcaBruta.automato(sorteio, 1 + sorteio.nextInt(8), 0.25);
+            List<String> esperado = ForcaBruta.palavras("abc", 5).stream()
+                    .filter(w -> ForcaBruta.aceita(automato, w))
+                    .collect(Collectors.toList());
+            WordEnumerator enumerador = new WordEnumerator(automato.compile());
+            assertEquals(esperado, enumerador.wordsUpTo(5).collect(Collectors.toList()), "autômato " + i);
+
+            int k = sorteio.nextInt(esperado.size() + 1);
+            assertEquals(esperado.subList(0, k), enumerador.first(k), "autômato " + i);
+        }
+    }
+
+    @Test
+    void classesDeCaracteresSaoPercorridasEmOrdem() {
+        CompiledAutomaton automato = RegexCompiler.compile("[b-d]([^c]|x)").compile();
+        List<String> palavras = new WordEnumerator(automato).words().collect(Collectors.toList());
+        assertEquals(3 * 65535, palavras.size());
+        for (int i = 1; i < palavras.size(); i++) {
+            assertTrue(palavras.get(i - 1).compareTo(palavras.get(i)) < 0, palavras.get(i));
+        }
+        assertEquals("b" + (char) 0, palavras.get(0));
+        assertEquals("d" + (char) 0xFFFF, palavras.get(palavras.size() - 1));
+        assertFalse(palavras.contains("bc"));
+    }
+
+    @Test
+    void semFinalAlcancavelNaoHaPalavras() {
+        CoreAutomaton.Builder construtor = CoreAutomaton.builder();
+        construtor.addState("q0", 0, 0, true, false);
+        construtor.addState("q1", 0, 0, false, true);
+        construtor.addTransition(0, 0, "a,b");
+        construtor.addTransition(1, 0, "a");
+        assertEquals(0, new WordEnumerator(construtor.build().compile()).words().count());
+    }
+}